@@ -0,0 +1,84 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark.fixture;
+
+import io.shardingsphere.core.api.config.ShardingRuleConfiguration;
+import io.shardingsphere.core.api.config.TableRuleConfiguration;
+import io.shardingsphere.core.api.config.strategy.InlineShardingStrategyConfiguration;
+import io.shardingsphere.core.metadata.table.ColumnMetaData;
+import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import io.shardingsphere.core.metadata.table.TableMetaData;
+import io.shardingsphere.core.rule.ShardingRule;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sharding rules for benchmark.
+ * 
+ * <p>{@code t_order} and {@code t_order_item} are binding tables, {@code t_user} is sharded without binding for cartesian routing.</p>
+ * 
+ * <p>{@code t_log} is sharded for DDL cases in {@code sharding-sql-test}.</p>
+ * 
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BenchmarkShardingRules {
+    
+    /**
+     * Create sharding rule.
+     * 
+     * @return sharding rule
+     */
+    public static ShardingRule createShardingRule() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(createTableRuleConfiguration("t_order", "ds_${0..1}.t_order_${0..1}", "order_id", "t_order_${order_id % 2}"));
+        shardingRuleConfig.getTableRuleConfigs().add(createTableRuleConfiguration("t_order_item", "ds_${0..1}.t_order_item_${0..1}", "order_id", "t_order_item_${order_id % 2}"));
+        shardingRuleConfig.getTableRuleConfigs().add(createTableRuleConfiguration("t_user", "ds_${0..1}.t_user_${0..1}", "user_id", "t_user_${user_id % 2}"));
+        shardingRuleConfig.getTableRuleConfigs().add(createTableRuleConfiguration("t_log", "ds_${0..1}.t_log_${0..1}", "id", "t_log_${id % 2}"));
+        shardingRuleConfig.getBindingTableGroups().add("t_order, t_order_item");
+        shardingRuleConfig.setDefaultDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "ds_${user_id % 2}"));
+        return new ShardingRule(shardingRuleConfig, Arrays.asList("ds_0", "ds_1"));
+    }
+    
+    private static TableRuleConfiguration createTableRuleConfiguration(final String logicTable, final String actualDataNodes, final String shardingColumn, final String algorithmExpression) {
+        TableRuleConfiguration result = new TableRuleConfiguration();
+        result.setLogicTable(logicTable);
+        result.setActualDataNodes(actualDataNodes);
+        result.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration(shardingColumn, algorithmExpression));
+        return result;
+    }
+    
+    /**
+     * Create sharding table meta data.
+     * 
+     * @return sharding table meta data
+     */
+    public static ShardingTableMetaData createShardingTableMetaData() {
+        Map<String, TableMetaData> tableMetaDataMap = new HashMap<>(3, 1);
+        tableMetaDataMap.put("t_order", new TableMetaData(Arrays.asList(
+                new ColumnMetaData("order_id", "int", true), new ColumnMetaData("user_id", "int", false), new ColumnMetaData("status", "varchar", false))));
+        tableMetaDataMap.put("t_order_item", new TableMetaData(Arrays.asList(
+                new ColumnMetaData("item_id", "int", true), new ColumnMetaData("order_id", "int", false), new ColumnMetaData("user_id", "int", false))));
+        tableMetaDataMap.put("t_user", new TableMetaData(Arrays.asList(new ColumnMetaData("user_id", "int", true), new ColumnMetaData("user_name", "varchar", false))));
+        return new ShardingTableMetaData(tableMetaDataMap);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark.fixture;
+
+import io.shardingsphere.core.merger.QueryResult;
+
+import java.io.InputStream;
+import java.util.Calendar;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Synthetic query result which iterate rows prepared in memory.
+ * 
+ * @author zhangliang
+ */
+public final class SyntheticQueryResult implements QueryResult {
+    
+    private final List<String> columnLabels;
+    
+    private final Iterator<Object[]> rows;
+    
+    private Object[] currentRow;
+    
+    public SyntheticQueryResult(final List<String> columnLabels, final List<Object[]> rows) {
+        this.columnLabels = columnLabels;
+        this.rows = rows.iterator();
+    }
+    
+    @Override
+    public boolean next() {
+        if (rows.hasNext()) {
+            currentRow = rows.next();
+            return true;
+        }
+        currentRow = null;
+        return false;
+    }
+    
+    @Override
+    public int getColumnCount() {
+        return columnLabels.size();
+    }
+    
+    @Override
+    public String getColumnLabel(final int columnIndex) {
+        return columnLabels.get(columnIndex - 1);
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        return currentRow[columnIndex - 1];
+    }
+    
+    @Override
+    public Object getValue(final String columnLabel, final Class<?> type) {
+        return currentRow[columnLabels.indexOf(columnLabel)];
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return currentRow[columnIndex - 1];
+    }
+    
+    @Override
+    public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) {
+        return currentRow[columnLabels.indexOf(columnLabel)];
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) {
+        return (InputStream) currentRow[columnIndex - 1];
+    }
+    
+    @Override
+    public InputStream getInputStream(final String columnLabel, final String type) {
+        return (InputStream) currentRow[columnLabels.indexOf(columnLabel)];
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return null == currentRow;
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark.merger;
+
+import io.shardingsphere.benchmark.fixture.BenchmarkShardingRules;
+import io.shardingsphere.benchmark.fixture.SyntheticQueryResult;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.merger.MergeEngineFactory;
+import io.shardingsphere.core.merger.MergedResult;
+import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import io.shardingsphere.core.parsing.SQLParsingEngine;
+import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import io.shardingsphere.core.rule.ShardingRule;
+import io.shardingsphere.test.sql.SQLCaseType;
+import io.shardingsphere.test.sql.SQLCasesLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for merged results with synthetic query results.
+ * 
+ * <p>Each invocation merges and iterates all rows of query results from all shards.</p>
+ * 
+ * <p>SQL is loaded from SQL cases in {@code sharding-sql-test}, except {@code SHOW TABLES} which has no SQL case.</p>
+ * 
+ * @author zhangliang
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MergedResultBenchmark {
+    
+    private static final List<String> DQL_COLUMN_LABELS = Arrays.asList("order_id", "user_id", "status", "item_id", "orders_count", "orders_sum");
+    
+    @Param({"iterator", "orderBy", "groupByStream", "groupByMemory", "limit", "rowNumber", "topAndRowNumber", "showTables"})
+    private String mergeType;
+    
+    @Param({"4"})
+    private int shardCount;
+    
+    @Param({"1000"})
+    private int rowCountPerShard;
+    
+    private ShardingRule shardingRule;
+    
+    private ShardingTableMetaData shardingTableMetaData;
+    
+    private SQLStatement sqlStatement;
+    
+    private List<String> columnLabels;
+    
+    private final List<List<Object[]>> shardRows = new ArrayList<>();
+    
+    @Setup
+    public void setUp() {
+        shardingRule = BenchmarkShardingRules.createShardingRule();
+        shardingTableMetaData = BenchmarkShardingRules.createShardingTableMetaData();
+        DatabaseType databaseType = DatabaseType.MySQL;
+        String sql;
+        columnLabels = DQL_COLUMN_LABELS;
+        switch (mergeType) {
+            case "iterator":
+                sql = getSQL("select_equal_with_single_table", Arrays.asList(1, 1));
+                break;
+            case "orderBy":
+                sql = getSQL("select_order_by_with_star_no_table_alias", Collections.emptyList());
+                break;
+            case "groupByStream":
+                sql = getSQL("select_group_by_with_count", Collections.emptyList());
+                break;
+            case "groupByMemory":
+                sql = getSQL("select_group_by_with_order_by_desc", Collections.emptyList());
+                break;
+            case "limit":
+                sql = getSQL("select_pagination_with_limit_with_back_quotes", Arrays.asList(1, 2, 0, Integer.MAX_VALUE, 10, 100));
+                break;
+            case "rowNumber":
+                databaseType = DatabaseType.Oracle;
+                sql = getSQL("select_pagination_with_row_number_for_greater_than", Arrays.asList(1, 2, 0, Integer.MAX_VALUE, 110, 10));
+                columnLabels = Arrays.asList("order_id", "user_id", "status", "ORDER_BY_DERIVED_0", "orders_count", "orders_sum");
+                break;
+            case "topAndRowNumber":
+                databaseType = DatabaseType.SQLServer;
+                sql = getSQL("select_pagination_with_top_for_greater_than", Arrays.asList(110, 1, 2, 0, Integer.MAX_VALUE, 10));
+                break;
+            case "showTables":
+                sql = "SHOW TABLES";
+                columnLabels = Collections.singletonList("Tables_in_db");
+                break;
+            default:
+                throw new UnsupportedOperationException(mergeType);
+        }
+        sqlStatement = new SQLParsingEngine(databaseType, sql, shardingRule, shardingTableMetaData, null).parse(false);
+        for (int i = 0; i < shardCount; i++) {
+            shardRows.add(createRows(i));
+        }
+    }
+    
+    private String getSQL(final String sqlCaseId, final List<?> parameters) {
+        return SQLCasesLoader.getInstance().getSupportedSQL(sqlCaseId, SQLCaseType.Literal, parameters);
+    }
+    
+    private List<Object[]> createRows(final int shardIndex) {
+        List<Object[]> result = new ArrayList<>(rowCountPerShard);
+        for (int i = 0; i < rowCountPerShard; i++) {
+            int orderId = i * shardCount + shardIndex;
+            if ("showTables".equals(mergeType)) {
+                result.add(new Object[] {"t_order_" + orderId % 2});
+            } else {
+                result.add(new Object[] {orderId, orderId / 10, "status_" + orderId % 3, rowCountPerShard * shardCount - orderId, 1L, orderId});
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Merge query results and iterate all merged rows.
+     * 
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void merge(final Blackhole blackhole) throws SQLException {
+        List<QueryResult> queryResults = new ArrayList<>(shardCount);
+        for (List<Object[]> each : shardRows) {
+            queryResults.add(new SyntheticQueryResult(columnLabels, each));
+        }
+        MergedResult mergedResult = MergeEngineFactory.newInstance(shardingRule, queryResults, sqlStatement, shardingTableMetaData, 0).merge();
+        while (mergedResult.next()) {
+            blackhole.consume(mergedResult.getValue(1, Object.class));
+        }
+    }
+}
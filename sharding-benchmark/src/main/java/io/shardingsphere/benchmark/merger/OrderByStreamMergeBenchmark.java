@@ -0,0 +1,132 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark.merger;
+
+import io.shardingsphere.benchmark.fixture.SyntheticQueryResult;
+import io.shardingsphere.core.constant.OrderDirection;
+import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.merger.dql.orderby.OrderByStreamMergedResult;
+import io.shardingsphere.core.merger.dql.orderby.OrderByValue;
+import io.shardingsphere.core.parsing.parser.context.OrderItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for k-way merge of order by stream merged result.
+ * 
+ * <p>Compares the loser tree used by {@code OrderByStreamMergedResult} with a priority queue which polls and re-offers its head for every row.</p>
+ * 
+ * @author zhangliang
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderByStreamMergeBenchmark {
+    
+    private static final List<String> COLUMN_LABELS = Arrays.asList("order_id", "user_id");
+    
+    @Param({"loserTree", "priorityQueue"})
+    private String mergeType;
+    
+    @Param({"4", "64"})
+    private int shardCount;
+    
+    @Param({"1000"})
+    private int rowCountPerShard;
+    
+    private final List<OrderItem> orderByItems = Collections.singletonList(new OrderItem(1, OrderDirection.ASC, OrderDirection.ASC));
+    
+    private final List<List<Object[]>> shardRows = new ArrayList<>();
+    
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < shardCount; i++) {
+            List<Object[]> rows = new ArrayList<>(rowCountPerShard);
+            for (int j = 0; j < rowCountPerShard; j++) {
+                long orderId = (long) j * shardCount + i;
+                rows.add(new Object[] {orderId, (int) (orderId / 10)});
+            }
+            shardRows.add(rows);
+        }
+    }
+    
+    /**
+     * Merge query results and iterate all merged rows.
+     * 
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void merge(final Blackhole blackhole) throws SQLException {
+        List<QueryResult> queryResults = new ArrayList<>(shardCount);
+        for (List<Object[]> each : shardRows) {
+            queryResults.add(new SyntheticQueryResult(COLUMN_LABELS, each));
+        }
+        if ("loserTree".equals(mergeType)) {
+            mergeWithLoserTree(queryResults, blackhole);
+        } else {
+            mergeWithPriorityQueue(queryResults, blackhole);
+        }
+    }
+    
+    private void mergeWithLoserTree(final List<QueryResult> queryResults, final Blackhole blackhole) throws SQLException {
+        OrderByStreamMergedResult mergedResult = new OrderByStreamMergedResult(queryResults, orderByItems);
+        while (mergedResult.next()) {
+            blackhole.consume(mergedResult.getValue(1, Object.class));
+        }
+    }
+    
+    private void mergeWithPriorityQueue(final List<QueryResult> queryResults, final Blackhole blackhole) throws SQLException {
+        Queue<OrderByValue> orderByValuesQueue = new PriorityQueue<>(queryResults.size());
+        for (QueryResult each : queryResults) {
+            OrderByValue orderByValue = new OrderByValue(each, orderByItems);
+            if (orderByValue.next()) {
+                orderByValuesQueue.offer(orderByValue);
+            }
+        }
+        while (!orderByValuesQueue.isEmpty()) {
+            OrderByValue firstOrderByValue = orderByValuesQueue.poll();
+            blackhole.consume(firstOrderByValue.getQueryResult().getValue(1, Object.class));
+            if (firstOrderByValue.next()) {
+                orderByValuesQueue.offer(firstOrderByValue);
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark.parsing;
+
+import io.shardingsphere.benchmark.fixture.BenchmarkShardingRules;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import io.shardingsphere.core.parsing.SQLParsingEngine;
+import io.shardingsphere.core.rule.ShardingRule;
+import io.shardingsphere.test.sql.SQLCaseType;
+import io.shardingsphere.test.sql.SQLCasesLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for SQL parsing engine.
+ * 
+ * <p>Each invocation parses all supported SQL cases of the database type in {@code sharding-sql-test}.</p>
+ * 
+ * @author zhangliang
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SQLParsingEngineBenchmark {
+    
+    @Param({"MySQL", "PostgreSQL", "Oracle", "SQLServer", "H2"})
+    private DatabaseType databaseType;
+    
+    private ShardingRule shardingRule;
+    
+    private ShardingTableMetaData shardingTableMetaData;
+    
+    private final List<String> sqlList = new LinkedList<>();
+    
+    @Setup
+    public void setUp() {
+        shardingRule = BenchmarkShardingRules.createShardingRule();
+        shardingTableMetaData = BenchmarkShardingRules.createShardingTableMetaData();
+        SQLCasesLoader sqlCasesLoader = SQLCasesLoader.getInstance();
+        for (Object[] each : sqlCasesLoader.getSupportedSQLTestParameters(Arrays.asList(DatabaseType.values()), DatabaseType.class)) {
+            if (databaseType == each[1] && SQLCaseType.Placeholder == each[2]) {
+                sqlList.add(sqlCasesLoader.getSupportedSQL((String) each[0], SQLCaseType.Placeholder, Collections.emptyList()));
+            }
+        }
+    }
+    
+    /**
+     * Parse SQL cases.
+     * 
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    public void parse(final Blackhole blackhole) {
+        for (String each : sqlList) {
+            blackhole.consume(new SQLParsingEngine(databaseType, each, shardingRule, shardingTableMetaData, null).parse(false));
+        }
+    }
+}
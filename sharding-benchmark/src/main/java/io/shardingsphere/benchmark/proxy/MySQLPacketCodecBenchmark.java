@@ -0,0 +1,103 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark.proxy;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.shardingsphere.proxy.transport.mysql.codec.MySQLPacketCodec;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.text.TextResultSetRowPacket;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for encoding MySQL result set rows with packet codec.
+ * 
+ * <p>Each invocation writes all rows of a result set and flushes them once, either batched with void promise or written one by one.</p>
+ * 
+ * @author zhangliang
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MySQLPacketCodecBenchmark {
+    
+    @Param({"batched", "perRow"})
+    private String writeMode;
+    
+    @Param({"1000"})
+    private int rowCount;
+    
+    private EmbeddedChannel channel;
+    
+    private final List<TextResultSetRowPacket> rows = new ArrayList<>();
+    
+    @Setup
+    public void setUp() {
+        channel = new EmbeddedChannel(new MySQLPacketCodec());
+        for (int i = 0; i < rowCount; i++) {
+            rows.add(new TextResultSetRowPacket(i + 1, Arrays.<Object>asList(i, i / 10, "status_" + i % 3, null)));
+        }
+    }
+    
+    @TearDown
+    public void tearDown() {
+        channel.finishAndReleaseAll();
+    }
+    
+    /**
+     * Encode all rows and flush them to channel.
+     * 
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    public void encode(final Blackhole blackhole) {
+        boolean batched = "batched".equals(writeMode);
+        for (TextResultSetRowPacket each : rows) {
+            if (batched) {
+                channel.write(each, channel.voidPromise());
+            } else {
+                channel.write(each);
+            }
+        }
+        channel.flush();
+        ByteBuf each;
+        while (null != (each = channel.readOutbound())) {
+            blackhole.consume(each.readableBytes());
+            each.release();
+        }
+    }
+}
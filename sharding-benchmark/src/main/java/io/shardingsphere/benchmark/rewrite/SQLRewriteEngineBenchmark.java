@@ -0,0 +1,103 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark.rewrite;
+
+import com.google.common.base.CharMatcher;
+import io.shardingsphere.benchmark.fixture.BenchmarkShardingRules;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.optimizer.OptimizeEngineFactory;
+import io.shardingsphere.core.optimizer.condition.ShardingConditions;
+import io.shardingsphere.core.parsing.SQLParsingEngine;
+import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import io.shardingsphere.core.rewrite.SQLBuilder;
+import io.shardingsphere.core.rewrite.SQLRewriteEngine;
+import io.shardingsphere.core.routing.SQLUnit;
+import io.shardingsphere.core.routing.type.RoutingTable;
+import io.shardingsphere.core.routing.type.TableUnit;
+import io.shardingsphere.core.rule.ShardingRule;
+import io.shardingsphere.test.sql.SQLCaseType;
+import io.shardingsphere.test.sql.SQLCasesLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for SQL rewrite engine and SQL builder.
+ * 
+ * <p>SQL is loaded from SQL cases in {@code sharding-sql-test}, all parameters are {@code 1}.</p>
+ * 
+ * @author zhangliang
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SQLRewriteEngineBenchmark {
+    
+    @Param({"select_equal_with_single_table", "select_group_by_without_grouped_column"})
+    private String sqlCaseId;
+    
+    private String sql;
+    
+    private ShardingRule shardingRule;
+    
+    private List<Object> parameters;
+    
+    private SQLStatement sqlStatement;
+    
+    private ShardingConditions shardingConditions;
+    
+    private TableUnit tableUnit;
+    
+    @Setup
+    public void setUp() {
+        shardingRule = BenchmarkShardingRules.createShardingRule();
+        sql = SQLCasesLoader.getInstance().getSupportedSQL(sqlCaseId, SQLCaseType.Placeholder, Collections.emptyList());
+        parameters = Collections.<Object>nCopies(CharMatcher.is('?').countIn(sql), 1);
+        sqlStatement = new SQLParsingEngine(DatabaseType.MySQL, sql, shardingRule, BenchmarkShardingRules.createShardingTableMetaData(), null).parse(false);
+        shardingConditions = OptimizeEngineFactory.newInstance(shardingRule, sqlStatement, parameters, null).optimize();
+        tableUnit = new TableUnit("ds_1");
+        tableUnit.getRoutingTables().add(new RoutingTable("t_order", "t_order_1"));
+    }
+    
+    /**
+     * Rewrite SQL and generate SQL unit.
+     * 
+     * @return SQL unit
+     */
+    @Benchmark
+    public SQLUnit rewrite() {
+        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, sql, DatabaseType.MySQL, sqlStatement, shardingConditions, parameters);
+        SQLBuilder sqlBuilder = rewriteEngine.rewrite(false);
+        return rewriteEngine.generateSQL(tableUnit, sqlBuilder, null);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark.routing;
+
+import io.shardingsphere.benchmark.fixture.BenchmarkShardingRules;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
+import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import io.shardingsphere.core.routing.SQLRouteResult;
+import io.shardingsphere.core.routing.router.sharding.ParsingSQLRouter;
+import io.shardingsphere.core.rule.ShardingRule;
+import io.shardingsphere.test.sql.SQLCaseType;
+import io.shardingsphere.test.sql.SQLCasesLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for parsing SQL router with parsed SQL statement.
+ * 
+ * <p>SQL is loaded from SQL cases in {@code sharding-sql-test}, except cartesian routing which needs tables without binding relationship and has no SQL case.</p>
+ * 
+ * <p>Each invocation routes with a new router, so route plans cached by previous invocations are not reused.
+ * {@code singleShardWithRoutePlan} reuses one router to measure routing with cached route plan.</p>
+ * 
+ * @author zhangliang
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParsingSQLRouterBenchmark {
+    
+    @Param({"singleShard", "singleShardWithRoutePlan", "allShards", "broadcast", "cartesian"})
+    private String routingType;
+    
+    private ShardingRule shardingRule;
+    
+    private ShardingTableMetaData shardingTableMetaData;
+    
+    private ParsingResultCache parsingResultCache;
+    
+    private ParsingSQLRouter cachedParsingSQLRouter;
+    
+    private String sql;
+    
+    private List<Object> parameters;
+    
+    private SQLStatement sqlStatement;
+    
+    @Setup
+    public void setUp() {
+        shardingRule = BenchmarkShardingRules.createShardingRule();
+        shardingTableMetaData = BenchmarkShardingRules.createShardingTableMetaData();
+        parsingResultCache = new ParsingResultCache(1024);
+        switch (routingType) {
+            case "singleShard":
+                sql = getSQL("select_equal_with_single_table");
+                parameters = Arrays.<Object>asList(1, 1);
+                break;
+            case "singleShardWithRoutePlan":
+                cachedParsingSQLRouter = createParsingSQLRouter();
+                sql = getSQL("select_equal_with_single_table");
+                parameters = Arrays.<Object>asList(1, 1);
+                break;
+            case "allShards":
+                sql = getSQL("select_or_with_none_sharding_columns");
+                parameters = Arrays.<Object>asList(1, "init");
+                break;
+            case "broadcast":
+                sql = getSQL("create_table");
+                parameters = Collections.emptyList();
+                break;
+            case "cartesian":
+                sql = "SELECT o.order_id, u.user_name FROM t_order o JOIN t_user u ON o.user_id = u.user_id WHERE o.user_id = ?";
+                parameters = Collections.<Object>singletonList(1);
+                break;
+            default:
+                throw new UnsupportedOperationException(routingType);
+        }
+        sqlStatement = createParsingSQLRouter().parse(sql, false);
+    }
+    
+    private String getSQL(final String sqlCaseId) {
+        return SQLCasesLoader.getInstance().getSupportedSQL(sqlCaseId, SQLCaseType.Placeholder, Collections.emptyList());
+    }
+    
+    private ParsingSQLRouter createParsingSQLRouter() {
+        return new ParsingSQLRouter(shardingRule, shardingTableMetaData, DatabaseType.MySQL, false, null, parsingResultCache, 0);
+    }
+    
+    /**
+     * Route SQL.
+     * 
+     * @return SQL route result
+     */
+    @Benchmark
+    public SQLRouteResult route() {
+        ParsingSQLRouter parsingSQLRouter = null == cachedParsingSQLRouter ? createParsingSQLRouter() : cachedParsingSQLRouter;
+        return parsingSQLRouter.route(sql, parameters, sqlStatement);
+    }
+}
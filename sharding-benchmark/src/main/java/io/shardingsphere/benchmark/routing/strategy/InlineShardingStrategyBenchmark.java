@@ -0,0 +1,115 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.benchmark.routing.strategy;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import io.shardingsphere.core.api.algorithm.sharding.ListShardingValue;
+import io.shardingsphere.core.api.algorithm.sharding.ShardingValue;
+import io.shardingsphere.core.api.config.strategy.InlineShardingStrategyConfiguration;
+import io.shardingsphere.core.routing.strategy.inline.CompiledInlineExpression;
+import io.shardingsphere.core.routing.strategy.inline.InlineExpressionCompiler;
+import io.shardingsphere.core.routing.strategy.inline.InlineShardingStrategy;
+import io.shardingsphere.core.util.InlineExpressionParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for inline sharding strategy, compare compiled inline expression with groovy closure.
+ * 
+ * @author zhangliang
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InlineShardingStrategyBenchmark {
+    
+    private static final String COLUMN_NAME = "order_id";
+    
+    @Param({"t_order_${order_id % 16}", "ds_${order_id % 4}_t_${(order_id + 1) % 8}"})
+    private String algorithmExpression;
+    
+    private long orderId;
+    
+    private Closure<?> closure;
+    
+    private CompiledInlineExpression compiledInlineExpression;
+    
+    private InlineShardingStrategy inlineShardingStrategy;
+    
+    private Collection<String> availableTargetNames;
+    
+    @Setup
+    public void setUp() {
+        closure = new InlineExpressionParser(algorithmExpression).evaluateClosure();
+        compiledInlineExpression = new InlineExpressionCompiler(algorithmExpression).compile().get();
+        inlineShardingStrategy = new InlineShardingStrategy(new InlineShardingStrategyConfiguration(COLUMN_NAME, algorithmExpression));
+        availableTargetNames = Arrays.asList("t_order_0", "t_order_1");
+    }
+    
+    /**
+     * Evaluate with groovy closure, which is the route path before inline expression compiled.
+     * 
+     * @return sharding result
+     */
+    @Benchmark
+    public String groovyClosure() {
+        Closure<?> result = closure.rehydrate(new Expando(), null, null);
+        result.setResolveStrategy(Closure.DELEGATE_ONLY);
+        result.setProperty(COLUMN_NAME, orderId++);
+        return result.call().toString();
+    }
+    
+    /**
+     * Evaluate with compiled inline expression.
+     * 
+     * @return sharding result
+     */
+    @Benchmark
+    public String compiledInlineExpression() {
+        return compiledInlineExpression.evaluate(COLUMN_NAME, orderId++).get();
+    }
+    
+    /**
+     * Do sharding with inline sharding strategy.
+     * 
+     * @return sharding result
+     */
+    @Benchmark
+    public Collection<String> inlineShardingStrategy() {
+        ShardingValue shardingValue = new ListShardingValue<>("t_order", COLUMN_NAME, Collections.singletonList(orderId++));
+        return inlineShardingStrategy.doSharding(availableTargetNames, Collections.singletonList(shardingValue));
+    }
+}
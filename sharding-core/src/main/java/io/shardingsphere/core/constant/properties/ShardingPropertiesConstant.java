@@ -18,6 +18,7 @@
 package io.shardingsphere.core.constant.properties;
 
 import io.shardingsphere.core.constant.ConnectionMode;
+import io.shardingsphere.core.constant.ExecutorRejectedPolicy;
 import io.shardingsphere.core.constant.transaction.TransactionType;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -66,6 +67,39 @@ public enum ShardingPropertiesConstant {
      */
     EXECUTOR_SIZE("executor.size", String.valueOf(0), int.class),
     
+    /**
+     * Enable or Disable adaptive executor.
+     *
+     * <p>
+     * Adaptive executor isolates each data source in its own bounded thread pool,
+     * so a slow database can not exhaust threads used by the others.
+     * Worker thread max size of each data source is {@code executor.size}, or CPU cores * 2 if it is infinite.
+     * Default: false
+     * </p>
+     */
+    EXECUTOR_ADAPTIVE("executor.adaptive", Boolean.FALSE.toString(), boolean.class),
+    
+    /**
+     * Work queue size of each data source for adaptive executor.
+     *
+     * <p>
+     * Execute units beyond worker threads and this queue size are handled by {@code executor.rejected.policy}.
+     * Default: 1024.
+     * </p>
+     */
+    EXECUTOR_QUEUE_SIZE("executor.queue.size", String.valueOf(1024), int.class),
+    
+    /**
+     * Rejected policy of adaptive executor when the work queue of a data source is full.
+     *
+     * <p>
+     * CALLER_RUNS: execute the unit on the thread which executes SQL.
+     * ABORT: fail fast with rejected execution exception.
+     * Default: CALLER_RUNS.
+     * </p>
+     */
+    EXECUTOR_REJECTED_POLICY("executor.rejected.policy", ExecutorRejectedPolicy.CALLER_RUNS.name(), String.class),
+    
     /**
      * Connection mode of connected to databases.
      *
@@ -83,13 +117,77 @@ public enum ShardingPropertiesConstant {
      */
     CONNECTION_MODE("connection.mode", ConnectionMode.MEMORY_STRICTLY.name(), String.class),
     
+    /**
+     * Max entries of parsing result cache.
+     *
+     * <p>
+     * Parsed SQL statements of prepared statement are cached per sharding data source.
+     * Least recently used entries will be evicted when cache size exceeds this value.
+     * Default: 65535.
+     * </p>
+     */
+    PARSING_RESULT_CACHE_SIZE("parsing.result.cache.size", String.valueOf(65535), long.class),
+    
+    /**
+     * Max groups held in memory by group by memory merge.
+     *
+     * <p>
+     * Rows of groups beyond this budget are hash partitioned into temporary files,
+     * then aggregated partition by partition and merged with external sort.
+     * Default: 0, means unlimited.
+     * </p>
+     */
+    GROUP_BY_MEMORY_MERGE_BUDGET("group.by.memory.merge.budget", String.valueOf(0), int.class),
+    
+    /**
+     * Max rows of prepared statement batch held before executing.
+     *
+     * <p>
+     * Rows added beyond this size are flushed to databases in parallel as a sub batch,
+     * and the results of all sub batches are returned together by execute batch.
+     * Default: 0, means unlimited.
+     * </p>
+     */
+    MAX_BATCH_SIZE("max.batch.size", String.valueOf(0), int.class),
+    
+    /**
+     * Max value rows of each insert statement routed to a data node.
+     *
+     * <p>
+     * Value rows beyond this size are split into several insert statements,
+     * to avoid exceeding max packet size of databases.
+     * Default: 0, means unlimited.
+     * </p>
+     */
+    MAX_INSERT_VALUES_SIZE("max.insert.values.size", String.valueOf(0), int.class),
+    
     PROXY_TRANSACTION_MODE("proxy.transaction.mode", TransactionType.LOCAL.name(), String.class),
     
+    PROXY_FRONTEND_EXECUTOR_SIZE("proxy.frontend.executor.size", String.valueOf(Runtime.getRuntime().availableProcessors() * 2), int.class),
+    
+    PROXY_FRONTEND_MAX_PENDING_COMMANDS("proxy.frontend.max.pending.commands", String.valueOf(16), int.class),
+    
     PROXY_BACKEND_USE_NIO("proxy.backend.use.nio", Boolean.FALSE.toString(), boolean.class),
     
     PROXY_BACKEND_MAX_CONNECTIONS("proxy.backend.max.connections", 8 + "", int.class),
     
-    PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS("proxy.backend.connection.timeout.seconds", 60 + "", int.class);
+    PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS("proxy.backend.connection.timeout.seconds", 60 + "", int.class),
+    
+    /**
+     * Seconds to wait for all responses of a query executed by NIO backend.
+     *
+     * <p>
+     * Connection timeout only limits acquiring and authenticating backend connections.
+     * Default: 0, means waiting until responses received or connection closed.
+     * </p>
+     */
+    PROXY_BACKEND_QUERY_TIMEOUT_SECONDS("proxy.backend.query.timeout.seconds", String.valueOf(0), int.class),
+    
+    PROXY_BACKEND_SESSION_STICKY("proxy.backend.session.sticky", Boolean.FALSE.toString(), boolean.class),
+    
+    PROXY_BACKEND_SESSION_MAX_CONNECTIONS("proxy.backend.session.max.connections", String.valueOf(0), int.class),
+    
+    PROXY_BACKEND_SESSION_IDLE_TIMEOUT_SECONDS("proxy.backend.session.idle.timeout.seconds", 60 + "", int.class);
     
     private final String key;
     
@@ -46,13 +46,14 @@ public final class MergeEngineFactory {
      * @param queryResults query results
      * @param sqlStatement SQL statement
      * @param shardingTableMetaData sharding table meta Data
+     * @param groupByMemoryMergeBudget max groups held in memory by group by memory merge, 0 means unlimited
      * @return merge engine instance
      * @throws SQLException SQL exception
      */
     public static MergeEngine newInstance(final ShardingRule shardingRule, final List<QueryResult> queryResults,
-                                          final SQLStatement sqlStatement, final ShardingTableMetaData shardingTableMetaData) throws SQLException {
+                                          final SQLStatement sqlStatement, final ShardingTableMetaData shardingTableMetaData, final int groupByMemoryMergeBudget) throws SQLException {
         if (sqlStatement instanceof SelectStatement) {
-            return new DQLMergeEngine(queryResults, (SelectStatement) sqlStatement);
+            return new DQLMergeEngine(queryResults, (SelectStatement) sqlStatement, groupByMemoryMergeBudget);
         } 
         if (sqlStatement instanceof DALStatement) {
             return new DALMergeEngine(shardingRule, queryResults, (DALStatement) sqlStatement, shardingTableMetaData);
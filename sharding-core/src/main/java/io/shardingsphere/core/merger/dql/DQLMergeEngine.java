@@ -50,10 +50,17 @@ public final class DQLMergeEngine implements MergeEngine {
     
     private final Map<String, Integer> columnLabelIndexMap;
     
+    private final int groupByMemoryMergeBudget;
+    
     public DQLMergeEngine(final List<QueryResult> queryResults, final SelectStatement selectStatement) throws SQLException {
+        this(queryResults, selectStatement, 0);
+    }
+    
+    public DQLMergeEngine(final List<QueryResult> queryResults, final SelectStatement selectStatement, final int groupByMemoryMergeBudget) throws SQLException {
         this.queryResults = queryResults;
         this.selectStatement = selectStatement;
         columnLabelIndexMap = getColumnLabelIndexMap(queryResults.get(0));
+        this.groupByMemoryMergeBudget = groupByMemoryMergeBudget;
     }
     
     private Map<String, Integer> getColumnLabelIndexMap(final QueryResult queryResult) throws SQLException {
@@ -75,7 +82,7 @@ public final class DQLMergeEngine implements MergeEngine {
             if (selectStatement.isSameGroupByAndOrderByItems()) {
                 return new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatement);
             } else {
-                return new GroupByMemoryMergedResult(columnLabelIndexMap, queryResults, selectStatement);
+                return new GroupByMemoryMergedResult(columnLabelIndexMap, queryResults, selectStatement, groupByMemoryMergeBudget);
             }
         }
         if (!selectStatement.getOrderByItems().isEmpty()) {
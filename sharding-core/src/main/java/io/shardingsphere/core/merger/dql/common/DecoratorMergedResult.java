@@ -21,18 +21,22 @@ import io.shardingsphere.core.merger.MergedResult;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.io.InputStream;
 import java.sql.SQLException;
 import java.util.Calendar;
 
 /**
  * Decorator merged result.
+ * 
+ * <p>Decorated merged result is closed if it holds resources.</p>
  *
  * @author zhangliang
  */
 @RequiredArgsConstructor
 @Getter
-public abstract class DecoratorMergedResult implements MergedResult {
+public abstract class DecoratorMergedResult implements MergedResult, Closeable {
     
     private final MergedResult mergedResult;
         
@@ -70,4 +74,11 @@ public abstract class DecoratorMergedResult implements MergedResult {
     public final boolean wasNull() throws SQLException {
         return mergedResult.wasNull();
     }
+    
+    @Override
+    public final void close() throws IOException {
+        if (mergedResult instanceof Closeable) {
+            ((Closeable) mergedResult).close();
+        }
+    }
 }
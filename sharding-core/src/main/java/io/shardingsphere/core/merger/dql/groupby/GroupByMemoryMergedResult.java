@@ -19,58 +19,168 @@ package io.shardingsphere.core.merger.dql.groupby;
 
 import com.google.common.base.Function;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.hash.Hashing;
+import io.shardingsphere.core.exception.ShardingException;
 import io.shardingsphere.core.merger.QueryResult;
 import io.shardingsphere.core.merger.dql.common.MemoryMergedResult;
 import io.shardingsphere.core.merger.dql.common.MemoryQueryResultRow;
 import io.shardingsphere.core.merger.dql.groupby.aggregation.AggregationUnit;
 import io.shardingsphere.core.merger.dql.groupby.aggregation.AggregationUnitFactory;
+import io.shardingsphere.core.merger.dql.groupby.spill.SpillFileQueryResult;
+import io.shardingsphere.core.merger.dql.groupby.spill.SpillFileWriter;
+import io.shardingsphere.core.merger.dql.orderby.OrderByLoserTree;
+import io.shardingsphere.core.merger.dql.orderby.OrderByValue;
+import io.shardingsphere.core.merger.event.GroupBySpillEvent;
+import io.shardingsphere.core.parsing.parser.context.OrderItem;
 import io.shardingsphere.core.parsing.parser.context.selectitem.AggregationSelectItem;
 import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import io.shardingsphere.core.util.EventBusInstance;
+import lombok.extern.slf4j.Slf4j;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
 /**
  * Memory merged result for group by.
+ * 
+ * <p>
+ * If memory budget is set and the count of groups exceeds it, partial aggregated rows of groups in memory are hash partitioned into spill files.
+ * Every partition is aggregated again and written into a sorted run. Sorted runs are merged by loser tree at most merge fan-in runs at a time.
+ * Spill files are deleted after all rows read or merged result closed.
+ * </p>
  *
  * @author zhangliang
  */
-public final class GroupByMemoryMergedResult extends MemoryMergedResult {
+@Slf4j
+public final class GroupByMemoryMergedResult extends MemoryMergedResult implements Closeable {
+    
+    private static final int SPILL_PARTITION_COUNT = 16;
+    
+    private static final int MAX_SPILL_DEPTH = 3;
+    
+    private static final int MAX_MERGE_FAN_IN = 16;
     
     private final SelectStatement selectStatement;
     
-    private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
+    private final int memoryBudget;
+    
+    private final List<SpillFileWriter> spillFileWriters = new LinkedList<>();
+    
+    private final List<SpillFileQueryResult> spillFileQueryResults = new LinkedList<>();
+    
+    private List<String> columnLabels;
+    
+    private Iterator<MemoryQueryResultRow> memoryResultSetRows;
+    
+    private OrderByLoserTree sortedRuns;
     
     public GroupByMemoryMergedResult(
             final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults, final SelectStatement selectStatement) throws SQLException {
+        this(labelAndIndexMap, queryResults, selectStatement, 0);
+    }
+    
+    public GroupByMemoryMergedResult(final Map<String, Integer> labelAndIndexMap, 
+                                     final List<QueryResult> queryResults, final SelectStatement selectStatement, final int memoryBudget) throws SQLException {
         super(labelAndIndexMap);
         this.selectStatement = selectStatement;
-        memoryResultSetRows = init(queryResults);
+        this.memoryBudget = memoryBudget;
+        try {
+            init(queryResults);
+        } catch (final SQLException | RuntimeException ex) {
+            deleteSpillFiles();
+            throw ex;
+        }
+    }
+    
+    private void init(final List<QueryResult> queryResults) throws SQLException {
+        if (memoryBudget > 0) {
+            columnLabels = getColumnLabels(queryResults.get(0));
+        }
+        List<SpillFileQueryResult> spilledRuns = new LinkedList<>();
+        List<MemoryQueryResultRow> result = aggregate(queryResults, 0, spilledRuns);
+        if (spilledRuns.isEmpty()) {
+            if (!result.isEmpty()) {
+                setCurrentResultSetRow(result.get(0));
+            }
+            memoryResultSetRows = result.iterator();
+            return;
+        }
+        sortedRuns = createSortedRuns(spilledRuns);
+        if (!sortedRuns.isEmpty()) {
+            setCurrentResultSetRow(new MemoryQueryResultRow(sortedRuns.peek().getQueryResult()));
+        }
+        EventBusInstance.getInstance().post(createSpillEvent());
     }
     
-    private Iterator<MemoryQueryResultRow> init(final List<QueryResult> queryResults) throws SQLException {
+    private List<String> getColumnLabels(final QueryResult queryResult) throws SQLException {
+        List<String> result = new ArrayList<>(queryResult.getColumnCount());
+        for (int i = 1; i <= queryResult.getColumnCount(); i++) {
+            result.add(queryResult.getColumnLabel(i));
+        }
+        return result;
+    }
+    
+    private List<MemoryQueryResultRow> aggregate(final List<QueryResult> queryResults, final int depth, final List<SpillFileQueryResult> spilledRuns) throws SQLException {
         Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
         Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap = new HashMap<>(1024);
+        SpillFileWriter[] partitions = null;
         for (QueryResult each : queryResults) {
             while (each.next()) {
                 GroupByValue groupByValue = new GroupByValue(each, selectStatement.getGroupByItems());
+                if (isExceededMemoryBudget(groupByValue, dataMap, depth)) {
+                    if (null == partitions) {
+                        partitions = new SpillFileWriter[SPILL_PARTITION_COUNT];
+                    }
+                    spill(dataMap, aggregationMap, depth, partitions);
+                }
                 initForFirstGroupByValue(each, groupByValue, dataMap, aggregationMap);
                 aggregate(each, groupByValue, aggregationMap);
             }
         }
+        if (null == partitions) {
+            setAggregationValueToMemoryRow(dataMap, aggregationMap);
+            return getMemoryResultSetRows(dataMap);
+        }
+        spill(dataMap, aggregationMap, depth, partitions);
+        for (SpillFileWriter each : partitions) {
+            if (null != each) {
+                close(each);
+                List<MemoryQueryResultRow> partitionRows = aggregate(Collections.<QueryResult>singletonList(createSpillFileQueryResult(each)), depth + 1, spilledRuns);
+                if (!partitionRows.isEmpty()) {
+                    spilledRuns.add(writeSortedRun(partitionRows));
+                }
+            }
+        }
+        return Collections.emptyList();
+    }
+    
+    private boolean isExceededMemoryBudget(final GroupByValue groupByValue, final Map<GroupByValue, MemoryQueryResultRow> dataMap, final int depth) {
+        return memoryBudget > 0 && depth < MAX_SPILL_DEPTH && dataMap.size() >= memoryBudget && !dataMap.containsKey(groupByValue);
+    }
+    
+    private void spill(final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap, 
+                       final int depth, final SpillFileWriter[] partitions) {
         setAggregationValueToMemoryRow(dataMap, aggregationMap);
-        List<MemoryQueryResultRow> result = getMemoryResultSetRows(dataMap);
-        if (!result.isEmpty()) {
-            setCurrentResultSetRow(result.get(0));
+        for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
+            int partition = (Hashing.murmur3_32(depth).hashInt(entry.getKey().hashCode()).asInt() & Integer.MAX_VALUE) % SPILL_PARTITION_COUNT;
+            if (null == partitions[partition]) {
+                partitions[partition] = createSpillFileWriter();
+            }
+            write(partitions[partition], entry.getValue());
         }
-        return result.iterator();
+        dataMap.clear();
+        aggregationMap.clear();
     }
     
     private void initForFirstGroupByValue(final QueryResult queryResult, final GroupByValue groupByValue, final Map<GroupByValue, MemoryQueryResultRow> dataMap,
@@ -124,12 +234,147 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
         return result;
     }
     
+    private SpillFileQueryResult writeSortedRun(final List<MemoryQueryResultRow> rows) {
+        SpillFileWriter spillFileWriter = createSpillFileWriter();
+        for (MemoryQueryResultRow each : rows) {
+            write(spillFileWriter, each);
+        }
+        close(spillFileWriter);
+        return createSpillFileQueryResult(spillFileWriter);
+    }
+    
+    private SpillFileQueryResult createSpillFileQueryResult(final SpillFileWriter spillFileWriter) {
+        SpillFileQueryResult result = new SpillFileQueryResult(spillFileWriter, columnLabels);
+        spillFileQueryResults.add(result);
+        return result;
+    }
+    
+    private SpillFileWriter createSpillFileWriter() {
+        try {
+            SpillFileWriter result = new SpillFileWriter();
+            spillFileWriters.add(result);
+            return result;
+        } catch (final IOException ex) {
+            throw new ShardingException("Cannot create spill file for group by memory merge.", ex);
+        }
+    }
+    
+    private void write(final SpillFileWriter spillFileWriter, final MemoryQueryResultRow memoryQueryResultRow) {
+        Object[] row = new Object[columnLabels.size()];
+        for (int i = 0; i < row.length; i++) {
+            row[i] = memoryQueryResultRow.getCell(i + 1);
+        }
+        try {
+            spillFileWriter.write(row);
+        } catch (final IOException ex) {
+            throw new ShardingException(String.format("Cannot write spill file '%s'.", spillFileWriter.getFile()), ex);
+        }
+    }
+    
+    private void close(final SpillFileWriter spillFileWriter) {
+        try {
+            spillFileWriter.close();
+        } catch (final IOException ex) {
+            throw new ShardingException(String.format("Cannot close spill file '%s'.", spillFileWriter.getFile()), ex);
+        }
+    }
+    
+    private OrderByLoserTree createSortedRuns(final List<SpillFileQueryResult> spilledRuns) throws SQLException {
+        List<SpillFileQueryResult> result = spilledRuns;
+        while (result.size() > MAX_MERGE_FAN_IN) {
+            List<SpillFileQueryResult> mergedRuns = new LinkedList<>();
+            for (List<SpillFileQueryResult> each : Lists.partition(result, MAX_MERGE_FAN_IN)) {
+                mergedRuns.add(mergeSortedRuns(each));
+            }
+            result = mergedRuns;
+        }
+        return openSortedRuns(result);
+    }
+    
+    private SpillFileQueryResult mergeSortedRuns(final List<SpillFileQueryResult> runs) throws SQLException {
+        OrderByLoserTree sortedRuns = openSortedRuns(runs);
+        SpillFileWriter spillFileWriter = createSpillFileWriter();
+        while (!sortedRuns.isEmpty()) {
+            write(spillFileWriter, new MemoryQueryResultRow(sortedRuns.peek().getQueryResult()));
+            sortedRuns.next();
+        }
+        close(spillFileWriter);
+        return createSpillFileQueryResult(spillFileWriter);
+    }
+    
+    private OrderByLoserTree openSortedRuns(final List<SpillFileQueryResult> runs) throws SQLException {
+        List<OrderItem> orderItems = selectStatement.getOrderByItems().isEmpty() ? selectStatement.getGroupByItems() : selectStatement.getOrderByItems();
+        List<OrderByValue> result = new ArrayList<>(runs.size());
+        for (SpillFileQueryResult each : runs) {
+            OrderByValue orderByValue = new OrderByValue(each, orderItems);
+            if (orderByValue.next()) {
+                result.add(orderByValue);
+            }
+        }
+        return new OrderByLoserTree(result);
+    }
+    
+    private GroupBySpillEvent createSpillEvent() {
+        long spilledRowCount = 0;
+        long spilledBytes = 0;
+        for (SpillFileWriter each : spillFileWriters) {
+            spilledRowCount += each.getRowCount();
+            spilledBytes += each.getByteCount();
+        }
+        return new GroupBySpillEvent(spillFileWriters.size(), spilledRowCount, spilledBytes);
+    }
+    
     @Override
-    public boolean next() {
+    public boolean next() throws SQLException {
+        if (null != sortedRuns) {
+            return nextFromSortedRuns();
+        }
         if (memoryResultSetRows.hasNext()) {
             setCurrentResultSetRow(memoryResultSetRows.next());
             return true;
         }
         return false;
     }
+    
+    private boolean nextFromSortedRuns() throws SQLException {
+        if (sortedRuns.isEmpty()) {
+            deleteSpillFiles();
+            return false;
+        }
+        setCurrentResultSetRow(new MemoryQueryResultRow(sortedRuns.peek().getQueryResult()));
+        sortedRuns.next();
+        return true;
+    }
+    
+    /**
+     * Close spill files and delete them.
+     * 
+     * <p>Spill files are deleted after all rows read, close is only necessary if merged result is not read to the end.</p>
+     */
+    @Override
+    public void close() {
+        deleteSpillFiles();
+    }
+    
+    private void deleteSpillFiles() {
+        for (SpillFileQueryResult each : spillFileQueryResults) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                log.warn("Cannot close spill file query result of group by memory merge.", ex);
+            }
+        }
+        for (SpillFileWriter each : spillFileWriters) {
+            try {
+                each.close();
+            } catch (final IOException ex) {
+                log.warn(String.format("Cannot close spill file '%s'.", each.getFile()), ex);
+            }
+            if (!each.getFile().delete() && each.getFile().exists()) {
+                log.warn(String.format("Cannot delete spill file '%s'.", each.getFile()));
+            }
+        }
+        spillFileQueryResults.clear();
+        spillFileWriters.clear();
+    }
 }
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.groupby.spill;
+
+import com.google.common.io.CountingOutputStream;
+import lombok.Getter;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+
+/**
+ * Writer of spill file which holds rows of query result on disk.
+ * 
+ * <p>Spill file is not deleted on JVM exit, owner of writer must delete it.</p>
+ *
+ * @author zhangliang
+ */
+public final class SpillFileWriter implements Closeable {
+    
+    private static final int RESET_INTERVAL = 1024;
+    
+    @Getter
+    private final File file;
+    
+    private final CountingOutputStream countingOutputStream;
+    
+    private final ObjectOutputStream objectOutputStream;
+    
+    @Getter
+    private int rowCount;
+    
+    public SpillFileWriter() throws IOException {
+        file = File.createTempFile("sharding-sphere-merge-", ".spill");
+        countingOutputStream = new CountingOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+        objectOutputStream = new ObjectOutputStream(countingOutputStream);
+    }
+    
+    /**
+     * Write row.
+     * 
+     * @param row cells of row
+     * @throws IOException IO exception
+     */
+    public void write(final Object[] row) throws IOException {
+        objectOutputStream.writeObject(row);
+        rowCount++;
+        if (0 == rowCount % RESET_INTERVAL) {
+            objectOutputStream.reset();
+        }
+    }
+    
+    /**
+     * Get written bytes.
+     * 
+     * @return written bytes
+     */
+    public long getByteCount() {
+        return countingOutputStream.getCount();
+    }
+    
+    @Override
+    public void close() throws IOException {
+        objectOutputStream.close();
+    }
+}
@@ -49,6 +49,26 @@ public final class CompareUtil {
         if (null == otherValue) {
             return orderDirection == nullOrderDirection ? 1 : -1;
         }
-        return OrderDirection.ASC == orderDirection ? thisValue.compareTo(otherValue) : -thisValue.compareTo(otherValue);
+        int result = compareTo(thisValue, otherValue);
+        return OrderDirection.ASC == orderDirection ? result : -result;
+    }
+    
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static int compareTo(final Comparable thisValue, final Comparable otherValue) {
+        if (isIntegral(thisValue) && isIntegral(otherValue)) {
+            return Long.compare(((Number) thisValue).longValue(), ((Number) otherValue).longValue());
+        }
+        if (isFloatingPoint(thisValue) && isFloatingPoint(otherValue)) {
+            return Double.compare(((Number) thisValue).doubleValue(), ((Number) otherValue).doubleValue());
+        }
+        return thisValue.compareTo(otherValue);
+    }
+    
+    private static boolean isIntegral(final Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+    
+    private static boolean isFloatingPoint(final Object value) {
+        return value instanceof Double || value instanceof Float;
     }
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Loser tree for merging order by values.
+ * 
+ * <p>Each leaf is an order by value of one query result, the winner is the smallest one. 
+ * Advancing the winner only replays the path from its leaf to the root, which costs log(n) comparisons and no allocation.
+ * Equal order by values are taken in the order they were advanced.</p>
+ *
+ * @author zhangliang
+ */
+public final class OrderByLoserTree {
+    
+    private final OrderByValue[] orderByValues;
+    
+    private final boolean[] exhausted;
+    
+    private final long[] advancedSequences;
+    
+    private final int[] tree;
+    
+    private long sequence;
+    
+    private int remaining;
+    
+    public OrderByLoserTree(final List<OrderByValue> orderByValues) {
+        this.orderByValues = orderByValues.toArray(new OrderByValue[orderByValues.size()]);
+        exhausted = new boolean[orderByValues.size()];
+        advancedSequences = new long[orderByValues.size()];
+        for (int i = 0; i < advancedSequences.length; i++) {
+            advancedSequences[i] = i;
+        }
+        sequence = advancedSequences.length;
+        tree = new int[orderByValues.size()];
+        remaining = orderByValues.size();
+        if (0 != remaining) {
+            tree[0] = play(1);
+        }
+    }
+    
+    private int play(final int node) {
+        if (node >= orderByValues.length) {
+            return node - orderByValues.length;
+        }
+        int left = play(node << 1);
+        int right = play((node << 1) + 1);
+        if (beats(left, right)) {
+            tree[node] = right;
+            return left;
+        }
+        tree[node] = left;
+        return right;
+    }
+    
+    private boolean beats(final int leaf, final int otherLeaf) {
+        if (exhausted[leaf]) {
+            return false;
+        }
+        if (exhausted[otherLeaf]) {
+            return true;
+        }
+        int result = orderByValues[leaf].compareTo(orderByValues[otherLeaf]);
+        return result < 0 || 0 == result && advancedSequences[leaf] < advancedSequences[otherLeaf];
+    }
+    
+    /**
+     * Judge whether all order by values are exhausted.
+     * 
+     * @return all order by values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == remaining;
+    }
+    
+    /**
+     * Get current winner.
+     * 
+     * @return order by value with the smallest order values
+     */
+    public OrderByValue peek() {
+        return orderByValues[tree[0]];
+    }
+    
+    /**
+     * Iterate winner to its next data and replay the tree.
+     * 
+     * @throws SQLException SQL exception
+     */
+    public void next() throws SQLException {
+        int leaf = tree[0];
+        if (!orderByValues[leaf].next()) {
+            exhausted[leaf] = true;
+            remaining--;
+        }
+        advancedSequences[leaf] = sequence++;
+        for (int node = (leaf + orderByValues.length) >> 1; node > 0; node >>= 1) {
+            if (beats(tree[node], leaf)) {
+                int winner = tree[node];
+                tree[node] = leaf;
+                leaf = winner;
+            }
+        }
+        tree[0] = leaf;
+    }
+}
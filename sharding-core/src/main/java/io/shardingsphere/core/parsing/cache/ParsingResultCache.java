@@ -17,32 +17,24 @@
 
 package io.shardingsphere.core.parsing.cache;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
-import lombok.AccessLevel;
-import lombok.NoArgsConstructor;
-
-import java.util.Map;
-import java.util.WeakHashMap;
 
 /**
  * Parsing result cache.
+ * 
+ * <p>Cache is bounded by maximum size and evicts least recently used entries, one instance should be held by one sharding data source.</p>
  *
  * @author zhangliang
  */
-@NoArgsConstructor(access = AccessLevel.NONE)
 public final class ParsingResultCache {
     
-    private static final ParsingResultCache INSTANCE = new ParsingResultCache();
-    
-    private final Map<String, SQLStatement> cache = new WeakHashMap<>(65535, 1);
+    private final Cache<String, SQLStatement> cache;
     
-    /**
-     * Get parsing result cache instance.
-     * 
-     * @return parsing result cache instance
-     */
-    public static ParsingResultCache getInstance() {
-        return INSTANCE;
+    public ParsingResultCache(final long maximumSize) {
+        cache = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
     }
     
     /**
@@ -62,13 +54,33 @@ public final class ParsingResultCache {
      * @return SQL statement
      */
     public SQLStatement getSQLStatement(final String sql) {
-        return cache.get(sql);
+        return cache.getIfPresent(sql);
+    }
+    
+    /**
+     * Get statistics of cache.
+     * 
+     * <p>Statistics include hit count, miss count and eviction count.</p>
+     *
+     * @return statistics of cache
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+    
+    /**
+     * Get approximate size of cache.
+     *
+     * @return approximate size of cache
+     */
+    public long size() {
+        return cache.size();
     }
     
     /**
      * Clear cache.
      */
-    public synchronized void clear() {
-        cache.clear();
+    public void clear() {
+        cache.invalidateAll();
     }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.parsing.cache;
+
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.parsing.lexer.LexerEngine;
+import io.shardingsphere.core.parsing.lexer.LexerEngineFactory;
+import io.shardingsphere.core.parsing.lexer.token.Symbol;
+import io.shardingsphere.core.parsing.lexer.token.Token;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL fingerprint.
+ * 
+ * <p>Fingerprint is SQL which literals replaced with placeholders, literals are extracted as parameters.</p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class SQLFingerprint {
+    
+    private final DatabaseType databaseType;
+    
+    @Getter
+    private final String sql;
+    
+    @Getter
+    private final List<Object> parameters;
+    
+    private final Map<Object, String> literals;
+    
+    /**
+     * Restore placeholders of SQL with original literals.
+     * 
+     * @param actualSQL actual SQL rewrote from fingerprint
+     * @param actualParameters parameters of actual SQL
+     * @return SQL with literals
+     */
+    public String restore(final String actualSQL, final List<Object> actualParameters) {
+        if (actualParameters.isEmpty()) {
+            return actualSQL;
+        }
+        StringBuilder result = new StringBuilder(actualSQL.length() + actualParameters.size() * 8);
+        Iterator<Object> parameters = actualParameters.iterator();
+        LexerEngine lexerEngine = LexerEngineFactory.newInstance(databaseType, actualSQL);
+        int position = 0;
+        lexerEngine.nextToken();
+        while (!lexerEngine.isEnd()) {
+            Token token = lexerEngine.getCurrentToken();
+            if (Symbol.QUESTION == token.getType()) {
+                result.append(actualSQL, position, token.getEndPosition() - 1).append(getLiterals(parameters.next()));
+                position = token.getEndPosition();
+            }
+            lexerEngine.nextToken();
+        }
+        result.append(actualSQL, position, actualSQL.length());
+        return result.toString();
+    }
+    
+    private String getLiterals(final Object parameter) {
+        String result = literals.get(parameter);
+        if (null != result) {
+            return result;
+        }
+        return parameter instanceof String ? "'" + ((String) parameter).replace("'", "''") + "'" : String.valueOf(parameter);
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.parsing.cache;
+
+import com.google.common.base.Optional;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.parsing.lexer.LexerEngine;
+import io.shardingsphere.core.parsing.lexer.LexerEngineFactory;
+import io.shardingsphere.core.parsing.lexer.analyzer.CharType;
+import io.shardingsphere.core.parsing.lexer.token.DefaultKeyword;
+import io.shardingsphere.core.parsing.lexer.token.Literals;
+import io.shardingsphere.core.parsing.lexer.token.Symbol;
+import io.shardingsphere.core.parsing.lexer.token.Token;
+import io.shardingsphere.core.parsing.lexer.token.TokenType;
+import io.shardingsphere.core.util.NumberUtil;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL fingerprint engine.
+ * 
+ * <p>
+ * Replace literals of predicates and insert values with placeholders, 
+ * literals of select items, group by, order by and limit will not be replaced because they may affect result set or merge.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class SQLFingerprintEngine {
+    
+    private final DatabaseType databaseType;
+    
+    private final String sql;
+    
+    private final StringBuilder fingerprint = new StringBuilder();
+    
+    private final List<Object> parameters = new ArrayList<>();
+    
+    private final Map<Object, String> literals = new IdentityHashMap<>();
+    
+    private final Deque<Boolean> predicateScopes = new LinkedList<>();
+    
+    private boolean predicateScope;
+    
+    private int depth;
+    
+    private int inListDepth = -1;
+    
+    private int valuesDepth = -1;
+    
+    private TokenType previousTokenType;
+    
+    private boolean betweenPending;
+    
+    private int position;
+    
+    /**
+     * Generate SQL fingerprint.
+     * 
+     * @return SQL fingerprint, absent if SQL contains placeholder already
+     */
+    public Optional<SQLFingerprint> generate() {
+        LexerEngine lexerEngine = LexerEngineFactory.newInstance(databaseType, sql);
+        lexerEngine.nextToken();
+        while (!lexerEngine.isEnd()) {
+            Token token = lexerEngine.getCurrentToken();
+            if (Symbol.QUESTION == token.getType()) {
+                return Optional.absent();
+            }
+            if (isNormalizable(token)) {
+                normalize(token);
+            } else {
+                processScope(token.getType());
+            }
+            previousTokenType = token.getType();
+            lexerEngine.nextToken();
+        }
+        fingerprint.append(sql, position, sql.length());
+        return Optional.of(new SQLFingerprint(databaseType, fingerprint.toString(), parameters, literals));
+    }
+    
+    private boolean isNormalizable(final Token token) {
+        if (!isLiterals(token)) {
+            return false;
+        }
+        if (predicateScope && (isComparison(previousTokenType) || DefaultKeyword.BETWEEN == previousTokenType || DefaultKeyword.AND == previousTokenType && betweenPending)) {
+            return true;
+        }
+        return isListElement(inListDepth) && predicateScope || isListElement(valuesDepth + 1) && -1 != valuesDepth;
+    }
+    
+    private boolean isLiterals(final Token token) {
+        if (Literals.INT == token.getType() || Literals.FLOAT == token.getType()) {
+            return true;
+        }
+        if (Literals.CHARS != token.getType() || token.getLiterals().indexOf('\\') >= 0) {
+            return false;
+        }
+        int beginPosition = getBeginPosition(token);
+        return '\'' == sql.charAt(beginPosition) && (0 == beginPosition || !CharType.isAlphabet(sql.charAt(beginPosition - 1)) && '_' != sql.charAt(beginPosition - 1));
+    }
+    
+    private boolean isComparison(final TokenType tokenType) {
+        return Symbol.EQ == tokenType || Symbol.LT == tokenType || Symbol.GT == tokenType || Symbol.LT_EQ == tokenType || Symbol.GT_EQ == tokenType
+                || Symbol.LT_GT == tokenType || Symbol.BANG_EQ == tokenType || Symbol.LT_EQ_GT == tokenType;
+    }
+    
+    private boolean isListElement(final int listDepth) {
+        return depth == listDepth && (Symbol.LEFT_PAREN == previousTokenType || Symbol.COMMA == previousTokenType);
+    }
+    
+    private void normalize(final Token token) {
+        Object parameter = getParameter(token);
+        int beginPosition = getBeginPosition(token);
+        fingerprint.append(sql, position, beginPosition).append(Symbol.QUESTION.getLiterals());
+        parameters.add(parameter);
+        literals.put(parameter, sql.substring(beginPosition, token.getEndPosition()));
+        position = token.getEndPosition();
+        betweenPending = DefaultKeyword.BETWEEN == previousTokenType;
+    }
+    
+    private Object getParameter(final Token token) {
+        if (Literals.INT == token.getType()) {
+            return NumberUtil.getExactlyNumber(token.getLiterals(), 10);
+        }
+        if (Literals.FLOAT == token.getType()) {
+            return Double.parseDouble(token.getLiterals());
+        }
+        return token.getLiterals();
+    }
+    
+    private int getBeginPosition(final Token token) {
+        return Literals.CHARS == token.getType() ? token.getEndPosition() - token.getLiterals().length() - 2 : token.getEndPosition() - token.getLiterals().length();
+    }
+    
+    private void processScope(final TokenType tokenType) {
+        betweenPending = betweenPending && DefaultKeyword.AND == tokenType;
+        if (Symbol.LEFT_PAREN == tokenType) {
+            predicateScopes.push(predicateScope);
+            depth++;
+            if (DefaultKeyword.IN == previousTokenType) {
+                inListDepth = depth;
+            }
+            return;
+        }
+        if (Symbol.RIGHT_PAREN == tokenType) {
+            if (!predicateScopes.isEmpty()) {
+                predicateScope = predicateScopes.pop();
+            }
+            if (inListDepth == depth) {
+                inListDepth = -1;
+            }
+            depth--;
+            return;
+        }
+        if (DefaultKeyword.VALUES == tokenType) {
+            valuesDepth = depth;
+            return;
+        }
+        if (depth == valuesDepth && Symbol.COMMA != tokenType) {
+            valuesDepth = -1;
+        }
+        if (DefaultKeyword.WHERE == tokenType || DefaultKeyword.ON == tokenType || DefaultKeyword.SET == tokenType) {
+            predicateScope = true;
+        } else if (DefaultKeyword.SELECT == tokenType || DefaultKeyword.FROM == tokenType || DefaultKeyword.GROUP == tokenType || DefaultKeyword.ORDER == tokenType
+                || DefaultKeyword.HAVING == tokenType || DefaultKeyword.DUPLICATE == tokenType || DefaultKeyword.UNION == tokenType) {
+            predicateScope = false;
+        }
+    }
+}
@@ -18,6 +18,7 @@
 package io.shardingsphere.core.rewrite;
 
 import com.google.common.base.Strings;
+import com.google.common.collect.Lists;
 import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
 import io.shardingsphere.core.optimizer.condition.ShardingCondition;
 import io.shardingsphere.core.optimizer.insert.InsertShardingCondition;
@@ -33,6 +34,7 @@ import io.shardingsphere.core.rule.ShardingRule;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -52,6 +54,10 @@ public final class SQLBuilder {
     
     private StringBuilder currentSegment;
     
+    private InsertValuesPlaceholder insertValuesPlaceholder;
+    
+    private Map<DataNode, List<InsertShardingCondition>> insertValuesByDataNode;
+    
     public SQLBuilder() {
         this(Collections.emptyList());
     }
@@ -79,6 +85,9 @@ public final class SQLBuilder {
      */
     public void appendPlaceholder(final ShardingPlaceholder shardingPlaceholder) {
         segments.add(shardingPlaceholder);
+        if (shardingPlaceholder instanceof InsertValuesPlaceholder) {
+            insertValuesPlaceholder = (InsertValuesPlaceholder) shardingPlaceholder;
+        }
         currentSegment = new StringBuilder();
         segments.add(currentSegment);
     }
@@ -93,8 +102,39 @@ public final class SQLBuilder {
      * @return SQL unit
      */
     public SQLUnit toSQL(final TableUnit tableUnit, final Map<String, String> logicAndActualTableMap, final ShardingRule shardingRule, final ShardingDataSourceMetaData shardingDataSourceMetaData) {
+        return toSQL(tableUnit, logicAndActualTableMap, shardingRule, shardingDataSourceMetaData, getInsertValues(tableUnit), 0);
+    }
+    
+    /**
+     * Convert to SQL units.
+     * 
+     * <p>Insert values routed to table unit are split into several SQL units if more than max insert values size, each SQL unit has its own split index.</p>
+     *
+     * @param tableUnit table unit
+     * @param logicAndActualTableMap logic and actual map
+     * @param shardingRule sharding rule
+     * @param shardingDataSourceMetaData sharding data source meta data
+     * @param maxInsertValuesSize max insert values size of each SQL unit, 0 means unlimited
+     * @return SQL units
+     */
+    public List<SQLUnit> toSQLs(final TableUnit tableUnit, final Map<String, String> logicAndActualTableMap, final ShardingRule shardingRule, 
+                                final ShardingDataSourceMetaData shardingDataSourceMetaData, final int maxInsertValuesSize) {
+        List<InsertShardingCondition> insertValues = getInsertValues(tableUnit);
+        if (0 >= maxInsertValuesSize || insertValues.size() <= maxInsertValuesSize) {
+            return Collections.singletonList(toSQL(tableUnit, logicAndActualTableMap, shardingRule, shardingDataSourceMetaData, insertValues, 0));
+        }
+        List<List<InsertShardingCondition>> partitionedInsertValues = Lists.partition(insertValues, maxInsertValuesSize);
+        List<SQLUnit> result = new ArrayList<>(partitionedInsertValues.size());
+        for (int i = 0; i < partitionedInsertValues.size(); i++) {
+            result.add(toSQL(tableUnit, logicAndActualTableMap, shardingRule, shardingDataSourceMetaData, partitionedInsertValues.get(i), i));
+        }
+        return result;
+    }
+    
+    private SQLUnit toSQL(final TableUnit tableUnit, final Map<String, String> logicAndActualTableMap, final ShardingRule shardingRule, 
+                          final ShardingDataSourceMetaData shardingDataSourceMetaData, final List<InsertShardingCondition> insertValues, final int splitIndex) {
         StringBuilder result = new StringBuilder();
-        List<Object> insertParameters = new LinkedList<>();
+        List<Object> insertParameters = new ArrayList<>(getParametersCount(insertValues));
         for (Object each : segments) {
             if (!(each instanceof ShardingPlaceholder)) {
                 result.append(each);
@@ -109,13 +149,48 @@ public final class SQLBuilder {
             } else if (each instanceof IndexPlaceholder) {
                 appendIndexPlaceholder((IndexPlaceholder) each, actualTableName, result);
             } else if (each instanceof InsertValuesPlaceholder) {
-                appendInsertValuesPlaceholder(tableUnit, insertParameters, (InsertValuesPlaceholder) each, result);
+                appendInsertValuesPlaceholder(insertValues, insertParameters, result);
             } else {
                 result.append(each);
             }
         }
         List<List<Object>> parameterSets = insertParameters.isEmpty() ? new ArrayList<>(Collections.singleton(parameters)) : new ArrayList<>(Collections.singleton(insertParameters));
-        return new SQLUnit(result.toString(), parameterSets);
+        return new SQLUnit(result.toString(), parameterSets, splitIndex);
+    }
+    
+    private List<InsertShardingCondition> getInsertValues(final TableUnit tableUnit) {
+        if (null == insertValuesPlaceholder) {
+            return Collections.emptyList();
+        }
+        if (null == insertValuesByDataNode) {
+            insertValuesByDataNode = getInsertValuesByDataNode(insertValuesPlaceholder);
+        }
+        List<InsertShardingCondition> result = insertValuesByDataNode.get(new DataNode(tableUnit.getDataSourceName(), tableUnit.getRoutingTables().iterator().next().getActualTableName()));
+        return null == result ? Collections.<InsertShardingCondition>emptyList() : result;
+    }
+    
+    private Map<DataNode, List<InsertShardingCondition>> getInsertValuesByDataNode(final InsertValuesPlaceholder insertValuesPlaceholder) {
+        Map<DataNode, List<InsertShardingCondition>> result = new HashMap<>();
+        for (ShardingCondition each : insertValuesPlaceholder.getShardingConditions().getShardingConditions()) {
+            InsertShardingCondition insertShardingCondition = (InsertShardingCondition) each;
+            for (DataNode dataNode : insertShardingCondition.getDataNodes()) {
+                List<InsertShardingCondition> insertValues = result.get(dataNode);
+                if (null == insertValues) {
+                    insertValues = new ArrayList<>();
+                    result.put(dataNode, insertValues);
+                }
+                insertValues.add(insertShardingCondition);
+            }
+        }
+        return result;
+    }
+    
+    private int getParametersCount(final List<InsertShardingCondition> insertValues) {
+        int result = 0;
+        for (InsertShardingCondition each : insertValues) {
+            result += each.getParameters().size();
+        }
+        return result;
     }
     
     private void appendTablePlaceholder(final TablePlaceholder tablePlaceholder, final String actualTableName, final StringBuilder stringBuilder) {
@@ -142,28 +217,20 @@ public final class SQLBuilder {
         }
     }
     
-    private void appendInsertValuesPlaceholder(final TableUnit tableUnit, final List<Object> parameters, final InsertValuesPlaceholder insertValuesPlaceholder, final StringBuilder stringBuilder) {
-        List<String> expressions = new LinkedList<>();
-        for (ShardingCondition each : insertValuesPlaceholder.getShardingConditions().getShardingConditions()) {
-            processInsertShardingCondition(tableUnit, (InsertShardingCondition) each, expressions, parameters);
+    private void appendInsertValuesPlaceholder(final List<InsertShardingCondition> insertValues, final List<Object> parameters, final StringBuilder stringBuilder) {
+        int length = 0;
+        for (InsertShardingCondition each : insertValues) {
+            length += each.getInsertValueExpression().length() + 2;
         }
+        stringBuilder.ensureCapacity(stringBuilder.length() + length);
         int count = 0;
-        for (String each : expressions) {
+        for (InsertShardingCondition each : insertValues) {
             if (0 != count) {
                 stringBuilder.append(", ");
             }
-            stringBuilder.append(each);
+            stringBuilder.append(each.getInsertValueExpression());
+            parameters.addAll(each.getParameters());
             count++;
         }
     }
-    
-    private void processInsertShardingCondition(final TableUnit tableUnit, final InsertShardingCondition shardingCondition, final List<String> expressions, final List<Object> parameters) {
-        for (DataNode each : shardingCondition.getDataNodes()) {
-            if (each.getDataSourceName().equals(tableUnit.getDataSourceName()) && each.getTableName().equals(tableUnit.getRoutingTables().iterator().next().getActualTableName())) {
-                expressions.add(shardingCondition.getInsertValueExpression());
-                parameters.addAll(shardingCondition.getParameters());
-                return;
-            }
-        }
-    }
 }
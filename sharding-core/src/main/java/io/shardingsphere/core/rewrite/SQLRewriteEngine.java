@@ -255,6 +255,19 @@ public final class SQLRewriteEngine {
     public SQLUnit generateSQL(final TableUnit tableUnit, final SQLBuilder sqlBuilder, final ShardingDataSourceMetaData shardingDataSourceMetaData) {
         return sqlBuilder.toSQL(tableUnit, getTableTokens(tableUnit), shardingRule, shardingDataSourceMetaData);
     }
+    
+    /**
+     * Generate SQL strings, split insert values by max insert values size.
+     * 
+     * @param tableUnit route table unit
+     * @param sqlBuilder SQL builder
+     * @param shardingDataSourceMetaData sharding data source meta data
+     * @param maxInsertValuesSize max insert values size of each SQL unit, 0 means unlimited
+     * @return SQL units
+     */
+    public List<SQLUnit> generateSQLs(final TableUnit tableUnit, final SQLBuilder sqlBuilder, final ShardingDataSourceMetaData shardingDataSourceMetaData, final int maxInsertValuesSize) {
+        return sqlBuilder.toSQLs(tableUnit, getTableTokens(tableUnit), shardingRule, shardingDataSourceMetaData, maxInsertValuesSize);
+    }
    
     private Map<String, String> getTableTokens(final TableUnit tableUnit) {
         Map<String, String> result = new HashMap<>();
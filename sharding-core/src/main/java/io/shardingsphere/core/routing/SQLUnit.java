@@ -26,16 +26,24 @@ import java.util.List;
 
 /**
  * SQL unit.
+ * 
+ * <p>Split index distinguishes insert SQL units split by max insert values size, which may render same SQL.</p>
  *
  * @author maxiaoguang
  */
 @RequiredArgsConstructor
 @Getter
-@EqualsAndHashCode(of = { "sql" })
+@EqualsAndHashCode(of = { "sql", "splitIndex" })
 @ToString
 public final class SQLUnit {
     
     private final String sql;
     
     private final List<List<Object>> parameterSets;
+    
+    private final int splitIndex;
+    
+    public SQLUnit(final String sql, final List<List<Object>> parameterSets) {
+        this(sql, parameterSets, 0);
+    }
 }
@@ -17,16 +17,25 @@
 
 package io.shardingsphere.core.routing;
 
+import com.google.common.base.Optional;
 import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.exception.ShardingException;
+import io.shardingsphere.core.hint.HintManagerHolder;
 import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
+import io.shardingsphere.core.parsing.cache.SQLFingerprint;
+import io.shardingsphere.core.parsing.cache.SQLFingerprintEngine;
 import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
 import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
 import io.shardingsphere.core.routing.router.masterslave.ShardingMasterSlaveRouter;
 import io.shardingsphere.core.routing.router.sharding.ShardingRouter;
 import io.shardingsphere.core.routing.router.sharding.ShardingRouterFactory;
 import io.shardingsphere.core.rule.ShardingRule;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
 /**
  * Statement routing engine.
@@ -36,24 +45,75 @@ import java.util.Collections;
  */
 public final class StatementRoutingEngine {
     
+    private final DatabaseType databaseType;
+    
+    private final ParsingResultCache parsingResultCache;
+    
     private final ShardingRouter shardingRouter;
     
     private final ShardingMasterSlaveRouter masterSlaveRouter;
     
     public StatementRoutingEngine(final ShardingRule shardingRule, final ShardingTableMetaData shardingTableMetaData,
-                                  final DatabaseType databaseType, final boolean showSQL, final ShardingDataSourceMetaData shardingDataSourceMetaData) {
-        shardingRouter = ShardingRouterFactory.createSQLRouter(shardingRule, shardingTableMetaData, databaseType, showSQL, shardingDataSourceMetaData);
+                                  final DatabaseType databaseType, final boolean showSQL, final ShardingDataSourceMetaData shardingDataSourceMetaData, 
+                                  final ParsingResultCache parsingResultCache, final int maxInsertValuesSize) {
+        this.databaseType = databaseType;
+        this.parsingResultCache = parsingResultCache;
+        shardingRouter = ShardingRouterFactory.createSQLRouter(shardingRule, shardingTableMetaData, databaseType, showSQL, shardingDataSourceMetaData, parsingResultCache, maxInsertValuesSize);
         masterSlaveRouter = new ShardingMasterSlaveRouter(shardingRule.getMasterSlaveRules());
     }
     
     /**
      * SQL route.
+     * 
+     * <p>Literals of SQL will be extracted as parameters, SQL only different with literals will reuse same parsed result.</p>
      *
      * @param logicSQL logic SQL
      * @return route result
      */
     public SQLRouteResult route(final String logicSQL) {
+        Optional<SQLFingerprint> sqlFingerprint = HintManagerHolder.isDatabaseShardingOnly() ? Optional.<SQLFingerprint>absent() : new SQLFingerprintEngine(databaseType, logicSQL).generate();
+        if (sqlFingerprint.isPresent()) {
+            Optional<SQLStatement> sqlStatement = getSQLStatement(sqlFingerprint.get());
+            if (sqlStatement.isPresent()) {
+                SQLRouteResult sqlRouteResult = shardingRouter.route(sqlFingerprint.get().getSql(), sqlFingerprint.get().getParameters(), sqlStatement.get());
+                return masterSlaveRouter.route(restore(sqlFingerprint.get(), sqlRouteResult));
+            }
+        }
         SQLStatement sqlStatement = shardingRouter.parse(logicSQL, false);
         return masterSlaveRouter.route(shardingRouter.route(logicSQL, Collections.emptyList(), sqlStatement));
     }
+    
+    private Optional<SQLStatement> getSQLStatement(final SQLFingerprint sqlFingerprint) {
+        SQLStatement result = parsingResultCache.getSQLStatement(sqlFingerprint.getSql());
+        if (null != result) {
+            return isReusable(result, sqlFingerprint) ? Optional.of(result) : Optional.<SQLStatement>absent();
+        }
+        try {
+            result = shardingRouter.parse(sqlFingerprint.getSql(), false);
+        } catch (final ShardingException ex) {
+            return Optional.absent();
+        }
+        if (!isReusable(result, sqlFingerprint)) {
+            return Optional.absent();
+        }
+        parsingResultCache.put(sqlFingerprint.getSql(), result);
+        return Optional.of(result);
+    }
+    
+    private boolean isReusable(final SQLStatement sqlStatement, final SQLFingerprint sqlFingerprint) {
+        if (sqlStatement instanceof SelectStatement && null != ((SelectStatement) sqlStatement).getLimit()) {
+            return false;
+        }
+        return sqlStatement.getParametersIndex() == sqlFingerprint.getParameters().size();
+    }
+    
+    private SQLRouteResult restore(final SQLFingerprint sqlFingerprint, final SQLRouteResult sqlRouteResult) {
+        SQLRouteResult result = new SQLRouteResult(sqlRouteResult.getSqlStatement(), sqlRouteResult.getGeneratedKey());
+        for (SQLExecutionUnit each : sqlRouteResult.getExecutionUnits()) {
+            String sql = sqlFingerprint.restore(each.getSqlUnit().getSql(), each.getSqlUnit().getParameterSets().get(0));
+            List<List<Object>> parameterSets = new ArrayList<>(Collections.singleton(Collections.emptyList()));
+            result.getExecutionUnits().add(new SQLExecutionUnit(each.getDataSource(), new SQLUnit(sql, parameterSets)));
+        }
+        return result;
+    }
 }
@@ -18,8 +18,8 @@
 package io.shardingsphere.core.routing.router.sharding;
 
 import io.shardingsphere.core.parsing.parser.context.condition.Column;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 import java.util.LinkedList;
 import java.util.List;
@@ -30,11 +30,15 @@ import java.util.List;
  * @author zhangliang
  * @author maxiaoguang
  */
-@RequiredArgsConstructor
+@AllArgsConstructor
 @Getter
 public final class GeneratedKey {
     
     private final Column column;
     
-    private final List<Number> generatedKeys = new LinkedList<>();
+    private final List<Number> generatedKeys;
+    
+    public GeneratedKey(final Column column) {
+        this(column, new LinkedList<Number>());
+    }
 }
@@ -22,7 +22,9 @@ import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
 import io.shardingsphere.core.optimizer.OptimizeEngineFactory;
 import io.shardingsphere.core.optimizer.condition.ShardingConditions;
+import io.shardingsphere.core.optimizer.insert.InsertShardingCondition;
 import io.shardingsphere.core.parsing.SQLParsingEngine;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
 import io.shardingsphere.core.parsing.parser.context.condition.Column;
 import io.shardingsphere.core.parsing.parser.context.condition.GeneratedKeyCondition;
 import io.shardingsphere.core.parsing.parser.dialect.mysql.statement.ShowDatabasesStatement;
@@ -32,15 +34,19 @@ import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
 import io.shardingsphere.core.parsing.parser.sql.dal.DALStatement;
 import io.shardingsphere.core.parsing.parser.sql.dcl.DCLStatement;
 import io.shardingsphere.core.parsing.parser.sql.ddl.DDLStatement;
+import io.shardingsphere.core.parsing.parser.sql.dml.DMLStatement;
 import io.shardingsphere.core.parsing.parser.sql.dml.insert.InsertStatement;
+import io.shardingsphere.core.parsing.parser.sql.dql.DQLStatement;
 import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
 import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
 import io.shardingsphere.core.rewrite.SQLBuilder;
 import io.shardingsphere.core.rewrite.SQLRewriteEngine;
 import io.shardingsphere.core.routing.SQLExecutionUnit;
 import io.shardingsphere.core.routing.SQLRouteResult;
+import io.shardingsphere.core.routing.SQLUnit;
 import io.shardingsphere.core.routing.type.RoutingEngine;
 import io.shardingsphere.core.routing.type.RoutingResult;
+import io.shardingsphere.core.routing.type.RoutingTable;
 import io.shardingsphere.core.routing.type.TableUnit;
 import io.shardingsphere.core.routing.type.broadcast.DatabaseBroadcastRoutingEngine;
 import io.shardingsphere.core.routing.type.broadcast.InstanceBroadcastRoutingEngine;
@@ -49,14 +55,19 @@ import io.shardingsphere.core.routing.type.complex.ComplexRoutingEngine;
 import io.shardingsphere.core.routing.type.ignore.IgnoreRoutingEngine;
 import io.shardingsphere.core.routing.type.standard.StandardRoutingEngine;
 import io.shardingsphere.core.routing.type.unicast.UnicastRoutingEngine;
+import io.shardingsphere.core.rule.DataNode;
 import io.shardingsphere.core.rule.ShardingRule;
 import io.shardingsphere.core.rule.TableRule;
 import io.shardingsphere.core.util.SQLLogger;
 import lombok.RequiredArgsConstructor;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Sharding router with parse.
@@ -80,9 +91,15 @@ public final class ParsingSQLRouter implements ShardingRouter {
     
     private final ShardingDataSourceMetaData shardingDataSourceMetaData;
     
+    private final ParsingResultCache parsingResultCache;
+    
+    private final int maxInsertValuesSize;
+    
+    private final Map<DataNode, String> routePlans = new HashMap<>();
+    
     @Override
     public SQLStatement parse(final String logicSQL, final boolean useCache) {
-        return new SQLParsingEngine(databaseType, logicSQL, shardingRule, shardingTableMetaData).parse(useCache);
+        return new SQLParsingEngine(databaseType, logicSQL, shardingRule, shardingTableMetaData, parsingResultCache).parse(useCache);
     }
     
     @Override
@@ -91,20 +108,28 @@ public final class ParsingSQLRouter implements ShardingRouter {
         if (sqlStatement instanceof InsertStatement) {
             generatedKey = getGenerateKey(shardingRule, (InsertStatement) sqlStatement, parameters);
         }
-        SQLRouteResult result = new SQLRouteResult(sqlStatement, generatedKey);
         ShardingConditions shardingConditions = OptimizeEngineFactory.newInstance(shardingRule, sqlStatement, parameters, generatedKey).optimize();
-        if (null != generatedKey) {
-            setGeneratedKeys(result, generatedKey);
-        }
+        SQLRouteResult result = new SQLRouteResult(sqlStatement, null == generatedKey ? null : getAccumulatedGeneratedKey(generatedKey));
         RoutingResult routingResult = route(sqlStatement, shardingConditions);
-        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, logicSQL, databaseType, sqlStatement, shardingConditions, parameters);
         boolean isSingleRouting = routingResult.isSingleRouting();
         if (sqlStatement instanceof SelectStatement && null != ((SelectStatement) sqlStatement).getLimit()) {
             processLimit(parameters, (SelectStatement) sqlStatement, isSingleRouting);
         }
-        SQLBuilder sqlBuilder = rewriteEngine.rewrite(!isSingleRouting);
-        for (TableUnit each : routingResult.getTableUnits().getTableUnits()) {
-            result.getExecutionUnits().add(new SQLExecutionUnit(each.getDataSourceName(), rewriteEngine.generateSQL(each, sqlBuilder, shardingDataSourceMetaData)));
+        Optional<DataNode> routedDataNode = findRoutePlanDataNode(sqlStatement, parameters, routingResult);
+        if (routedDataNode.isPresent() && routePlans.containsKey(routedDataNode.get())) {
+            List<List<Object>> parameterSets = new ArrayList<>(Collections.singleton(getRoutePlanParameters(sqlStatement, parameters, shardingConditions)));
+            result.getExecutionUnits().add(new SQLExecutionUnit(routedDataNode.get().getDataSourceName(), new SQLUnit(routePlans.get(routedDataNode.get()), parameterSets)));
+        } else {
+            SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, logicSQL, databaseType, sqlStatement, shardingConditions, parameters);
+            SQLBuilder sqlBuilder = rewriteEngine.rewrite(!isSingleRouting);
+            for (TableUnit each : routingResult.getTableUnits().getTableUnits()) {
+                for (SQLUnit sqlUnit : rewriteEngine.generateSQLs(each, sqlBuilder, shardingDataSourceMetaData, maxInsertValuesSize)) {
+                    result.getExecutionUnits().add(new SQLExecutionUnit(each.getDataSourceName(), sqlUnit));
+                }
+            }
+            if (routedDataNode.isPresent()) {
+                routePlans.put(routedDataNode.get(), result.getExecutionUnits().iterator().next().getSqlUnit().getSql());
+            }
         }
         if (showSQL) {
             SQLLogger.logSQL(logicSQL, sqlStatement, result.getExecutionUnits());
@@ -140,6 +165,25 @@ public final class ParsingSQLRouter implements ShardingRouter {
         return routingEngine.route();
     }
     
+    private Optional<DataNode> findRoutePlanDataNode(final SQLStatement sqlStatement, final List<Object> parameters, final RoutingResult routingResult) {
+        if (!(sqlStatement instanceof DQLStatement || sqlStatement instanceof DMLStatement) || !routingResult.isSingleRouting()) {
+            return Optional.absent();
+        }
+        if (sqlStatement instanceof InsertStatement && (parameters.isEmpty() || 1 != ((InsertStatement) sqlStatement).getInsertValues().getInsertValues().size())) {
+            return Optional.absent();
+        }
+        TableUnit tableUnit = routingResult.getTableUnits().getTableUnits().get(0);
+        if (1 != tableUnit.getRoutingTables().size()) {
+            return Optional.absent();
+        }
+        RoutingTable routingTable = tableUnit.getRoutingTables().get(0);
+        return Optional.of(new DataNode(tableUnit.getDataSourceName(), routingTable.getActualTableName()));
+    }
+    
+    private List<Object> getRoutePlanParameters(final SQLStatement sqlStatement, final List<Object> parameters, final ShardingConditions shardingConditions) {
+        return sqlStatement instanceof InsertStatement ? ((InsertShardingCondition) shardingConditions.getShardingConditions().get(0)).getParameters() : parameters;
+    }
+    
     private GeneratedKey getGenerateKey(final ShardingRule shardingRule, final InsertStatement insertStatement, final List<Object> parameters) {
         GeneratedKey result = null;
         if (-1 != insertStatement.getGenerateKeyColumnIndex()) {
@@ -170,10 +214,9 @@ public final class ParsingSQLRouter implements ShardingRouter {
         return result;
     }
     
-    private void setGeneratedKeys(final SQLRouteResult sqlRouteResult, final GeneratedKey generatedKey) {
+    private GeneratedKey getAccumulatedGeneratedKey(final GeneratedKey generatedKey) {
         generatedKeys.addAll(generatedKey.getGeneratedKeys());
-        sqlRouteResult.getGeneratedKey().getGeneratedKeys().clear();
-        sqlRouteResult.getGeneratedKey().getGeneratedKeys().addAll(generatedKeys);
+        return new GeneratedKey(generatedKey.getColumn(), generatedKeys);
     }
     
     private void processLimit(final List<Object> parameters, final SelectStatement selectStatement, final boolean isSingleRouting) {
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.strategy.inline;
+
+import com.google.common.base.Optional;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Compiled inline expression.
+ * 
+ * <p>Evaluate integer arithmetic of inline expression without groovy, the result is same as groovy with {@code Integer} and {@code Long} sharding value.</p>
+ * 
+ * @author zhangliang
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class CompiledInlineExpression {
+    
+    private final String columnName;
+    
+    private final List<String> literals;
+    
+    private final List<ArithmeticNode> arithmeticNodes;
+    
+    /**
+     * Evaluate inline expression.
+     * 
+     * @param columnName column name of sharding value
+     * @param value sharding value
+     * @return evaluated result, absent if column name or type of value is unsupported
+     */
+    public Optional<String> evaluate(final String columnName, final Comparable<?> value) {
+        if (!arithmeticNodes.isEmpty() && !this.columnName.equals(columnName)) {
+            return Optional.absent();
+        }
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return Optional.of(evaluate(((Number) value).longValue(), value instanceof Long));
+        }
+        if (value instanceof String && isColumnOnly()) {
+            return Optional.of(evaluate((String) value));
+        }
+        return Optional.absent();
+    }
+    
+    private boolean isColumnOnly() {
+        for (ArithmeticNode each : arithmeticNodes) {
+            if (!(each instanceof ColumnNode)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private String evaluate(final long value, final boolean isLongValue) {
+        StringBuilder result = new StringBuilder(literals.get(0));
+        for (int i = 0; i < arithmeticNodes.size(); i++) {
+            result.append(arithmeticNodes.get(i).evaluate(value, isLongValue)).append(literals.get(i + 1));
+        }
+        return result.toString();
+    }
+    
+    private String evaluate(final String value) {
+        StringBuilder result = new StringBuilder(literals.get(0));
+        for (int i = 0; i < arithmeticNodes.size(); i++) {
+            result.append(value).append(literals.get(i + 1));
+        }
+        return result.toString();
+    }
+    
+    interface ArithmeticNode {
+        
+        long evaluate(long value, boolean isLongValue);
+        
+        boolean isLong(boolean isLongValue);
+    }
+    
+    static final class ColumnNode implements ArithmeticNode {
+        
+        @Override
+        public long evaluate(final long value, final boolean isLongValue) {
+            return value;
+        }
+        
+        @Override
+        public boolean isLong(final boolean isLongValue) {
+            return isLongValue;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    static final class ConstantNode implements ArithmeticNode {
+        
+        private final long value;
+        
+        @Override
+        public long evaluate(final long value, final boolean isLongValue) {
+            return this.value;
+        }
+        
+        @Override
+        public boolean isLong(final boolean isLongValue) {
+            return value > Integer.MAX_VALUE || value < Integer.MIN_VALUE;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    static final class BinaryNode implements ArithmeticNode {
+        
+        private final char operator;
+        
+        private final ArithmeticNode left;
+        
+        private final ArithmeticNode right;
+        
+        @Override
+        public long evaluate(final long value, final boolean isLongValue) {
+            long leftValue = left.evaluate(value, isLongValue);
+            long rightValue = right.evaluate(value, isLongValue);
+            long result;
+            switch (operator) {
+                case '+':
+                    result = leftValue + rightValue;
+                    break;
+                case '-':
+                    result = leftValue - rightValue;
+                    break;
+                case '*':
+                    result = leftValue * rightValue;
+                    break;
+                case '%':
+                    result = leftValue % rightValue;
+                    break;
+                default:
+                    throw new UnsupportedOperationException(String.valueOf(operator));
+            }
+            return isLong(isLongValue) ? result : (int) result;
+        }
+        
+        @Override
+        public boolean isLong(final boolean isLongValue) {
+            return left.isLong(isLongValue) || right.isLong(isLongValue);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.strategy.inline;
+
+import com.google.common.base.Optional;
+import io.shardingsphere.core.routing.strategy.inline.CompiledInlineExpression.ArithmeticNode;
+import io.shardingsphere.core.routing.strategy.inline.CompiledInlineExpression.BinaryNode;
+import io.shardingsphere.core.routing.strategy.inline.CompiledInlineExpression.ColumnNode;
+import io.shardingsphere.core.routing.strategy.inline.CompiledInlineExpression.ConstantNode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Inline expression compiler.
+ * 
+ * <p>Only compile literals with placeholders of integer arithmetic such as {@code t_order_${order_id % 2}}, 
+ * which support sharding column, integer constants, parentheses and {@code + - * %} operators.
+ * Other expressions should be evaluated by groovy.</p>
+ * 
+ * @author zhangliang
+ */
+public final class InlineExpressionCompiler {
+    
+    private final String inlineExpression;
+    
+    private final List<String> literals = new ArrayList<>();
+    
+    private final List<ArithmeticNode> arithmeticNodes = new ArrayList<>();
+    
+    private String columnName;
+    
+    private int position;
+    
+    public InlineExpressionCompiler(final String inlineExpression) {
+        this.inlineExpression = inlineExpression;
+    }
+    
+    /**
+     * Compile inline expression.
+     * 
+     * @return compiled inline expression, absent if expression is unsupported
+     */
+    public Optional<CompiledInlineExpression> compile() {
+        StringBuilder literal = new StringBuilder();
+        while (position < inlineExpression.length()) {
+            char each = inlineExpression.charAt(position);
+            if ('"' == each || '\\' == each) {
+                return Optional.absent();
+            }
+            if ('$' != each) {
+                literal.append(each);
+                position++;
+                continue;
+            }
+            if (!isChar(position + 1, '{')) {
+                return Optional.absent();
+            }
+            position += 2;
+            literals.add(literal.toString());
+            literal.setLength(0);
+            Optional<ArithmeticNode> arithmeticNode = parseExpression();
+            skipWhitespace();
+            if (!arithmeticNode.isPresent() || !isChar(position, '}')) {
+                return Optional.absent();
+            }
+            arithmeticNodes.add(arithmeticNode.get());
+            position++;
+        }
+        literals.add(literal.toString());
+        return Optional.of(new CompiledInlineExpression(columnName, literals, arithmeticNodes));
+    }
+    
+    private Optional<ArithmeticNode> parseExpression() {
+        Optional<ArithmeticNode> result = parseTerm();
+        skipWhitespace();
+        while (result.isPresent() && (isChar(position, '+') || isChar(position, '-'))) {
+            char operator = inlineExpression.charAt(position++);
+            Optional<ArithmeticNode> right = parseTerm();
+            result = right.isPresent() ? Optional.<ArithmeticNode>of(new BinaryNode(operator, result.get(), right.get())) : Optional.<ArithmeticNode>absent();
+            skipWhitespace();
+        }
+        return result;
+    }
+    
+    private Optional<ArithmeticNode> parseTerm() {
+        Optional<ArithmeticNode> result = parseFactor();
+        skipWhitespace();
+        while (result.isPresent() && (isChar(position, '*') || isChar(position, '%'))) {
+            char operator = inlineExpression.charAt(position++);
+            Optional<ArithmeticNode> right = parseFactor();
+            result = right.isPresent() ? Optional.<ArithmeticNode>of(new BinaryNode(operator, result.get(), right.get())) : Optional.<ArithmeticNode>absent();
+            skipWhitespace();
+        }
+        return result;
+    }
+    
+    private Optional<ArithmeticNode> parseFactor() {
+        skipWhitespace();
+        if (position >= inlineExpression.length()) {
+            return Optional.absent();
+        }
+        char each = inlineExpression.charAt(position);
+        if ('(' == each) {
+            position++;
+            Optional<ArithmeticNode> result = parseExpression();
+            skipWhitespace();
+            if (!isChar(position, ')')) {
+                return Optional.absent();
+            }
+            position++;
+            return result;
+        }
+        if (Character.isDigit(each)) {
+            return parseConstant();
+        }
+        if (Character.isJavaIdentifierStart(each) && '$' != each) {
+            return parseColumn();
+        }
+        return Optional.absent();
+    }
+    
+    private Optional<ArithmeticNode> parseConstant() {
+        int begin = position;
+        while (position < inlineExpression.length() && Character.isDigit(inlineExpression.charAt(position))) {
+            position++;
+        }
+        if (position < inlineExpression.length() && (Character.isJavaIdentifierPart(inlineExpression.charAt(position)) || '.' == inlineExpression.charAt(position))) {
+            return Optional.absent();
+        }
+        String literal = inlineExpression.substring(begin, position);
+        if ('0' == literal.charAt(0) && literal.length() > 1) {
+            return Optional.absent();
+        }
+        try {
+            return Optional.<ArithmeticNode>of(new ConstantNode(Long.parseLong(literal)));
+        } catch (final NumberFormatException ex) {
+            return Optional.absent();
+        }
+    }
+    
+    private Optional<ArithmeticNode> parseColumn() {
+        int begin = position;
+        while (position < inlineExpression.length() && Character.isJavaIdentifierPart(inlineExpression.charAt(position)) && '$' != inlineExpression.charAt(position)) {
+            position++;
+        }
+        String identifier = inlineExpression.substring(begin, position);
+        skipWhitespace();
+        if (isChar(position, '.') || isChar(position, '(') || isChar(position, '[') || "it".equals(identifier) || null != columnName && !columnName.equals(identifier)) {
+            return Optional.absent();
+        }
+        columnName = identifier;
+        return Optional.<ArithmeticNode>of(new ColumnNode());
+    }
+    
+    private void skipWhitespace() {
+        while (position < inlineExpression.length() && Character.isWhitespace(inlineExpression.charAt(position))) {
+            position++;
+        }
+    }
+    
+    private boolean isChar(final int index, final char expected) {
+        return index < inlineExpression.length() && expected == inlineExpression.charAt(index);
+    }
+}
@@ -17,6 +17,7 @@
 
 package io.shardingsphere.core.routing.strategy.inline;
 
+import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import groovy.lang.Closure;
 import groovy.util.Expando;
@@ -42,6 +43,8 @@ public final class InlineShardingStrategy implements ShardingStrategy {
     
     private final String shardingColumn;
     
+    private final Optional<CompiledInlineExpression> compiledInlineExpression;
+    
     private final Closure<?> closure;
     
     public InlineShardingStrategy(final InlineShardingStrategyConfiguration inlineShardingStrategyConfig) {
@@ -49,6 +52,7 @@ public final class InlineShardingStrategy implements ShardingStrategy {
         Preconditions.checkNotNull(inlineShardingStrategyConfig.getAlgorithmExpression(), "Sharding algorithm expression cannot be null.");
         shardingColumn = inlineShardingStrategyConfig.getShardingColumn();
         String algorithmExpression = InlineExpressionParser.handlePlaceHolder(inlineShardingStrategyConfig.getAlgorithmExpression().trim());
+        compiledInlineExpression = new InlineExpressionCompiler(algorithmExpression).compile();
         closure = new InlineExpressionParser(algorithmExpression).evaluateClosure();
     }
     
@@ -80,6 +84,12 @@ public final class InlineShardingStrategy implements ShardingStrategy {
     }
     
     private String execute(final PreciseShardingValue shardingValue) {
+        if (compiledInlineExpression.isPresent()) {
+            Optional<String> compiledResult = compiledInlineExpression.get().evaluate(shardingValue.getColumnName(), shardingValue.getValue());
+            if (compiledResult.isPresent()) {
+                return compiledResult.get();
+            }
+        }
         Closure<?> result = closure.rehydrate(new Expando(), null, null);
         result.setResolveStrategy(Closure.DELEGATE_ONLY);
         result.setProperty(shardingValue.getColumnName(), shardingValue.getValue());
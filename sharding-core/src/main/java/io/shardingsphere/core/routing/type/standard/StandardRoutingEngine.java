@@ -143,10 +143,10 @@ public final class StandardRoutingEngine implements RoutingEngine {
     
     private Collection<DataNode> routeTables(final TableRule tableRule, final String routedDataSource, final List<ShardingValue> tableShardingValues) {
         Collection<String> availableTargetTables = tableRule.getActualTableNames(routedDataSource);
-        Collection<String> routedTables = new LinkedHashSet<>(tableShardingValues.isEmpty() ? availableTargetTables
-                : shardingRule.getTableShardingStrategy(tableRule).doSharding(availableTargetTables, tableShardingValues));
+        Collection<String> routedTables = tableShardingValues.isEmpty() ? availableTargetTables
+                : new LinkedHashSet<>(shardingRule.getTableShardingStrategy(tableRule).doSharding(availableTargetTables, tableShardingValues));
         Preconditions.checkState(!routedTables.isEmpty(), "no table route info");
-        Collection<DataNode> result = new LinkedList<>();
+        Collection<DataNode> result = new ArrayList<>(routedTables.size());
         for (String each : routedTables) {
             result.add(new DataNode(routedDataSource, each));
         }
@@ -20,6 +20,8 @@ package io.shardingsphere.core.rule;
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.shardingsphere.core.api.config.MasterSlaveRuleConfiguration;
 import io.shardingsphere.core.api.config.ShardingRuleConfiguration;
 import io.shardingsphere.core.api.config.TableRuleConfiguration;
@@ -32,12 +34,15 @@ import io.shardingsphere.core.routing.strategy.ShardingStrategy;
 import io.shardingsphere.core.routing.strategy.ShardingStrategyFactory;
 import io.shardingsphere.core.routing.strategy.none.NoneShardingStrategy;
 import io.shardingsphere.core.util.StringUtil;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.TreeSet;
 
 /**
@@ -50,6 +55,8 @@ import java.util.TreeSet;
 @Getter
 public final class ShardingRule {
     
+    private static final long DEFAULT_DATA_SOURCE_TABLE_RULES_MAXIMUM_SIZE = 1024;
+    
     private final ShardingRuleConfiguration shardingRuleConfig;
     
     private final ShardingDataSourceNames shardingDataSourceNames;
@@ -66,20 +73,40 @@ public final class ShardingRule {
     
     private final Collection<MasterSlaveRule> masterSlaveRules = new LinkedList<>();
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, TableRule> logicTableRules = new HashMap<>();
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, TableRule> actualTableRules = new HashMap<>();
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, BindingTableRule> logicTableBindingTableRules = new HashMap<>();
+    
+    @Getter(AccessLevel.NONE)
+    private final Cache<String, TableRule> defaultDataSourceTableRules = CacheBuilder.newBuilder().maximumSize(DEFAULT_DATA_SOURCE_TABLE_RULES_MAXIMUM_SIZE).build();
+    
     public ShardingRule(final ShardingRuleConfiguration shardingRuleConfig, final Collection<String> dataSourceNames) {
         Preconditions.checkNotNull(dataSourceNames, "Data sources cannot be null.");
         Preconditions.checkArgument(!dataSourceNames.isEmpty(), "Data sources cannot be empty.");
         this.shardingRuleConfig = shardingRuleConfig;
         shardingDataSourceNames = new ShardingDataSourceNames(shardingRuleConfig, dataSourceNames);
         for (TableRuleConfiguration each : shardingRuleConfig.getTableRuleConfigs()) {
-            tableRules.add(new TableRule(each, shardingDataSourceNames));
+            TableRule tableRule = new TableRule(each, shardingDataSourceNames);
+            tableRules.add(tableRule);
+            indexTableRule(tableRule);
         }
         for (String group : shardingRuleConfig.getBindingTableGroups()) {
             List<TableRule> tableRulesForBinding = new LinkedList<>();
             for (String logicTableNameForBindingTable : StringUtil.splitWithComma(group)) {
                 tableRulesForBinding.add(getTableRuleByLogicTableName(logicTableNameForBindingTable));
             }
-            bindingTableRules.add(new BindingTableRule(tableRulesForBinding));
+            BindingTableRule bindingTableRule = new BindingTableRule(tableRulesForBinding);
+            bindingTableRules.add(bindingTableRule);
+            for (TableRule each : tableRulesForBinding) {
+                if (!logicTableBindingTableRules.containsKey(each.getLogicTable())) {
+                    logicTableBindingTableRules.put(each.getLogicTable(), bindingTableRule);
+                }
+            }
         }
         defaultDatabaseShardingStrategy = null == shardingRuleConfig.getDefaultDatabaseShardingStrategyConfig()
                 ? new NoneShardingStrategy() : ShardingStrategyFactory.newInstance(shardingRuleConfig.getDefaultDatabaseShardingStrategyConfig());
@@ -91,6 +118,18 @@ public final class ShardingRule {
         }
     }
     
+    private void indexTableRule(final TableRule tableRule) {
+        if (!logicTableRules.containsKey(tableRule.getLogicTable())) {
+            logicTableRules.put(tableRule.getLogicTable(), tableRule);
+        }
+        for (DataNode each : tableRule.getActualDataNodes()) {
+            String actualTableName = each.getTableName().toLowerCase();
+            if (!actualTableRules.containsKey(actualTableName)) {
+                actualTableRules.put(actualTableName, tableRule);
+            }
+        }
+    }
+    
     /**
      * Try to find table rule though logic table name.
      * 
@@ -98,12 +137,7 @@ public final class ShardingRule {
      * @return table rule
      */
     public Optional<TableRule> tryFindTableRuleByLogicTable(final String logicTableName) {
-        for (TableRule each : tableRules) {
-            if (each.getLogicTable().equals(logicTableName.toLowerCase())) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.absent();
+        return null == logicTableName ? Optional.<TableRule>absent() : Optional.fromNullable(logicTableRules.get(logicTableName.toLowerCase()));
     }
     
     /**
@@ -113,12 +147,7 @@ public final class ShardingRule {
      * @return table rule
      */
     public Optional<TableRule> tryFindTableRuleByActualTable(final String actualTableName) {
-        for (TableRule each : tableRules) {
-            if (each.isExisted(actualTableName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.absent();
+        return null == actualTableName ? Optional.<TableRule>absent() : Optional.fromNullable(actualTableRules.get(actualTableName.toLowerCase()));
     }
     
     /**
@@ -128,16 +157,26 @@ public final class ShardingRule {
      * @return table rule
      */
     public TableRule getTableRuleByLogicTableName(final String logicTableName) {
-        Optional<TableRule> tableRule = tryFindTableRuleByLogicTable(logicTableName.toLowerCase());
-        if (tableRule.isPresent()) {
-            return tableRule.get();
+        String lowerCaseLogicTableName = logicTableName.toLowerCase();
+        TableRule result = logicTableRules.get(lowerCaseLogicTableName);
+        if (null != result) {
+            return result;
         }
         if (!Strings.isNullOrEmpty(shardingDataSourceNames.getDefaultDataSourceName())) {
-            return createTableRuleWithDefaultDataSource(logicTableName.toLowerCase());
+            return getTableRuleWithDefaultDataSource(lowerCaseLogicTableName);
         }
         throw new ShardingConfigurationException("Cannot find table rule and default data source with logic table: '%s'", logicTableName);
     }
     
+    private TableRule getTableRuleWithDefaultDataSource(final String logicTableName) {
+        TableRule result = defaultDataSourceTableRules.getIfPresent(logicTableName);
+        if (null == result) {
+            result = createTableRuleWithDefaultDataSource(logicTableName);
+            defaultDataSourceTableRules.put(logicTableName, result);
+        }
+        return result;
+    }
+    
     private TableRule createTableRuleWithDefaultDataSource(final String logicTableName) {
         TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration();
         tableRuleConfig.setLogicTable(logicTableName);
@@ -224,12 +263,7 @@ public final class ShardingRule {
      * @return binding table rule
      */
     public Optional<BindingTableRule> findBindingTableRule(final String logicTable) {
-        for (BindingTableRule each : bindingTableRules) {
-            if (each.hasLogicTable(logicTable)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.absent();
+        return null == logicTable ? Optional.<BindingTableRule>absent() : Optional.fromNullable(logicTableBindingTableRules.get(logicTable.toLowerCase()));
     }
     
     /**
@@ -242,18 +276,12 @@ public final class ShardingRule {
         if (defaultDatabaseShardingStrategy.getShardingColumns().contains(column.getName()) || defaultTableShardingStrategy.getShardingColumns().contains(column.getName())) {
             return true;
         }
-        for (TableRule each : tableRules) {
-            if (!each.getLogicTable().equalsIgnoreCase(column.getTableName())) {
-                continue;
-            }
-            if (null != each.getDatabaseShardingStrategy() && each.getDatabaseShardingStrategy().getShardingColumns().contains(column.getName())) {
-                return true;
-            }
-            if (null != each.getTableShardingStrategy() && each.getTableShardingStrategy().getShardingColumns().contains(column.getName())) {
-                return true;
-            }
+        TableRule tableRule = null == column.getTableName() ? null : logicTableRules.get(column.getTableName().toLowerCase());
+        if (null == tableRule) {
+            return false;
         }
-        return false;
+        return null != tableRule.getDatabaseShardingStrategy() && tableRule.getDatabaseShardingStrategy().getShardingColumns().contains(column.getName())
+                || null != tableRule.getTableShardingStrategy() && tableRule.getTableShardingStrategy().getShardingColumns().contains(column.getName());
     }
     
     /**
@@ -263,12 +291,11 @@ public final class ShardingRule {
      * @return generated key's column
      */
     public Optional<Column> getGenerateKeyColumn(final String logicTableName) {
-        for (TableRule each : tableRules) {
-            if (each.getLogicTable().equalsIgnoreCase(logicTableName) && null != each.getGenerateKeyColumn()) {
-                return Optional.of(new Column(each.getGenerateKeyColumn(), logicTableName));
-            }
+        TableRule tableRule = null == logicTableName ? null : logicTableRules.get(logicTableName.toLowerCase());
+        if (null == tableRule || null == tableRule.getGenerateKeyColumn()) {
+            return Optional.absent();
         }
-        return Optional.absent();
+        return Optional.of(new Column(tableRule.getGenerateKeyColumn(), logicTableName));
     }
     
     /**
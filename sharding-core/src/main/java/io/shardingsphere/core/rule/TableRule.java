@@ -24,15 +24,21 @@ import io.shardingsphere.core.keygen.KeyGenerator;
 import io.shardingsphere.core.routing.strategy.ShardingStrategy;
 import io.shardingsphere.core.routing.strategy.ShardingStrategyFactory;
 import io.shardingsphere.core.util.InlineExpressionParser;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.ToString;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
 
 /**
  * Table rule configuration.
@@ -40,7 +46,7 @@ import java.util.Map;
  * @author zhangliang
  */
 @Getter
-@ToString
+@ToString(exclude = {"dataNodeGroups", "actualDatasourceNames", "dataSourceToTablesMap", "dataNodeIndexMap", "actualTables"})
 public final class TableRule {
     
     private final String logicTable;
@@ -57,6 +63,21 @@ public final class TableRule {
     
     private final String logicIndex;
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Collection<String>> dataNodeGroups;
+    
+    @Getter(AccessLevel.NONE)
+    private final Collection<String> actualDatasourceNames;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Collection<String>> dataSourceToTablesMap;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<DataNode, Integer> dataNodeIndexMap;
+    
+    @Getter(AccessLevel.NONE)
+    private final Set<String> actualTables;
+    
     public TableRule(final TableRuleConfiguration tableRuleConfig, final ShardingDataSourceNames shardingDataSourceNames) {
         Preconditions.checkNotNull(tableRuleConfig.getLogicTable(), "Logic table cannot be null.");
         logicTable = tableRuleConfig.getLogicTable().toLowerCase();
@@ -68,6 +89,11 @@ public final class TableRule {
         generateKeyColumn = tableRuleConfig.getKeyGeneratorColumnName();
         keyGenerator = tableRuleConfig.getKeyGenerator();
         logicIndex = null == tableRuleConfig.getLogicIndex() ? null : tableRuleConfig.getLogicIndex().toLowerCase();
+        dataNodeGroups = createDataNodeGroups();
+        actualDatasourceNames = Collections.unmodifiableSet(new LinkedHashSet<>(dataNodeGroups.keySet()));
+        dataSourceToTablesMap = createDataSourceToTablesMap();
+        dataNodeIndexMap = createDataNodeIndexMap();
+        actualTables = createActualTables();
     }
     
     private boolean isEmptyDataNodes(final List<String> dataNodes) {
@@ -75,7 +101,7 @@ public final class TableRule {
     }
     
     private List<DataNode> generateDataNodes(final String logicTable, final Collection<String> dataSourceNames) {
-        List<DataNode> result = new LinkedList<>();
+        List<DataNode> result = new ArrayList<>(dataSourceNames.size());
         for (String each : dataSourceNames) {
             result.add(new DataNode(each, logicTable));
         }
@@ -83,7 +109,7 @@ public final class TableRule {
     }
     
     private List<DataNode> generateDataNodes(final List<String> actualDataNodes, final Collection<String> dataSourceNames) {
-        List<DataNode> result = new LinkedList<>();
+        List<DataNode> result = new ArrayList<>(actualDataNodes.size());
         for (String each : actualDataNodes) {
             DataNode dataNode = new DataNode(each);
             if (!dataSourceNames.contains(dataNode.getDataSourceName())) {
@@ -94,21 +120,58 @@ public final class TableRule {
         return result;
     }
     
+    private Map<String, Collection<String>> createDataNodeGroups() {
+        Map<String, List<String>> dataNodeGroups = new LinkedHashMap<>();
+        for (DataNode each : actualDataNodes) {
+            String dataSourceName = each.getDataSourceName();
+            if (!dataNodeGroups.containsKey(dataSourceName)) {
+                dataNodeGroups.put(dataSourceName, new ArrayList<String>());
+            }
+            dataNodeGroups.get(dataSourceName).add(each.getTableName());
+        }
+        Map<String, Collection<String>> result = new LinkedHashMap<>(dataNodeGroups.size(), 1);
+        for (Entry<String, List<String>> entry : dataNodeGroups.entrySet()) {
+            result.put(entry.getKey(), Collections.unmodifiableList(entry.getValue()));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+    
+    private Map<String, Collection<String>> createDataSourceToTablesMap() {
+        Map<String, Collection<String>> result = new HashMap<>(dataNodeGroups.size(), 1);
+        for (Entry<String, Collection<String>> entry : dataNodeGroups.entrySet()) {
+            result.put(entry.getKey(), Collections.unmodifiableSet(new LinkedHashSet<>(entry.getValue())));
+        }
+        return result;
+    }
+    
+    private Map<DataNode, Integer> createDataNodeIndexMap() {
+        Map<DataNode, Integer> result = new HashMap<>(actualDataNodes.size(), 1);
+        int index = 0;
+        for (DataNode each : actualDataNodes) {
+            DataNode key = new DataNode(each.getDataSourceName().toLowerCase(), each.getTableName().toLowerCase());
+            if (!result.containsKey(key)) {
+                result.put(key, index);
+            }
+            index++;
+        }
+        return result;
+    }
+    
+    private Set<String> createActualTables() {
+        Set<String> result = new HashSet<>(actualDataNodes.size(), 1);
+        for (DataNode each : actualDataNodes) {
+            result.add(each.getTableName().toLowerCase());
+        }
+        return result;
+    }
+    
     /**
      * Get data node groups.
      * 
      * @return data node groups, key is data source name, value is tables belong to this data source 
      */
     public Map<String, Collection<String>> getDataNodeGroups() {
-        Map<String, Collection<String>> result = new LinkedHashMap<>(actualDataNodes.size(), 1);
-        for (DataNode each : actualDataNodes) {
-            String dataSourceName = each.getDataSourceName();
-            if (!result.containsKey(dataSourceName)) {
-                result.put(dataSourceName, new LinkedList<String>());
-            }
-            result.get(dataSourceName).add(each.getTableName());
-        }
-        return result;
+        return dataNodeGroups;
     }
     
     /**
@@ -117,11 +180,7 @@ public final class TableRule {
      * @return actual data source names
      */
     public Collection<String> getActualDatasourceNames() {
-        Collection<String> result = new LinkedHashSet<>(actualDataNodes.size());
-        for (DataNode each : actualDataNodes) {
-            result.add(each.getDataSourceName());
-        }
-        return result;
+        return actualDatasourceNames;
     }
     
     /**
@@ -131,32 +190,19 @@ public final class TableRule {
      * @return names of actual tables
      */
     public Collection<String> getActualTableNames(final String targetDataSource) {
-        Collection<String> result = new LinkedHashSet<>(actualDataNodes.size());
-        for (DataNode each : actualDataNodes) {
-            if (targetDataSource.equals(each.getDataSourceName())) {
-                result.add(each.getTableName());
-            }
-        }
-        return result;
+        Collection<String> result = dataSourceToTablesMap.get(targetDataSource);
+        return null == result ? Collections.<String>emptySet() : result;
     }
     
     int findActualTableIndex(final String dataSourceName, final String actualTableName) {
-        int result = 0;
-        for (DataNode each : actualDataNodes) {
-            if (each.getDataSourceName().equalsIgnoreCase(dataSourceName) && each.getTableName().equalsIgnoreCase(actualTableName)) {
-                return result;
-            }
-            result++;
+        if (null == dataSourceName || null == actualTableName) {
+            return -1;
         }
-        return -1;
+        Integer result = dataNodeIndexMap.get(new DataNode(dataSourceName.toLowerCase(), actualTableName.toLowerCase()));
+        return null == result ? -1 : result;
     }
     
     boolean isExisted(final String actualTableName) {
-        for (DataNode each : actualDataNodes) {
-            if (each.getTableName().equalsIgnoreCase(actualTableName)) {
-                return true;
-            }
-        }
-        return false;
+        return null != actualTableName && actualTables.contains(actualTableName.toLowerCase());
     }
 }
@@ -17,7 +17,6 @@
 
 package io.shardingsphere.core.util;
 
-import com.google.common.eventbus.EventBus;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
@@ -29,14 +28,14 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class EventBusInstance {
     
-    private static final EventBus INSTANCE = new EventBus();
+    private static final ShardingEventBus INSTANCE = new ShardingEventBus();
     
     /**
      * Get event bus instance.
      * 
      * @return event bus instance
      */
-    public static EventBus getInstance() {
+    public static ShardingEventBus getInstance() {
         return INSTANCE;
     }
 }
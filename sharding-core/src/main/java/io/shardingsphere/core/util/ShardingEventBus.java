@@ -0,0 +1,222 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.util;
+
+import com.google.common.base.Preconditions;
+import com.google.common.eventbus.Subscribe;
+import com.google.common.reflect.TypeToken;
+import io.shardingsphere.core.exception.ShardingException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Event bus which dispatches events to subscribers on posting thread.
+ * 
+ * <p>
+ * Methods of listeners annotated with {@code Subscribe} are registered by type of their only parameter.
+ * Registry is copy on write, so posting does not lock, and callers can check subscribers before creating events.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+@Slf4j
+public final class ShardingEventBus {
+    
+    private static final ConcurrentMap<Class<?>, Set<Class<?>>> FLATTENED_TYPES = new ConcurrentHashMap<>();
+    
+    private volatile Map<Class<?>, List<EventSubscriber>> subscribersByType = Collections.emptyMap();
+    
+    /**
+     * Register listener.
+     * 
+     * @param listener listener which has methods annotated with {@code Subscribe}
+     */
+    public synchronized void register(final Object listener) {
+        Map<Class<?>, List<EventSubscriber>> result = copySubscribersByType();
+        for (EventSubscriber each : findSubscribers(listener)) {
+            if (!result.containsKey(each.getEventType())) {
+                result.put(each.getEventType(), new ArrayList<EventSubscriber>());
+            }
+            result.get(each.getEventType()).add(each);
+        }
+        subscribersByType = result;
+    }
+    
+    /**
+     * Unregister listener.
+     * 
+     * @param listener registered listener
+     */
+    public synchronized void unregister(final Object listener) {
+        Map<Class<?>, List<EventSubscriber>> result = copySubscribersByType();
+        Iterator<List<EventSubscriber>> iterator = result.values().iterator();
+        while (iterator.hasNext()) {
+            List<EventSubscriber> subscribers = iterator.next();
+            Iterator<EventSubscriber> subscriberIterator = subscribers.iterator();
+            while (subscriberIterator.hasNext()) {
+                if (listener == subscriberIterator.next().listener) {
+                    subscriberIterator.remove();
+                }
+            }
+            if (subscribers.isEmpty()) {
+                iterator.remove();
+            }
+        }
+        subscribersByType = result;
+    }
+    
+    private Map<Class<?>, List<EventSubscriber>> copySubscribersByType() {
+        Map<Class<?>, List<EventSubscriber>> result = new HashMap<>(subscribersByType.size() + 1, 1);
+        for (Map.Entry<Class<?>, List<EventSubscriber>> entry : subscribersByType.entrySet()) {
+            result.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+        }
+        return result;
+    }
+    
+    private Collection<EventSubscriber> findSubscribers(final Object listener) {
+        Collection<EventSubscriber> result = new LinkedList<>();
+        Set<String> methodIdentifiers = new HashSet<>();
+        for (Class<?> each : TypeToken.of(listener.getClass()).getTypes().rawTypes()) {
+            for (Method method : each.getDeclaredMethods()) {
+                if (method.isAnnotationPresent(Subscribe.class) && !method.isBridge() && methodIdentifiers.add(method.getName() + Arrays.toString(method.getParameterTypes()))) {
+                    Preconditions.checkArgument(1 == method.getParameterTypes().length, 
+                            "Method %s has @Subscribe annotation but has %s parameters, subscriber methods must have exactly 1 parameter.", method, method.getParameterTypes().length);
+                    method.setAccessible(true);
+                    result.add(new EventSubscriber(listener, method));
+                }
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Judge whether any subscriber can receive event of this type.
+     * 
+     * @param eventType event type
+     * @return has subscribers or not
+     */
+    public boolean hasSubscribers(final Class<?> eventType) {
+        Map<Class<?>, List<EventSubscriber>> subscribersByType = this.subscribersByType;
+        if (subscribersByType.isEmpty()) {
+            return false;
+        }
+        for (Class<?> each : getFlattenedTypes(eventType)) {
+            if (subscribersByType.containsKey(each)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Post event to subscribers.
+     * 
+     * @param event event
+     */
+    public void post(final Object event) {
+        dispatch(getSubscribers(event.getClass()), event);
+    }
+    
+    /**
+     * Post events to subscribers in order.
+     * 
+     * <p>Subscribers are resolved once for successive events of same type.</p>
+     * 
+     * @param events events
+     */
+    public void postAll(final Collection<?> events) {
+        Class<?> eventType = null;
+        Collection<EventSubscriber> subscribers = Collections.emptyList();
+        for (Object each : events) {
+            if (each.getClass() != eventType) {
+                eventType = each.getClass();
+                subscribers = getSubscribers(eventType);
+            }
+            dispatch(subscribers, each);
+        }
+    }
+    
+    private Collection<EventSubscriber> getSubscribers(final Class<?> eventType) {
+        Map<Class<?>, List<EventSubscriber>> subscribersByType = this.subscribersByType;
+        if (subscribersByType.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Collection<EventSubscriber> result = new LinkedList<>();
+        for (Class<?> each : getFlattenedTypes(eventType)) {
+            List<EventSubscriber> subscribers = subscribersByType.get(each);
+            if (null != subscribers) {
+                result.addAll(subscribers);
+            }
+        }
+        return result;
+    }
+    
+    private Set<Class<?>> getFlattenedTypes(final Class<?> eventType) {
+        Set<Class<?>> result = FLATTENED_TYPES.get(eventType);
+        if (null == result) {
+            result = new LinkedHashSet<Class<?>>(TypeToken.of(eventType).getTypes().rawTypes());
+            FLATTENED_TYPES.putIfAbsent(eventType, result);
+        }
+        return result;
+    }
+    
+    private void dispatch(final Collection<EventSubscriber> subscribers, final Object event) {
+        for (EventSubscriber each : subscribers) {
+            each.handle(event);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class EventSubscriber {
+        
+        private final Object listener;
+        
+        private final Method method;
+        
+        Class<?> getEventType() {
+            return method.getParameterTypes()[0];
+        }
+        
+        void handle(final Object event) {
+            try {
+                method.invoke(listener, event);
+            } catch (final InvocationTargetException ex) {
+                log.error(String.format("Could not dispatch event: %s to %s", event, method), ex.getCause());
+            } catch (final IllegalAccessException ex) {
+                throw new ShardingException(ex);
+            }
+        }
+    }
+}
@@ -31,9 +31,11 @@ import io.shardingsphere.core.merger.dql.groupby.GroupByMemoryMergedResultTest;
 import io.shardingsphere.core.merger.dql.groupby.GroupByRowComparatorTest;
 import io.shardingsphere.core.merger.dql.groupby.GroupByStreamMergedResultTest;
 import io.shardingsphere.core.merger.dql.groupby.GroupByValueTest;
+import io.shardingsphere.core.merger.dql.groupby.spill.SpillFileQueryResultTest;
 import io.shardingsphere.core.merger.dql.groupby.aggregation.AllAggregationTests;
 import io.shardingsphere.core.merger.dql.iterator.IteratorStreamMergedResultTest;
 import io.shardingsphere.core.merger.dql.orderby.CompareUtilTest;
+import io.shardingsphere.core.merger.dql.orderby.OrderByLoserTreeTest;
 import io.shardingsphere.core.merger.dql.orderby.OrderByStreamMergedResultTest;
 import io.shardingsphere.core.merger.dql.orderby.OrderByValueTest;
 import io.shardingsphere.core.merger.dql.pagination.LimitDecoratorMergedResultTest;
@@ -51,12 +53,14 @@ import org.junit.runners.Suite;
         MemoryQueryResultRowTest.class, 
         IteratorStreamMergedResultTest.class, 
         OrderByValueTest.class, 
+        OrderByLoserTreeTest.class, 
         OrderByStreamMergedResultTest.class, 
         CompareUtilTest.class, 
         GroupByValueTest.class, 
         GroupByRowComparatorTest.class, 
         GroupByStreamMergedResultTest.class, 
         GroupByMemoryMergedResultTest.class, 
+        SpillFileQueryResultTest.class, 
         AllAggregationTests.class, 
         LimitDecoratorMergedResultTest.class,
         RowNumberDecoratorMergedResultTest.class,
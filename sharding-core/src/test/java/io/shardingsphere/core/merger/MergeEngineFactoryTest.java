@@ -58,18 +58,18 @@ public final class MergeEngineFactoryTest {
     @Test
     public void assertNewInstanceWithSelectStatement() throws SQLException {
         SQLStatement selectStatement = new SelectStatement();
-        assertThat(MergeEngineFactory.newInstance(null, queryResults, selectStatement, null), instanceOf(DQLMergeEngine.class));
+        assertThat(MergeEngineFactory.newInstance(null, queryResults, selectStatement, null, 0), instanceOf(DQLMergeEngine.class));
     }
 
     @Test
     public void assertNewInstanceWithDALStatement() throws SQLException {
         SQLStatement dalStatement = new DALStatement();
-        assertThat(MergeEngineFactory.newInstance(null, queryResults, dalStatement, null), instanceOf(DALMergeEngine.class));
+        assertThat(MergeEngineFactory.newInstance(null, queryResults, dalStatement, null, 0), instanceOf(DALMergeEngine.class));
     }
     
     @Test(expected = UnsupportedOperationException.class)
     public void assertNewInstanceWithOtherStatement() throws SQLException {
         SQLStatement insertStatement = new InsertStatement();
-        MergeEngineFactory.newInstance(null, queryResults, insertStatement, null);
+        MergeEngineFactory.newInstance(null, queryResults, insertStatement, null, 0);
     }
 }
@@ -30,18 +30,26 @@ import io.shardingsphere.core.parsing.parser.context.selectitem.AggregationSelec
 import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
+import java.io.Closeable;
+import java.io.File;
+import java.io.FilenameFilter;
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -129,4 +137,96 @@ public final class GroupByMemoryMergedResultTest {
         assertThat((BigDecimal) actual.getValue(5, Object.class), is(new BigDecimal(40)));
         assertFalse(actual.next());
     }
+    
+    @Test
+    public void assertNextWithSpill() throws SQLException {
+        int spillFileCount = getSpillFileCount();
+        queryResults.clear();
+        queryResults.add(new TestQueryResult(mockResultSet(new Object[] {1, 0, 1, 1, 10}, new Object[] {2, 0, 2, 2, 40}, new Object[] {1, 0, 5, 1, 50})));
+        queryResults.add(new TestQueryResult(mockResultSet(new Object[] {3, 0, 1, 3, 60}, new Object[] {1, 0, 3, 1, 30}, new Object[] {1, 0, 6, 1, 60})));
+        queryResults.add(new TestQueryResult(mockResultSet(new Object[] {2, 0, 2, 2, 20}, new Object[] {4, 0, 4, 4, 80}, new Object[] {1, 0, 6, 1, 6})));
+        mergeEngine = new DQLMergeEngine(queryResults, selectStatement, 1);
+        MergedResult actual = mergeEngine.merge();
+        assertNextRow(actual, 6, 2, "33.0000");
+        assertNextRow(actual, 5, 1, "50.0000");
+        assertNextRow(actual, 4, 4, "20.0000");
+        assertNextRow(actual, 3, 1, "30.0000");
+        assertNextRow(actual, 2, 4, "15.0000");
+        assertNextRow(actual, 1, 4, "17.5000");
+        assertFalse(actual.next());
+        assertThat(getSpillFileCount(), is(spillFileCount));
+    }
+    
+    @Test
+    public void assertNextWithSpillAndMultipleMergePasses() throws SQLException {
+        int spillFileCount = getSpillFileCount();
+        Object[][] rows = new Object[400][];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = new Object[] {1, 0, i % 200 + 1, 1, 10};
+        }
+        queryResults.clear();
+        queryResults.add(new TestQueryResult(mockResultSet(rows)));
+        mergeEngine = new DQLMergeEngine(queryResults, selectStatement, 1);
+        MergedResult actual = mergeEngine.merge();
+        for (int i = 200; i > 0; i--) {
+            assertNextRow(actual, i, 2, "10.0000");
+        }
+        assertFalse(actual.next());
+        assertThat(getSpillFileCount(), is(spillFileCount));
+    }
+    
+    @Test
+    public void assertCloseWithSpill() throws SQLException, IOException {
+        int spillFileCount = getSpillFileCount();
+        Object[][] rows = new Object[40][];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = new Object[] {1, 0, i + 1, 1, 10};
+        }
+        queryResults.clear();
+        queryResults.add(new TestQueryResult(mockResultSet(rows)));
+        mergeEngine = new DQLMergeEngine(queryResults, selectStatement, 3);
+        MergedResult actual = mergeEngine.merge();
+        assertNextRow(actual, 40, 1, "10.0000");
+        assertTrue(getSpillFileCount() > spillFileCount);
+        ((Closeable) actual).close();
+        assertThat(getSpillFileCount(), is(spillFileCount));
+    }
+    
+    private int getSpillFileCount() {
+        String[] result = new File(System.getProperty("java.io.tmpdir")).list(new FilenameFilter() {
+            
+            @Override
+            public boolean accept(final File dir, final String name) {
+                return name.startsWith("sharding-sphere-merge-");
+            }
+        });
+        return null == result ? 0 : result.length;
+    }
+    
+    private ResultSet mockResultSet(final Object[]... rows) throws SQLException {
+        ResultSet result = mockResultSet();
+        final AtomicInteger cursor = new AtomicInteger(-1);
+        when(result.next()).thenAnswer(new Answer<Boolean>() {
+            
+            @Override
+            public Boolean answer(final InvocationOnMock invocation) {
+                return cursor.incrementAndGet() < rows.length;
+            }
+        });
+        when(result.getObject(anyInt())).thenAnswer(new Answer<Object>() {
+            
+            @Override
+            public Object answer(final InvocationOnMock invocation) {
+                return rows[cursor.get()][(Integer) invocation.getArgument(0) - 1];
+            }
+        });
+        return result;
+    }
+    
+    private void assertNextRow(final MergedResult actual, final int id, final int count, final String average) throws SQLException {
+        assertTrue(actual.next());
+        assertThat((Integer) actual.getValue(3, Object.class), is(id));
+        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(count)));
+        assertThat((BigDecimal) actual.getValue(2, Object.class), is(new BigDecimal(average)));
+    }
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.groupby.spill;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SpillFileQueryResultTest {
+    
+    @Test
+    public void assertNext() throws IOException, SQLException {
+        SpillFileWriter spillFileWriter = new SpillFileWriter();
+        spillFileWriter.write(new Object[] {1, "order_1", new BigDecimal("10.5")});
+        spillFileWriter.write(new Object[] {2, null, new BigDecimal("20.5")});
+        spillFileWriter.close();
+        assertThat(spillFileWriter.getRowCount(), is(2));
+        assertTrue(spillFileWriter.getByteCount() > 0);
+        SpillFileQueryResult actual = new SpillFileQueryResult(spillFileWriter, Arrays.asList("order_id", "status", "amount"));
+        assertThat(actual.getColumnCount(), is(3));
+        assertThat(actual.getColumnLabel(2), is("status"));
+        assertTrue(actual.next());
+        assertThat((Integer) actual.getValue(1, Object.class), is(1));
+        assertThat((String) actual.getValue("status", Object.class), is("order_1"));
+        assertFalse(actual.wasNull());
+        assertTrue(actual.next());
+        assertThat((BigDecimal) actual.getValue(3, Object.class), is(new BigDecimal("20.5")));
+        assertNull(actual.getValue(2, Object.class));
+        assertTrue(actual.wasNull());
+        assertFalse(spillFileWriter.getFile().exists());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithoutRows() throws IOException, SQLException {
+        SpillFileWriter spillFileWriter = new SpillFileWriter();
+        spillFileWriter.close();
+        assertFalse(new SpillFileQueryResult(spillFileWriter, Arrays.asList("order_id")).next());
+        assertFalse(spillFileWriter.getFile().exists());
+    }
+    
+    @Test
+    public void assertClose() throws IOException, SQLException {
+        SpillFileWriter spillFileWriter = new SpillFileWriter();
+        spillFileWriter.write(new Object[] {1});
+        spillFileWriter.write(new Object[] {2});
+        spillFileWriter.close();
+        SpillFileQueryResult actual = new SpillFileQueryResult(spillFileWriter, Arrays.asList("order_id"));
+        assertTrue(actual.next());
+        actual.close();
+        assertFalse(spillFileWriter.getFile().exists());
+        assertFalse(actual.next());
+    }
+}
@@ -79,4 +79,14 @@ public final class CompareUtilTest {
     public void assertCompareToWhenDesc() {
         assertThat(CompareUtil.compareTo(1, 2, OrderDirection.DESC, OrderDirection.ASC), is(1));
     }
+    
+    @Test
+    public void assertCompareToWhenIntegralTypesAreDifferent() {
+        assertThat(CompareUtil.compareTo(1, 2L, OrderDirection.ASC, OrderDirection.ASC), is(-1));
+    }
+    
+    @Test
+    public void assertCompareToWhenFloatingPointTypesAreDifferent() {
+        assertThat(CompareUtil.compareTo(2.5D, 1.5F, OrderDirection.DESC, OrderDirection.ASC), is(-1));
+    }
 }
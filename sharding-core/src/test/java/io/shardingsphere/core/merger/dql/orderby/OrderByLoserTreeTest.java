@@ -0,0 +1,88 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.orderby;
+
+import io.shardingsphere.core.constant.OrderDirection;
+import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.merger.fixture.TestQueryResult;
+import io.shardingsphere.core.parsing.parser.context.OrderItem;
+import org.junit.Test;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class OrderByLoserTreeTest {
+    
+    private final List<OrderItem> orderByItems = Collections.singletonList(new OrderItem(1, OrderDirection.ASC, OrderDirection.ASC));
+    
+    @Test
+    public void assertIsEmptyWithoutOrderByValues() {
+        assertTrue(new OrderByLoserTree(Collections.<OrderByValue>emptyList()).isEmpty());
+    }
+    
+    @Test
+    public void assertNext() throws SQLException {
+        List<QueryResult> queryResults = new ArrayList<>(5);
+        queryResults.add(createQueryResult(1, 4, 7));
+        queryResults.add(createQueryResult(2, 5));
+        queryResults.add(createQueryResult());
+        queryResults.add(createQueryResult(3, 3));
+        queryResults.add(createQueryResult(0, 8));
+        List<OrderByValue> orderByValues = new ArrayList<>(queryResults.size());
+        for (QueryResult each : queryResults) {
+            OrderByValue orderByValue = new OrderByValue(each, orderByItems);
+            if (orderByValue.next()) {
+                orderByValues.add(orderByValue);
+            }
+        }
+        OrderByLoserTree actual = new OrderByLoserTree(orderByValues);
+        for (int each : new int[] {4, 0, 1, 3, 3, 0, 1, 0, 4}) {
+            assertFalse(actual.isEmpty());
+            assertThat(actual.peek().getQueryResult(), sameInstance(queryResults.get(each)));
+            actual.next();
+        }
+        assertTrue(actual.isEmpty());
+    }
+    
+    private QueryResult createQueryResult(final Integer... values) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        if (0 == values.length) {
+            return new TestQueryResult(resultSet);
+        }
+        Boolean[] nextResults = new Boolean[values.length];
+        for (int i = 0; i < values.length - 1; i++) {
+            nextResults[i] = true;
+        }
+        nextResults[values.length - 1] = false;
+        when(resultSet.next()).thenReturn(true, nextResults);
+        Object[] restValues = new Object[values.length - 1];
+        System.arraycopy(values, 1, restValues, 0, restValues.length);
+        when(resultSet.getObject(1)).thenReturn(values[0], restValues);
+        return new TestQueryResult(resultSet);
+    }
+}
@@ -17,6 +17,8 @@
 
 package io.shardingsphere.core.parsing;
 
+import io.shardingsphere.core.parsing.cache.ParsingResultCacheTest;
+import io.shardingsphere.core.parsing.cache.SQLFingerprintEngineTest;
 import io.shardingsphere.core.parsing.integrate.AllParsingIntegrateTests;
 import io.shardingsphere.core.parsing.lexer.AllLexerTests;
 import io.shardingsphere.core.parsing.parser.constant.DerivedColumnTest;
@@ -34,6 +36,8 @@ import org.junit.runners.Suite;
         SQLJudgeEngineTest.class, 
         OrderItemTest.class,
         DerivedColumnTest.class, 
+        ParsingResultCacheTest.class, 
+        SQLFingerprintEngineTest.class, 
         AllParsingIntegrateTests.class
     })
 public final class AllParsingTests {
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.parsing.cache;
+
+import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+public final class ParsingResultCacheTest {
+    
+    @Test
+    public void assertGetSQLStatementWithHit() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache(16);
+        SQLStatement expected = new SelectStatement();
+        parsingResultCache.put("SELECT 1", expected);
+        assertThat(parsingResultCache.getSQLStatement("SELECT 1"), is(expected));
+        assertThat(parsingResultCache.getStats().hitCount(), is(1L));
+        assertThat(parsingResultCache.getStats().missCount(), is(0L));
+    }
+    
+    @Test
+    public void assertGetSQLStatementWithMiss() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache(16);
+        assertNull(parsingResultCache.getSQLStatement("SELECT 1"));
+        assertThat(parsingResultCache.getStats().missCount(), is(1L));
+    }
+    
+    @Test
+    public void assertPutWithEviction() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache(1);
+        parsingResultCache.put("SELECT 1", new SelectStatement());
+        parsingResultCache.put("SELECT 2", new SelectStatement());
+        assertThat(parsingResultCache.size(), is(1L));
+        assertThat(parsingResultCache.getStats().evictionCount(), is(1L));
+        assertNull(parsingResultCache.getSQLStatement("SELECT 1"));
+    }
+    
+    @Test
+    public void assertClear() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache(16);
+        parsingResultCache.put("SELECT 1", new SelectStatement());
+        parsingResultCache.clear();
+        assertThat(parsingResultCache.size(), is(0L));
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.parsing.cache;
+
+import io.shardingsphere.core.constant.DatabaseType;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class SQLFingerprintEngineTest {
+    
+    @Test
+    public void assertGenerateForSelect() {
+        SQLFingerprint actual = new SQLFingerprintEngine(DatabaseType.MySQL, "SELECT 1 AS c FROM t_order WHERE user_id = 10 AND status='init' AND order_id IN (1, 2) ORDER BY 1").generate().get();
+        assertThat(actual.getSql(), is("SELECT 1 AS c FROM t_order WHERE user_id = ? AND status=? AND order_id IN (?, ?) ORDER BY 1"));
+        assertThat(actual.getParameters(), is(Arrays.<Object>asList(10, "init", 1, 2)));
+    }
+    
+    @Test
+    public void assertGenerateForBetween() {
+        SQLFingerprint actual = new SQLFingerprintEngine(DatabaseType.MySQL, "SELECT * FROM t_order WHERE order_id BETWEEN 1 AND 5 AND user_id >= -1.5").generate().get();
+        assertThat(actual.getSql(), is("SELECT * FROM t_order WHERE order_id BETWEEN ? AND ? AND user_id >= ?"));
+        assertThat(actual.getParameters(), is(Arrays.<Object>asList(1, 5, -1.5D)));
+    }
+    
+    @Test
+    public void assertGenerateForInsert() {
+        SQLFingerprint actual = new SQLFingerprintEngine(DatabaseType.MySQL, "INSERT INTO t_order (order_id, status) VALUES (1, 'a'), (2, CONCAT('b', 'c')) ON DUPLICATE KEY UPDATE status = 'd'").generate().get();
+        assertThat(actual.getSql(), is("INSERT INTO t_order (order_id, status) VALUES (?, ?), (?, CONCAT('b', 'c')) ON DUPLICATE KEY UPDATE status = 'd'"));
+        assertThat(actual.getParameters(), is(Arrays.<Object>asList(1, "a", 2)));
+    }
+    
+    @Test
+    public void assertGenerateForUpdate() {
+        SQLFingerprint actual = new SQLFingerprintEngine(DatabaseType.MySQL, "UPDATE t_order SET status = 'it''s', amount = amount + 1 WHERE order_id = 1").generate().get();
+        assertThat(actual.getSql(), is("UPDATE t_order SET status = ?, amount = amount + 1 WHERE order_id = ?"));
+        assertThat(actual.getParameters(), is(Arrays.<Object>asList("it''s", 1)));
+    }
+    
+    @Test
+    public void assertGenerateWithoutNormalizableLiterals() {
+        SQLFingerprint actual = new SQLFingerprintEngine(DatabaseType.MySQL, "SELECT COUNT(1) FROM t_order GROUP BY user_id HAVING COUNT(1) > 1 LIMIT 10").generate().get();
+        assertThat(actual.getSql(), is("SELECT COUNT(1) FROM t_order GROUP BY user_id HAVING COUNT(1) > 1 LIMIT 10"));
+        assertThat(actual.getParameters(), is(Collections.emptyList()));
+    }
+    
+    @Test
+    public void assertGenerateWithPlaceholder() {
+        assertFalse(new SQLFingerprintEngine(DatabaseType.MySQL, "SELECT * FROM t_order WHERE order_id = ?").generate().isPresent());
+    }
+    
+    @Test
+    public void assertRestore() {
+        SQLFingerprint sqlFingerprint = new SQLFingerprintEngine(DatabaseType.MySQL, "SELECT * FROM t_order WHERE user_id = 10 AND status = 'it''s' AND price > 1.50").generate().get();
+        assertThat(sqlFingerprint.restore("SELECT * FROM t_order_0 WHERE user_id = ? AND status = ? AND price > ?", sqlFingerprint.getParameters()), 
+                is("SELECT * FROM t_order_0 WHERE user_id = 10 AND status = 'it''s' AND price > 1.50"));
+    }
+    
+    @Test
+    public void assertRestoreWithoutParameters() {
+        SQLFingerprint sqlFingerprint = new SQLFingerprintEngine(DatabaseType.MySQL, "SELECT * FROM t_order").generate().get();
+        assertThat(sqlFingerprint.restore("SELECT * FROM t_order_0", Collections.emptyList()), is("SELECT * FROM t_order_0"));
+    }
+}
@@ -55,6 +55,6 @@ public final class IntegrateSupportedSQLParsingTest extends AbstractBaseIntegrat
     @Test
     public void assertSupportedSQL() {
         String sql = sqlCasesLoader.getSupportedSQL(sqlCaseId, sqlCaseType, parserResultSetLoader.getParserResult(sqlCaseId).getParameters());
-        new SQLStatementAssert(new SQLParsingEngine(databaseType, sql, getShardingRule(), getShardingTableMetaData()).parse(false), sqlCaseId, sqlCaseType).assertSQLStatement();
+        new SQLStatementAssert(new SQLParsingEngine(databaseType, sql, getShardingRule(), getShardingTableMetaData(), null).parse(false), sqlCaseId, sqlCaseType).assertSQLStatement();
     }
 }
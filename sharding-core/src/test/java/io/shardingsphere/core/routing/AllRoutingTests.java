@@ -18,13 +18,17 @@
 package io.shardingsphere.core.routing;
 
 import io.shardingsphere.core.routing.router.DatabaseHintSQLRouterTest;
+import io.shardingsphere.core.routing.router.ParsingSQLRouterTest;
+import io.shardingsphere.core.routing.strategy.inline.InlineExpressionCompilerTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
         DatabaseTest.class,
-        DatabaseHintSQLRouterTest.class
+        DatabaseHintSQLRouterTest.class,
+        ParsingSQLRouterTest.class,
+        InlineExpressionCompilerTest.class
 })
 public final class AllRoutingTests {
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.router;
+
+import io.shardingsphere.core.api.config.ShardingRuleConfiguration;
+import io.shardingsphere.core.api.config.TableRuleConfiguration;
+import io.shardingsphere.core.api.config.strategy.InlineShardingStrategyConfiguration;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
+import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import io.shardingsphere.core.routing.SQLExecutionUnit;
+import io.shardingsphere.core.routing.SQLRouteResult;
+import io.shardingsphere.core.routing.router.sharding.ParsingSQLRouter;
+import io.shardingsphere.core.rule.ShardingRule;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class ParsingSQLRouterTest {
+    
+    private ShardingRule shardingRule;
+    
+    private ParsingSQLRouter parsingSQLRouter;
+    
+    @Before
+    public void setUp() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration();
+        tableRuleConfig.setLogicTable("t_order");
+        tableRuleConfig.setActualDataNodes("ds_${0..1}.t_order_${0..1}");
+        tableRuleConfig.setDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "ds_${user_id % 2}"));
+        tableRuleConfig.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("order_id", "t_order_${order_id % 2}"));
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        shardingRule = new ShardingRule(shardingRuleConfig, Arrays.asList("ds_0", "ds_1"));
+        parsingSQLRouter = new ParsingSQLRouter(shardingRule, null, DatabaseType.MySQL, false, null, new ParsingResultCache(1024), 0);
+    }
+    
+    @Test
+    public void assertRouteWithRoutePlan() {
+        String sql = "SELECT * FROM t_order WHERE user_id = ? AND order_id = ?";
+        SQLStatement sqlStatement = parsingSQLRouter.parse(sql, true);
+        assertRoute(parsingSQLRouter.route(sql, Arrays.<Object>asList(1, 1), sqlStatement), "ds_1", "SELECT * FROM t_order_1 WHERE user_id = ? AND order_id = ?", Arrays.<Object>asList(1, 1));
+        assertRoute(parsingSQLRouter.route(sql, Arrays.<Object>asList(3, 5), sqlStatement), "ds_1", "SELECT * FROM t_order_1 WHERE user_id = ? AND order_id = ?", Arrays.<Object>asList(3, 5));
+        assertRoute(parsingSQLRouter.route(sql, Arrays.<Object>asList(2, 1), sqlStatement), "ds_0", "SELECT * FROM t_order_1 WHERE user_id = ? AND order_id = ?", Arrays.<Object>asList(2, 1));
+        assertRoute(parsingSQLRouter.route(sql, Arrays.<Object>asList(2, 4), sqlStatement), "ds_0", "SELECT * FROM t_order_0 WHERE user_id = ? AND order_id = ?", Arrays.<Object>asList(2, 4));
+    }
+    
+    @Test
+    public void assertRouteWithoutRoutePlanForMultipleRouting() {
+        String sql = "SELECT * FROM t_order WHERE user_id = ?";
+        SQLStatement sqlStatement = parsingSQLRouter.parse(sql, true);
+        assertThat(parsingSQLRouter.route(sql, Collections.<Object>singletonList(1), sqlStatement).getExecutionUnits().size(), is(2));
+        assertThat(parsingSQLRouter.route(sql, Collections.<Object>singletonList(1), sqlStatement).getExecutionUnits().size(), is(2));
+    }
+    
+    @Test
+    public void assertRouteWithInsertValuesSplitByMaxInsertValuesSize() {
+        ParsingSQLRouter router = new ParsingSQLRouter(shardingRule, null, DatabaseType.MySQL, false, null, new ParsingResultCache(1024), 2);
+        String sql = "INSERT INTO t_order (user_id, order_id) VALUES (?, ?), (?, ?), (?, ?), (?, ?), (?, ?)";
+        SQLStatement sqlStatement = router.parse(sql, true);
+        Iterator<SQLExecutionUnit> actual = router.route(sql, Arrays.<Object>asList(1, 1, 2, 2, 3, 3, 5, 5, 7, 7), sqlStatement).getExecutionUnits().iterator();
+        assertSQLExecutionUnit(actual.next(), "ds_1", "INSERT INTO t_order_1 (user_id, order_id) VALUES (?, ?), (?, ?)", Arrays.<Object>asList(1, 1, 3, 3));
+        assertSQLExecutionUnit(actual.next(), "ds_1", "INSERT INTO t_order_1 (user_id, order_id) VALUES (?, ?), (?, ?)", Arrays.<Object>asList(5, 5, 7, 7));
+        assertSQLExecutionUnit(actual.next(), "ds_0", "INSERT INTO t_order_0 (user_id, order_id) VALUES (?, ?)", Arrays.<Object>asList(2, 2));
+        assertFalse(actual.hasNext());
+    }
+    
+    private void assertRoute(final SQLRouteResult actual, final String expectedDataSourceName, final String expectedSQL, final List<Object> expectedParameters) {
+        assertThat(actual.getExecutionUnits().size(), is(1));
+        assertSQLExecutionUnit(actual.getExecutionUnits().iterator().next(), expectedDataSourceName, expectedSQL, expectedParameters);
+    }
+    
+    private void assertSQLExecutionUnit(final SQLExecutionUnit actual, final String expectedDataSourceName, final String expectedSQL, final List<Object> expectedParameters) {
+        assertThat(actual.getDataSource(), is(expectedDataSourceName));
+        assertThat(actual.getSqlUnit().getSql(), is(expectedSQL));
+        assertThat(actual.getSqlUnit().getParameterSets().get(0), is(expectedParameters));
+    }
+}
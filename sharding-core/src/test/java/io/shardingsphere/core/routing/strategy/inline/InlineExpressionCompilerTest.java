@@ -0,0 +1,83 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.strategy.inline;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import io.shardingsphere.core.util.InlineExpressionParser;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class InlineExpressionCompilerTest {
+    
+    @Test
+    public void assertCompileForUnsupportedExpression() {
+        assertFalse(new InlineExpressionCompiler("t_order_${order_id / 2}").compile().isPresent());
+        assertFalse(new InlineExpressionCompiler("t_order_${order_id.hashCode() % 2}").compile().isPresent());
+        assertFalse(new InlineExpressionCompiler("t_order_${Math.abs(order_id) % 2}").compile().isPresent());
+        assertFalse(new InlineExpressionCompiler("t_order_${order_id % 2L}").compile().isPresent());
+        assertFalse(new InlineExpressionCompiler("t_order_${-order_id % 2}").compile().isPresent());
+        assertFalse(new InlineExpressionCompiler("t_order_${order_id % user_id}").compile().isPresent());
+        assertFalse(new InlineExpressionCompiler("t_order_${it}").compile().isPresent());
+        assertFalse(new InlineExpressionCompiler("t_order_$order_id").compile().isPresent());
+        assertFalse(new InlineExpressionCompiler("t_order_${(order_id % 2}").compile().isPresent());
+        assertFalse(new InlineExpressionCompiler("t_order_${order_id % 2").compile().isPresent());
+    }
+    
+    @Test
+    public void assertEvaluateSameAsGroovy() {
+        List<String> expressions = Arrays.asList("t_order", "t_order_${order_id}", "t_order_${order_id % 2}", "ds_${ order_id % 4 }_t_${order_id % 2}",
+                "t_order_${(order_id + 1) % 3}", "t_order_${order_id * 3 - 1}", "t_order_${order_id % 4294967296}", "t_order_${order_id * 65536 * 65536}");
+        List<Comparable<?>> values = Arrays.<Comparable<?>>asList(0, 1, -7, Integer.MAX_VALUE, Integer.MIN_VALUE, 10L, -11L, Long.MAX_VALUE, (short) 5, (byte) 3);
+        for (String each : expressions) {
+            CompiledInlineExpression compiledInlineExpression = new InlineExpressionCompiler(each).compile().get();
+            Closure<?> closure = new InlineExpressionParser(each).evaluateClosure();
+            for (Comparable<?> value : values) {
+                assertThat(each + " with " + value, compiledInlineExpression.evaluate("order_id", value).get(), is(evaluateWithGroovy(closure, value)));
+            }
+        }
+    }
+    
+    @Test
+    public void assertEvaluateWithStringValue() {
+        assertThat(new InlineExpressionCompiler("t_order_${order_id}").compile().get().evaluate("order_id", "foo").get(), is("t_order_foo"));
+        assertFalse(new InlineExpressionCompiler("t_order_${order_id % 2}").compile().get().evaluate("order_id", "foo").isPresent());
+    }
+    
+    @Test
+    public void assertEvaluateForUnsupportedValue() {
+        CompiledInlineExpression compiledInlineExpression = new InlineExpressionCompiler("t_order_${order_id % 2}").compile().get();
+        assertFalse(compiledInlineExpression.evaluate("order_id", 1.5D).isPresent());
+        assertFalse(compiledInlineExpression.evaluate("ORDER_ID", 1).isPresent());
+        assertTrue(compiledInlineExpression.evaluate("order_id", 1).isPresent());
+    }
+    
+    private String evaluateWithGroovy(final Closure<?> closure, final Comparable<?> value) {
+        Closure<?> result = closure.rehydrate(new Expando(), null, null);
+        result.setResolveStrategy(Closure.DELEGATE_ONLY);
+        result.setProperty("order_id", value);
+        return result.call().toString();
+    }
+}
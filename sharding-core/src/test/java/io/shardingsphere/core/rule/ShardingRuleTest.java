@@ -35,6 +35,7 @@ import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
@@ -292,9 +293,33 @@ public final class ShardingRuleTest {
         shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
         ShardingRule actual = new ShardingRule(shardingRuleConfig, createDataSourceNames());
         assertTrue(actual.tryFindTableRuleByActualTable("table_0").isPresent());
+        assertTrue(actual.tryFindTableRuleByActualTable("TABLE_1").isPresent());
         assertFalse(actual.tryFindTableRuleByActualTable("table_3").isPresent());
     }
     
+    @Test
+    public void assertGetTableRuleWithDefaultDataSourceOnlyOnce() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.setDefaultDataSourceName("ds0");
+        shardingRuleConfig.getTableRuleConfigs().add(createTableRuleConfig());
+        ShardingRule actual = new ShardingRule(shardingRuleConfig, createDataSourceNames());
+        TableRule tableRule = actual.getTableRuleByLogicTableName("other_Table");
+        assertThat(tableRule.getActualDataNodes(), is(Collections.singletonList(new DataNode("ds0", "other_table"))));
+        assertThat(actual.getTableRuleByLogicTableName("OTHER_TABLE"), sameInstance(tableRule));
+    }
+    
+    @Test
+    public void assertGetTableRuleWithDefaultDataSourceBeyondMaximumSize() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.setDefaultDataSourceName("ds0");
+        shardingRuleConfig.getTableRuleConfigs().add(createTableRuleConfig());
+        ShardingRule actual = new ShardingRule(shardingRuleConfig, createDataSourceNames());
+        for (int i = 0; i < 1100; i++) {
+            actual.getTableRuleByLogicTableName("other_table_" + i);
+        }
+        assertThat(actual.getTableRuleByLogicTableName("other_table_0").getActualDataNodes(), is(Collections.singletonList(new DataNode("ds0", "other_table_0"))));
+    }
+    
     @Test
     public void assertIsAllInDefaultDataSource() {
         ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
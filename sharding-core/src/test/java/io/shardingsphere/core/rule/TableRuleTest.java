@@ -27,9 +27,12 @@ import org.junit.Test;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
@@ -107,6 +110,28 @@ public final class TableRuleTest {
         assertThat(actual.findActualTableIndex("ds1", "table_1"), is(4));
     }
     
+    @Test
+    public void assertFindActualTableIndexIgnoreCase() {
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration();
+        tableRuleConfig.setLogicTable("LOGIC_TABLE");
+        tableRuleConfig.setActualDataNodes("ds${0..1}.table_${0..2}");
+        TableRule actual = new TableRule(tableRuleConfig, createShardingDataSourceNames());
+        assertThat(actual.findActualTableIndex("DS1", "TABLE_2"), is(5));
+    }
+    
+    @Test
+    public void assertGetDataNodeGroups() {
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration();
+        tableRuleConfig.setLogicTable("LOGIC_TABLE");
+        tableRuleConfig.setActualDataNodes("ds${0..1}.table_${0..1}");
+        TableRule actual = new TableRule(tableRuleConfig, createShardingDataSourceNames());
+        Map<String, Collection<String>> expected = new LinkedHashMap<>(2, 1);
+        expected.put("ds0", Arrays.asList("table_0", "table_1"));
+        expected.put("ds1", Arrays.asList("table_0", "table_1"));
+        assertThat(actual.getDataNodeGroups(), is(expected));
+        assertThat(actual.getDataNodeGroups(), sameInstance(actual.getDataNodeGroups()));
+    }
+    
     @Test
     public void assertNotFindActualTableIndex() {
         TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration();
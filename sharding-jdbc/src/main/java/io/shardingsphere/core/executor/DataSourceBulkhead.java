@@ -0,0 +1,125 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListenableFutureTask;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.shardingsphere.core.constant.ExecutorRejectedPolicy;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulkhead which isolates execute units of each data source in bounded thread pool.
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class DataSourceBulkhead implements AutoCloseable {
+    
+    private final int poolSize;
+    
+    private final int queueSize;
+    
+    private final ExecutorRejectedPolicy rejectedPolicy;
+    
+    private final ConcurrentMap<String, ThreadPoolExecutor> executors = new ConcurrentHashMap<>();
+    
+    /**
+     * Submit task to thread pool of data source.
+     *
+     * @param dataSourceName data source name
+     * @param task task to be executed
+     * @param <T> class type of return value
+     * @return future of task
+     */
+    public <T> ListenableFuture<T> submit(final String dataSourceName, final Callable<T> task) {
+        ListenableFutureTask<T> result = ListenableFutureTask.create(task);
+        getExecutor(dataSourceName).execute(result);
+        return result;
+    }
+    
+    private ThreadPoolExecutor getExecutor(final String dataSourceName) {
+        ThreadPoolExecutor result = executors.get(dataSourceName);
+        if (null != result) {
+            return result;
+        }
+        result = createExecutor(dataSourceName);
+        ThreadPoolExecutor existedExecutor = executors.putIfAbsent(dataSourceName, result);
+        if (null != existedExecutor) {
+            result.shutdown();
+            return existedExecutor;
+        }
+        return result;
+    }
+    
+    private ThreadPoolExecutor createExecutor(final String dataSourceName) {
+        ThreadPoolExecutor result = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(queueSize), 
+                new ThreadFactoryBuilder().setDaemon(true).setNameFormat("Sharding-JDBC-" + dataSourceName.replace("%", "%%") + "-%d").build(), new DataSourceRejectedExecutionHandler(dataSourceName));
+        result.allowCoreThreadTimeOut(true);
+        return result;
+    }
+    
+    /**
+     * Get statistics of thread pools.
+     *
+     * @return statistics of thread pools
+     */
+    public Collection<ExecutorStatistics> getStatistics() {
+        Collection<ExecutorStatistics> result = new ArrayList<>(executors.size());
+        for (Map.Entry<String, ThreadPoolExecutor> entry : executors.entrySet()) {
+            ThreadPoolExecutor executor = entry.getValue();
+            result.add(new ExecutorStatistics(
+                    entry.getKey(), executor.getPoolSize(), executor.getActiveCount(), executor.getQueue().size(), executor.getQueue().remainingCapacity(), executor.getCompletedTaskCount()));
+        }
+        return result;
+    }
+    
+    @Override
+    public void close() {
+        for (ThreadPoolExecutor each : executors.values()) {
+            each.shutdown();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private final class DataSourceRejectedExecutionHandler implements RejectedExecutionHandler {
+        
+        private final String dataSourceName;
+        
+        @Override
+        public void rejectedExecution(final Runnable task, final ThreadPoolExecutor executor) {
+            if (ExecutorRejectedPolicy.CALLER_RUNS == rejectedPolicy && !executor.isShutdown()) {
+                task.run();
+                return;
+            }
+            throw new RejectedExecutionException(String.format("Execute units of data source '%s' are rejected, pool size: %d, queue size: %d.", dataSourceName, poolSize, queueSize));
+        }
+    }
+}
@@ -17,6 +17,10 @@
 
 package io.shardingsphere.core.executor;
 
+import com.google.common.base.Optional;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
@@ -33,15 +37,22 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * SQL execute engine.
@@ -54,13 +65,22 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 public abstract class ExecutorEngine implements AutoCloseable {
     
+    private static final int CANCEL_TIMEOUT_SECONDS = 5;
+    
     private static final ThreadPoolExecutor SHUTDOWN_EXECUTOR = new ThreadPoolExecutor(
             0, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(10), new ThreadFactoryBuilder().setDaemon(true).setNameFormat("Sharding-JDBC-ExecutorEngineCloseTimer").build());
     
     @Getter
     private final ListeningExecutorService executorService;
     
+    private final Optional<DataSourceBulkhead> bulkhead;
+    
     public ExecutorEngine(final int executorSize) {
+        this(executorSize, Optional.<DataSourceBulkhead>absent());
+    }
+    
+    public ExecutorEngine(final int executorSize, final Optional<DataSourceBulkhead> bulkhead) {
+        this.bulkhead = bulkhead;
         if (0 == executorSize) {
             executorService = MoreExecutors.listeningDecorator(new ThreadPoolExecutor(
                 0, Integer.MAX_VALUE, 60L, TimeUnit.SECONDS, new SynchronousQueue<Runnable>(), new ThreadFactoryBuilder().setDaemon(true).setNameFormat("Sharding-JDBC-%d").build()));
@@ -86,10 +106,20 @@ public abstract class ExecutorEngine implements AutoCloseable {
         if (baseStatementUnits.isEmpty()) {
             return Collections.emptyList();
         }
+        if (!EventBusInstance.getInstance().hasSubscribers(OverallExecutionEvent.class)) {
+            try {
+                return executeStatementUnits(sqlType, baseStatementUnits, executeCallback);
+                // CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+                // CHECKSTYLE:ON
+                ExecutorExceptionHandler.handleException(ex);
+                return null;
+            }
+        }
         OverallExecutionEvent event = new OverallExecutionEvent(sqlType, baseStatementUnits.size());
         EventBusInstance.getInstance().post(event);
         try {
-            List<T> result = getExecuteResults(sqlType, baseStatementUnits, executeCallback);
+            List<T> result = executeStatementUnits(sqlType, baseStatementUnits, executeCallback);
             event.setEventExecutionType(EventExecutionType.EXECUTE_SUCCESS);
             EventBusInstance.getInstance().post(event);
             return result;
@@ -104,34 +134,223 @@ public abstract class ExecutorEngine implements AutoCloseable {
         }
     }
     
+    private <T> List<T> executeStatementUnits(
+            final SQLType sqlType, final Collection<? extends BaseStatementUnit> baseStatementUnits, final ExecuteCallback<T> executeCallback) throws Exception {
+        return 1 == baseStatementUnits.size()
+                ? Collections.singletonList(executeInline(sqlType, baseStatementUnits.iterator().next(), executeCallback)) : getExecuteResults(sqlType, baseStatementUnits, executeCallback);
+    }
+    
     protected abstract <T> List<T> getExecuteResults(SQLType sqlType, Collection<? extends BaseStatementUnit> baseStatementUnits, ExecuteCallback<T> executeCallback) throws Exception;
     
+    /**
+     * Submit task to executor of data source.
+     * 
+     * <p>Task will be submitted to bulkhead of data source if adaptive executor enabled, otherwise to shared executor service.</p>
+     *
+     * @param dataSourceName data source name
+     * @param task task to be executed
+     * @param <T> class type of return value
+     * @return future of task
+     */
+    protected final <T> ListenableFuture<T> submit(final String dataSourceName, final Callable<T> task) {
+        return bulkhead.isPresent() ? bulkhead.get().submit(dataSourceName, task) : executorService.submit(task);
+    }
+    
+    /**
+     * Execute groups of statement units.
+     * 
+     * <p>
+     * Groups except the first are submitted before the first group executes on caller thread, then they are awaited together.
+     * Failure of any submitted group cancels statements of the first group, so it surfaces as soon as that group completes.
+     * When any group fails or the fan-out timeout elapses, unstarted groups are cancelled and statements of running groups are cancelled before return.
+     * Fan-out timeout is the max query timeout of statements, which bounds waiting in executor queues and units of the first group too.
+     * </p>
+     *
+     * @param sqlType SQL type
+     * @param baseStatementUnitGroups groups of statement units, units in same group execute serially
+     * @param executeCallback execute callback
+     * @param <T> class type of return value
+     * @return execute results in order of groups
+     * @throws Exception exception of any group
+     */
+    protected final <T> List<T> executeGroups(
+            final SQLType sqlType, final List<? extends Collection<? extends BaseStatementUnit>> baseStatementUnitGroups, final ExecuteCallback<T> executeCallback) throws Exception {
+        final long startTime = System.nanoTime();
+        final int fanOutTimeoutSeconds = getFanOutTimeoutSeconds(baseStatementUnitGroups);
+        final boolean isExceptionThrown = ExecutorExceptionHandler.isExceptionThrown();
+        final Map<String, Object> dataMap = ExecutorDataMap.getDataMap();
+        final AtomicBoolean aborted = new AtomicBoolean();
+        final Collection<? extends BaseStatementUnit> firstGroup = baseStatementUnitGroups.get(0);
+        List<? extends Collection<? extends BaseStatementUnit>> restGroups = baseStatementUnitGroups.subList(1, baseStatementUnitGroups.size());
+        List<ListenableFuture<List<T>>> restFutures = new ArrayList<>(restGroups.size());
+        List<AtomicBoolean> restStartedFlags = new ArrayList<>(restGroups.size());
+        ListenableFuture<List<List<T>>> restFuture = null;
+        try {
+            for (final Collection<? extends BaseStatementUnit> each : restGroups) {
+                final AtomicBoolean started = new AtomicBoolean();
+                restStartedFlags.add(started);
+                restFutures.add(submit(each.iterator().next().getSqlExecutionUnit().getDataSource(), new Callable<List<T>>() {
+                    
+                    @Override
+                    public List<T> call() throws Exception {
+                        started.set(true);
+                        return executeGroup(sqlType, each, executeCallback, isExceptionThrown, dataMap, aborted, startTime, fanOutTimeoutSeconds);
+                    }
+                }));
+            }
+            restFuture = Futures.allAsList(restFutures);
+            Futures.addCallback(restFuture, new FutureCallback<List<List<T>>>() {
+                
+                @Override
+                public void onSuccess(final List<List<T>> result) {
+                }
+                
+                @Override
+                public void onFailure(final Throwable throwable) {
+                    if (!aborted.getAndSet(true)) {
+                        cancelStatements(firstGroup);
+                    }
+                }
+            });
+            List<T> result = new LinkedList<>(executeGroup(sqlType, firstGroup, executeCallback, isExceptionThrown, dataMap, aborted, startTime, fanOutTimeoutSeconds));
+            for (List<T> each : getFutureResult(restFuture, fanOutTimeoutSeconds, startTime)) {
+                result.addAll(each);
+            }
+            return result;
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            Optional<Exception> restFailure = getRestFailure(restFuture);
+            aborted.set(true);
+            cancel(restGroups, restFutures, restStartedFlags);
+            throw restFailure.or(ex);
+        }
+    }
+    
+    private int getFanOutTimeoutSeconds(final List<? extends Collection<? extends BaseStatementUnit>> baseStatementUnitGroups) throws SQLException {
+        int result = 0;
+        for (Collection<? extends BaseStatementUnit> each : baseStatementUnitGroups) {
+            for (BaseStatementUnit baseStatementUnit : each) {
+                result = Math.max(result, baseStatementUnit.getStatement().getQueryTimeout());
+            }
+        }
+        return result;
+    }
+    
+    private <T> List<T> executeGroup(final SQLType sqlType, final Collection<? extends BaseStatementUnit> baseStatementUnits, final ExecuteCallback<T> executeCallback, 
+                                     final boolean isExceptionThrown, final Map<String, Object> dataMap, final AtomicBoolean aborted,
+                                     final long startTime, final int timeoutSeconds) throws Exception {
+        List<T> result = new ArrayList<>(baseStatementUnits.size());
+        for (BaseStatementUnit each : baseStatementUnits) {
+            if (aborted.get()) {
+                break;
+            }
+            if (0 != timeoutSeconds && System.nanoTime() - startTime >= TimeUnit.SECONDS.toNanos(timeoutSeconds)) {
+                throw new SQLTimeoutException(String.format("Execute units are not finished in %s seconds.", timeoutSeconds));
+            }
+            result.add(executeInternal(sqlType, each, executeCallback, isExceptionThrown, dataMap));
+        }
+        return result;
+    }
+    
+    private <R> R getFutureResult(final ListenableFuture<R> future, final int timeoutSeconds, final long startTime) throws Exception {
+        try {
+            return 0 == timeoutSeconds ? future.get() : future.get(TimeUnit.SECONDS.toNanos(timeoutSeconds) - (System.nanoTime() - startTime), TimeUnit.NANOSECONDS);
+        } catch (final ExecutionException ex) {
+            throw ex.getCause() instanceof Exception ? (Exception) ex.getCause() : ex;
+        } catch (final TimeoutException ex) {
+            throw new SQLTimeoutException(String.format("Execute units are not finished in %s seconds.", timeoutSeconds), ex);
+        }
+    }
+    
+    private Optional<Exception> getRestFailure(final ListenableFuture<?> restFuture) {
+        if (null == restFuture || !restFuture.isDone() || restFuture.isCancelled()) {
+            return Optional.absent();
+        }
+        try {
+            restFuture.get();
+            return Optional.absent();
+        } catch (final ExecutionException ex) {
+            return ex.getCause() instanceof Exception ? Optional.of((Exception) ex.getCause()) : Optional.<Exception>absent();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return Optional.absent();
+        }
+    }
+    
+    private <R> void cancel(final List<? extends Collection<? extends BaseStatementUnit>> baseStatementUnitGroups, 
+                            final List<ListenableFuture<R>> futures, final List<AtomicBoolean> startedFlags) {
+        List<ListenableFuture<R>> runningFutures = new LinkedList<>();
+        for (int i = 0; i < futures.size(); i++) {
+            ListenableFuture<R> future = futures.get(i);
+            if (future.isDone() || !startedFlags.get(i).get() && future.cancel(false)) {
+                continue;
+            }
+            cancelStatements(baseStatementUnitGroups.get(i));
+            runningFutures.add(future);
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(CANCEL_TIMEOUT_SECONDS);
+        for (ListenableFuture<R> each : runningFutures) {
+            try {
+                each.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (final ExecutionException | CancellationException ignored) {
+            } catch (final TimeoutException ex) {
+                log.warn("Cancelled execute units are not finished in {} seconds", CANCEL_TIMEOUT_SECONDS);
+                return;
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+    
+    private void cancelStatements(final Collection<? extends BaseStatementUnit> baseStatementUnits) {
+        for (BaseStatementUnit each : baseStatementUnits) {
+            try {
+                each.getStatement().cancel();
+            } catch (final SQLException ex) {
+                log.warn("Cancel statement failure", ex);
+            }
+        }
+    }
+    
     protected <T> T executeInternal(final SQLType sqlType, final BaseStatementUnit baseStatementUnit, final ExecuteCallback<T> executeCallback,
                                   final boolean isExceptionThrown, final Map<String, Object> dataMap) throws Exception {
-        T result;
         ExecutorExceptionHandler.setExceptionThrown(isExceptionThrown);
         ExecutorDataMap.setDataMap(dataMap);
-        List<AbstractExecutionEvent> events = new LinkedList<>();
-        for (List<Object> each : baseStatementUnit.getSqlExecutionUnit().getSqlUnit().getParameterSets()) {
-            events.add(getExecutionEvent(sqlType, baseStatementUnit, each));
-        }
-        for (AbstractExecutionEvent event : events) {
-            EventBusInstance.getInstance().post(event);
-        }
+        return executeInline(sqlType, baseStatementUnit, executeCallback);
+    }
+    
+    private <T> T executeInline(final SQLType sqlType, final BaseStatementUnit baseStatementUnit, final ExecuteCallback<T> executeCallback) throws Exception {
+        Collection<AbstractExecutionEvent> events = createExecutionEvents(sqlType, baseStatementUnit);
+        EventBusInstance.getInstance().postAll(events);
+        T result;
         try {
             result = executeCallback.execute(baseStatementUnit);
         } catch (final SQLException ex) {
             for (AbstractExecutionEvent each : events) {
                 each.setEventExecutionType(EventExecutionType.EXECUTE_FAILURE);
                 each.setException(ex);
-                EventBusInstance.getInstance().post(each);
-                ExecutorExceptionHandler.handleException(ex);
             }
+            EventBusInstance.getInstance().postAll(events);
+            ExecutorExceptionHandler.handleException(ex);
             return null;
         }
         for (AbstractExecutionEvent each : events) {
             each.setEventExecutionType(EventExecutionType.EXECUTE_SUCCESS);
-            EventBusInstance.getInstance().post(each);
+        }
+        EventBusInstance.getInstance().postAll(events);
+        return result;
+    }
+    
+    private Collection<AbstractExecutionEvent> createExecutionEvents(final SQLType sqlType, final BaseStatementUnit baseStatementUnit) {
+        if (!EventBusInstance.getInstance().hasSubscribers(SQLType.DQL == sqlType ? DQLExecutionEvent.class : DMLExecutionEvent.class)) {
+            return Collections.emptyList();
+        }
+        List<List<Object>> parameterSets = baseStatementUnit.getSqlExecutionUnit().getSqlUnit().getParameterSets();
+        Collection<AbstractExecutionEvent> result = new ArrayList<>(parameterSets.size());
+        for (List<Object> each : parameterSets) {
+            result.add(getExecutionEvent(sqlType, baseStatementUnit, each));
         }
         return result;
     }
@@ -146,8 +365,20 @@ public abstract class ExecutorEngine implements AutoCloseable {
         return result;
     }
     
+    /**
+     * Get statistics of data source thread pools.
+     *
+     * @return statistics of data source thread pools, empty if adaptive executor disabled
+     */
+    public Collection<ExecutorStatistics> getStatistics() {
+        return bulkhead.isPresent() ? bulkhead.get().getStatistics() : Collections.<ExecutorStatistics>emptyList();
+    }
+    
     @Override
     public void close() {
+        if (bulkhead.isPresent()) {
+            bulkhead.get().close();
+        }
         SHUTDOWN_EXECUTOR.execute(new Runnable() {
             
             @Override
@@ -68,12 +68,12 @@ public final class BatchPreparedStatementExecutor {
         int[] result = new int[batchCount];
         int count = 0;
         for (BatchPreparedStatementUnit each : batchPreparedStatementUnits) {
-            for (Map.Entry<Integer, Integer> entry : each.getJdbcAndActualAddBatchCallTimesMap().entrySet()) {
-                int value = null == results.get(count) ? 0 : results.get(count)[entry.getValue()];
+            for (Map.Entry<Integer, Integer> entry : each.getActualAndJdbcAddBatchCallTimesMap().entrySet()) {
+                int value = null == results.get(count) ? 0 : results.get(count)[entry.getKey()];
                 if (DatabaseType.Oracle == dbType) {
-                    result[entry.getKey()] = value;
+                    result[entry.getValue()] = value;
                 } else {
-                    result[entry.getKey()] += value;
+                    result[entry.getValue()] += value;
                 }
             }
             count++;
@@ -40,17 +40,28 @@ public final class BatchPreparedStatementUnit implements BaseStatementUnit {
     
     private final PreparedStatement statement;
     
-    private final Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap = new LinkedHashMap<>();
+    private final Map<Integer, Integer> actualAndJdbcAddBatchCallTimesMap = new LinkedHashMap<>();
     
     @Getter(AccessLevel.NONE)
     private int actualCallAddBatchTimes;
     
     /**
-     * Map times of use JDBC API call addBatch and times of actual call addBatch after route.
+     * Map times of actual call addBatch after route and times of use JDBC API call addBatch.
+     * 
+     * <p>One JDBC API call addBatch may be mapped by several actual calls of same statement, if insert values are split into same SQL.</p>
      * 
      * @param jdbcAddBatchTimes times of use JDBC API call addBatch
      */
     public void mapAddBatchCount(final int jdbcAddBatchTimes) {
-        jdbcAndActualAddBatchCallTimesMap.put(jdbcAddBatchTimes, actualCallAddBatchTimes++);
+        actualAndJdbcAddBatchCallTimesMap.put(actualCallAddBatchTimes++, jdbcAddBatchTimes);
+    }
+    
+    /**
+     * Reset add batch count after batch executed, statement is reused for following add batch.
+     */
+    public void resetAddBatchCount() {
+        actualAndJdbcAddBatchCallTimesMap.clear();
+        actualCallAddBatchTimes = 0;
+        sqlExecutionUnit.getSqlUnit().getParameterSets().clear();
     }
 }
@@ -0,0 +1,260 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.type.connection;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Chunked column vector of memory query result.
+ * 
+ * <p>
+ * Values are kept in primitive chunks while all non null values of the column share one of the supported types,
+ * strings are packed into UTF-8 bytes, and the vector falls back to object chunks when the types are mixed.
+ * </p>
+ *
+ * @author zhangliang
+ */
+final class ColumnVector {
+    
+    private static final int CHUNK_SHIFT = 10;
+    
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    
+    private static final int INITIAL_CHUNK_CAPACITY = 16;
+    
+    private final List<long[]> nullBitmaps = new ArrayList<>();
+    
+    private final List<Object> chunks = new ArrayList<>();
+    
+    private VectorType type = VectorType.NULL;
+    
+    private int lastChunkCapacity;
+    
+    private int size;
+    
+    /**
+     * Append value.
+     * 
+     * @param value value to be appended
+     */
+    void add(final Object value) {
+        int offset = size & CHUNK_MASK;
+        if (0 == offset) {
+            lastChunkCapacity = chunks.isEmpty() ? INITIAL_CHUNK_CAPACITY : CHUNK_SIZE;
+            nullBitmaps.add(new long[CHUNK_SIZE >>> 6]);
+            chunks.add(newChunk(type, lastChunkCapacity));
+        } else if (offset == lastChunkCapacity) {
+            lastChunkCapacity = Math.min(lastChunkCapacity << 1, CHUNK_SIZE);
+            chunks.set(chunks.size() - 1, growChunk(chunks.get(chunks.size() - 1), lastChunkCapacity));
+        }
+        if (null == value) {
+            nullBitmaps.get(nullBitmaps.size() - 1)[offset >>> 6] |= 1L << offset;
+            if (VectorType.STRING == type) {
+                ((StringChunk) chunks.get(chunks.size() - 1)).add(offset, null);
+            }
+            size++;
+            return;
+        }
+        VectorType valueType = VectorType.of(value);
+        if (VectorType.NULL == type) {
+            allocateChunks(valueType);
+        } else if (type != valueType && VectorType.OBJECT != type) {
+            convertToObjectChunks();
+        }
+        setValue(chunks.get(chunks.size() - 1), offset, value);
+        size++;
+    }
+    
+    /**
+     * Judge value is null or not.
+     * 
+     * @param rowIndex row index, start from 0
+     * @return value is null or not
+     */
+    boolean isNull(final int rowIndex) {
+        int offset = rowIndex & CHUNK_MASK;
+        return 0 != (nullBitmaps.get(rowIndex >>> CHUNK_SHIFT)[offset >>> 6] & 1L << offset);
+    }
+    
+    /**
+     * Get value.
+     * 
+     * @param rowIndex row index, start from 0
+     * @return value
+     */
+    Object get(final int rowIndex) {
+        if (isNull(rowIndex)) {
+            return null;
+        }
+        Object chunk = chunks.get(rowIndex >>> CHUNK_SHIFT);
+        int offset = rowIndex & CHUNK_MASK;
+        switch (type) {
+            case INTEGER:
+                return ((int[]) chunk)[offset];
+            case LONG:
+                return ((long[]) chunk)[offset];
+            case DOUBLE:
+                return ((double[]) chunk)[offset];
+            case STRING:
+                return ((StringChunk) chunk).get(offset);
+            default:
+                return ((Object[]) chunk)[offset];
+        }
+    }
+    
+    private void allocateChunks(final VectorType vectorType) {
+        type = vectorType;
+        int lastIndex = chunks.size() - 1;
+        for (int i = 0; i < lastIndex; i++) {
+            chunks.set(i, newChunk(type, CHUNK_SIZE));
+        }
+        chunks.set(lastIndex, newChunk(type, lastChunkCapacity));
+    }
+    
+    private void convertToObjectChunks() {
+        List<Object> objectChunks = new ArrayList<>(chunks.size());
+        int lastIndex = chunks.size() - 1;
+        for (int i = 0; i <= lastIndex; i++) {
+            Object[] objectChunk = new Object[i == lastIndex ? lastChunkCapacity : CHUNK_SIZE];
+            int rowCount = Math.min(CHUNK_SIZE, size - (i << CHUNK_SHIFT));
+            for (int offset = 0; offset < rowCount; offset++) {
+                objectChunk[offset] = get((i << CHUNK_SHIFT) + offset);
+            }
+            objectChunks.add(objectChunk);
+        }
+        chunks.clear();
+        chunks.addAll(objectChunks);
+        type = VectorType.OBJECT;
+    }
+    
+    private Object newChunk(final VectorType vectorType, final int capacity) {
+        switch (vectorType) {
+            case NULL:
+                return null;
+            case INTEGER:
+                return new int[capacity];
+            case LONG:
+                return new long[capacity];
+            case DOUBLE:
+                return new double[capacity];
+            case STRING:
+                return new StringChunk(capacity);
+            default:
+                return new Object[capacity];
+        }
+    }
+    
+    private Object growChunk(final Object chunk, final int capacity) {
+        switch (type) {
+            case NULL:
+                return null;
+            case INTEGER:
+                return Arrays.copyOf((int[]) chunk, capacity);
+            case LONG:
+                return Arrays.copyOf((long[]) chunk, capacity);
+            case DOUBLE:
+                return Arrays.copyOf((double[]) chunk, capacity);
+            case STRING:
+                ((StringChunk) chunk).grow(capacity);
+                return chunk;
+            default:
+                return Arrays.copyOf((Object[]) chunk, capacity);
+        }
+    }
+    
+    private void setValue(final Object chunk, final int offset, final Object value) {
+        switch (type) {
+            case INTEGER:
+                ((int[]) chunk)[offset] = (Integer) value;
+                break;
+            case LONG:
+                ((long[]) chunk)[offset] = (Long) value;
+                break;
+            case DOUBLE:
+                ((double[]) chunk)[offset] = (Double) value;
+                break;
+            case STRING:
+                ((StringChunk) chunk).add(offset, (String) value);
+                break;
+            default:
+                ((Object[]) chunk)[offset] = value;
+                break;
+        }
+    }
+    
+    private enum VectorType {
+        
+        NULL, INTEGER, LONG, DOUBLE, STRING, OBJECT;
+        
+        private static VectorType of(final Object value) {
+            if (value instanceof Integer) {
+                return INTEGER;
+            }
+            if (value instanceof Long) {
+                return LONG;
+            }
+            if (value instanceof Double) {
+                return DOUBLE;
+            }
+            if (value instanceof String) {
+                return STRING;
+            }
+            return OBJECT;
+        }
+    }
+    
+    private static final class StringChunk {
+        
+        private byte[] bytes = new byte[INITIAL_CHUNK_CAPACITY << 3];
+        
+        private int[] endOffsets;
+        
+        private StringChunk(final int capacity) {
+            endOffsets = new int[capacity];
+        }
+        
+        private void add(final int offset, final String value) {
+            int start = 0 == offset ? 0 : endOffsets[offset - 1];
+            if (null == value) {
+                endOffsets[offset] = start;
+                return;
+            }
+            byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+            int end = start + encoded.length;
+            if (end > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length << 1, end));
+            }
+            System.arraycopy(encoded, 0, bytes, start, encoded.length);
+            endOffsets[offset] = end;
+        }
+        
+        private String get(final int offset) {
+            int start = 0 == offset ? 0 : endOffsets[offset - 1];
+            return new String(bytes, start, endOffsets[offset] - start, StandardCharsets.UTF_8);
+        }
+        
+        private void grow(final int capacity) {
+            endOffsets = Arrays.copyOf(endOffsets, capacity);
+        }
+    }
+}
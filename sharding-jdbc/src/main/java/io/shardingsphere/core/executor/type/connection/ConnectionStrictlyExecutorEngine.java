@@ -17,13 +17,12 @@
 
 package io.shardingsphere.core.executor.type.connection;
 
-import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.base.Optional;
 import io.shardingsphere.core.constant.SQLType;
 import io.shardingsphere.core.executor.BaseStatementUnit;
+import io.shardingsphere.core.executor.DataSourceBulkhead;
 import io.shardingsphere.core.executor.ExecuteCallback;
 import io.shardingsphere.core.executor.ExecutorEngine;
-import io.shardingsphere.core.executor.threadlocal.ExecutorDataMap;
-import io.shardingsphere.core.executor.threadlocal.ExecutorExceptionHandler;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -31,8 +30,6 @@ import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutionException;
 
 /**
  * Connection strictly execute engine.
@@ -45,12 +42,13 @@ public final class ConnectionStrictlyExecutorEngine extends ExecutorEngine {
         super(executorSize);
     }
     
+    public ConnectionStrictlyExecutorEngine(final int executorSize, final Optional<DataSourceBulkhead> bulkhead) {
+        super(executorSize, bulkhead);
+    }
+    
     @Override
     protected <T> List<T> getExecuteResults(final SQLType sqlType, final Collection<? extends BaseStatementUnit> baseStatementUnits, final ExecuteCallback<T> executeCallback) throws Exception {
-        Map<String, Collection<BaseStatementUnit>> baseStatementUnitGroups = getBaseStatementUnitGroups(baseStatementUnits);
-        Collection<T> firstOutputs = syncExecute(sqlType, baseStatementUnitGroups.remove(baseStatementUnitGroups.keySet().iterator().next()), executeCallback);
-        Collection<ListenableFuture<Collection<T>>> restResultFutures = asyncExecute(sqlType, baseStatementUnitGroups, executeCallback);
-        return getResultList(firstOutputs, restResultFutures);
+        return executeGroups(sqlType, new ArrayList<>(getBaseStatementUnitGroups(baseStatementUnits).values()), executeCallback);
     }
     
     private Map<String, Collection<BaseStatementUnit>> getBaseStatementUnitGroups(final Collection<? extends BaseStatementUnit> baseStatementUnits) {
@@ -64,42 +62,4 @@ public final class ConnectionStrictlyExecutorEngine extends ExecutorEngine {
         }
         return result;
     }
-    
-    private <T> Collection<ListenableFuture<Collection<T>>> asyncExecute(
-            final SQLType sqlType, final Map<String, Collection<BaseStatementUnit>> baseStatementUnitGroups, final ExecuteCallback<T> executeCallback) {
-        Collection<ListenableFuture<Collection<T>>> result = new ArrayList<>(baseStatementUnitGroups.size());
-        final boolean isExceptionThrown = ExecutorExceptionHandler.isExceptionThrown();
-        final Map<String, Object> dataMap = ExecutorDataMap.getDataMap();
-        for (Map.Entry<String, Collection<BaseStatementUnit>> entry : baseStatementUnitGroups.entrySet()) {
-            final Collection<BaseStatementUnit> baseStatementUnits = entry.getValue();
-            result.add(getExecutorService().submit(new Callable<Collection<T>>() {
-                @Override
-                public Collection<T> call() throws Exception {
-                    Collection<T> result = new LinkedList<>();
-                    for (BaseStatementUnit each : baseStatementUnits) {
-                        result.add(executeInternal(sqlType, each, executeCallback, isExceptionThrown, dataMap));
-                    }
-                    return result;
-                }
-            }));
-        }
-        return result;
-    }
-    
-    private <T> Collection<T> syncExecute(final SQLType sqlType, final Collection<? extends BaseStatementUnit> baseStatementUnits, final ExecuteCallback<T> executeCallback) throws Exception {
-        Collection<T> result = new LinkedList<>();
-        for (BaseStatementUnit each : baseStatementUnits) {
-            result.add(executeInternal(sqlType, each, executeCallback, ExecutorExceptionHandler.isExceptionThrown(), ExecutorDataMap.getDataMap()));
-        }
-        return result;
-    }
-    
-    private <T> List<T> getResultList(final Collection<T> firstOutputs, final Collection<ListenableFuture<Collection<T>>> restResultFutures) throws ExecutionException, InterruptedException {
-        List<T> result = new LinkedList<>();
-        result.addAll(firstOutputs);
-        for (ListenableFuture<Collection<T>> each : restResultFutures) {
-            result.addAll(each.get());
-        }
-        return result;
-    }
 }
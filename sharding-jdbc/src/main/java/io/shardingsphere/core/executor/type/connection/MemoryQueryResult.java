@@ -25,110 +25,137 @@ import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Calendar;
-import java.util.Collection;
 import java.util.HashMap;
-import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 
 /**
  * Query result for memory loading.
+ * 
+ * <p>
+ * Rows are loaded into column vectors to avoid boxing every cell and allocating per row.
+ * </p>
  *
  * @author zhangliang
  * @author panjuan
  */
 public final class MemoryQueryResult implements QueryResult {
     
+    private final List<String> columnLabels;
+    
     private final Map<String, Integer> columnLabelAndIndexMap;
     
-    private final Iterator<List<Object>> resultData;
+    private final ColumnVector[] columnVectors;
     
-    private List<Object> currentRow;
+    private final int rowCount;
     
-    public MemoryQueryResult(final ResultSet resultSet) throws SQLException {
-        columnLabelAndIndexMap = getMetaData(resultSet.getMetaData());
-        resultData = getResultData(resultSet);
-    }
+    private int currentRowIndex = -1;
     
-    private Map<String, Integer> getMetaData(final ResultSetMetaData resultSetMetaData) throws SQLException {
-        Map<String, Integer> result = new HashMap<>();
-        for (int columnIndex = 1; columnIndex <= resultSetMetaData.getColumnCount(); columnIndex++) {
-            result.put(resultSetMetaData.getColumnLabel(columnIndex), columnIndex);
+    private boolean wasNull;
+    
+    public MemoryQueryResult(final ResultSet resultSet) throws SQLException {
+        ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
+        int columnCount = resultSetMetaData.getColumnCount();
+        columnLabels = new ArrayList<>(columnCount);
+        columnLabelAndIndexMap = new HashMap<>(columnCount, 1);
+        columnVectors = new ColumnVector[columnCount];
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            String columnLabel = resultSetMetaData.getColumnLabel(columnIndex);
+            columnLabels.add(columnLabel);
+            if (!columnLabelAndIndexMap.containsKey(columnLabel)) {
+                columnLabelAndIndexMap.put(columnLabel, columnIndex);
+            }
+            columnVectors[columnIndex - 1] = new ColumnVector();
         }
-        return result;
+        rowCount = loadRows(resultSet);
     }
     
-    private Iterator<List<Object>> getResultData(final ResultSet resultSet) throws SQLException {
-        Collection<List<Object>> result = new LinkedList<>();
+    private int loadRows(final ResultSet resultSet) throws SQLException {
+        int result = 0;
         while (resultSet.next()) {
-            List<Object> row = new ArrayList<>(columnLabelAndIndexMap.size());
-            for (int columnIndex = 1; columnIndex <= resultSet.getMetaData().getColumnCount(); columnIndex++) {
-                row.add(resultSet.getObject(columnIndex));
+            for (int i = 0; i < columnVectors.length; i++) {
+                columnVectors[i].add(resultSet.getObject(i + 1));
             }
-            result.add(row);
+            result++;
         }
-        return result.iterator();
+        return result;
     }
     
     @Override
     public boolean next() {
-        if (resultData.hasNext()) {
-            currentRow = resultData.next();
+        if (currentRowIndex + 1 < rowCount) {
+            currentRowIndex++;
             return true;
         }
-        currentRow = null;
+        currentRowIndex = rowCount;
         return false;
     }
     
     @Override
-    public Object getValue(final int columnIndex, final Class<?> type) {
-        return currentRow.get(columnIndex - 1);
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        return getCurrentValue(columnIndex);
     }
     
     @Override
-    public Object getValue(final String columnLabel, final Class<?> type) {
-        return currentRow.get(columnLabelAndIndexMap.get(columnLabel));
+    public Object getValue(final String columnLabel, final Class<?> type) throws SQLException {
+        return getCurrentValue(getColumnIndex(columnLabel));
     }
     
     @Override
-    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
-        return currentRow.get(columnIndex - 1);
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        return getCurrentValue(columnIndex);
     }
     
     @Override
-    public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) {
-        return currentRow.get(columnLabelAndIndexMap.get(columnLabel));
+    public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) throws SQLException {
+        return getCurrentValue(getColumnIndex(columnLabel));
     }
     
     @Override
-    public InputStream getInputStream(final int columnIndex, final String type) {
-        return (InputStream) currentRow.get(columnIndex - 1);
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        return (InputStream) getCurrentValue(columnIndex);
     }
     
     @Override
-    public InputStream getInputStream(final String columnLabel, final String type) {
-        return (InputStream) currentRow.get(columnLabelAndIndexMap.get(columnLabel));
+    public InputStream getInputStream(final String columnLabel, final String type) throws SQLException {
+        return (InputStream) getCurrentValue(getColumnIndex(columnLabel));
+    }
+    
+    private Object getCurrentValue(final int columnIndex) throws SQLException {
+        if (columnIndex < 1 || columnIndex > columnVectors.length) {
+            throw new SQLException("Column index out of range", "9999");
+        }
+        if (currentRowIndex < 0 || currentRowIndex >= rowCount) {
+            throw new SQLException("Cursor is not on a row", "9999");
+        }
+        Object result = columnVectors[columnIndex - 1].get(currentRowIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    private int getColumnIndex(final String columnLabel) throws SQLException {
+        Integer result = columnLabelAndIndexMap.get(columnLabel);
+        if (null == result) {
+            throw new SQLException(String.format("Column label '%s' not found", columnLabel), "9999");
+        }
+        return result;
     }
     
     @Override
     public boolean wasNull() {
-        return null == currentRow;
+        return wasNull;
     }
     
     @Override
     public int getColumnCount() {
-        return columnLabelAndIndexMap.size();
+        return columnVectors.length;
     }
     
     @Override
     public String getColumnLabel(final int columnIndex) throws SQLException {
-        for (Entry<String, Integer> entry : columnLabelAndIndexMap.entrySet()) {
-            if (columnIndex == entry.getValue()) {
-                return entry.getKey();
-            }
+        if (columnIndex < 1 || columnIndex > columnLabels.size()) {
+            throw new SQLException("Column index out of range", "9999");
         }
-        throw new SQLException("Column index out of range", "9999");
+        return columnLabels.get(columnIndex - 1);
     }
 }
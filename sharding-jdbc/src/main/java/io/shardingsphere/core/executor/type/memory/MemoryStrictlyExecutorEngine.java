@@ -17,23 +17,17 @@
 
 package io.shardingsphere.core.executor.type.memory;
 
-import com.google.common.collect.Lists;
-import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.base.Optional;
 import io.shardingsphere.core.constant.SQLType;
 import io.shardingsphere.core.executor.BaseStatementUnit;
+import io.shardingsphere.core.executor.DataSourceBulkhead;
 import io.shardingsphere.core.executor.ExecuteCallback;
 import io.shardingsphere.core.executor.ExecutorEngine;
-import io.shardingsphere.core.executor.threadlocal.ExecutorDataMap;
-import io.shardingsphere.core.executor.threadlocal.ExecutorExceptionHandler;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutionException;
 
 /**
  * Memory strictly execute engine.
@@ -46,42 +40,16 @@ public final class MemoryStrictlyExecutorEngine extends ExecutorEngine {
         super(executorSize);
     }
     
-    @Override
-    protected <T> List<T> getExecuteResults(final SQLType sqlType, final Collection<? extends BaseStatementUnit> baseStatementUnits, final ExecuteCallback<T> executeCallback) throws Exception {
-        Iterator<? extends BaseStatementUnit> iterator = baseStatementUnits.iterator();
-        T firstOutput = syncExecute(sqlType, iterator.next(), executeCallback);
-        Collection<ListenableFuture<T>> restFutures = asyncExecute(sqlType, Lists.newArrayList(iterator), executeCallback);
-        return getResultList(firstOutput, restFutures);
-    }
-    
-    private <T> Collection<ListenableFuture<T>> asyncExecute(
-            final SQLType sqlType, final Collection<BaseStatementUnit> baseStatementUnits, final ExecuteCallback<T> executeCallback) {
-        List<ListenableFuture<T>> result = new ArrayList<>(baseStatementUnits.size());
-        final boolean isExceptionThrown = ExecutorExceptionHandler.isExceptionThrown();
-        final Map<String, Object> dataMap = ExecutorDataMap.getDataMap();
-        for (final BaseStatementUnit each : baseStatementUnits) {
-            result.add(getExecutorService().submit(new Callable<T>() {
-                
-                @Override
-                public T call() throws Exception {
-                    return executeInternal(sqlType, each, executeCallback, isExceptionThrown, dataMap);
-                }
-            }));
-        }
-        return result;
+    public MemoryStrictlyExecutorEngine(final int executorSize, final Optional<DataSourceBulkhead> bulkhead) {
+        super(executorSize, bulkhead);
     }
     
-    private <T> T syncExecute(final SQLType sqlType, final BaseStatementUnit baseStatementUnit, final ExecuteCallback<T> executeCallback) throws Exception {
-        return executeInternal(sqlType, baseStatementUnit, executeCallback, ExecutorExceptionHandler.isExceptionThrown(), ExecutorDataMap.getDataMap());
-    }
-    
-    private <T> List<T> getResultList(final T firstOutput, final Collection<ListenableFuture<T>> restResultFutures) throws ExecutionException, InterruptedException {
-        List<T> result = new LinkedList<>();
-        result.add(firstOutput);
-        for (ListenableFuture<T> each : restResultFutures) {
-            result.add(each.get());
+    @Override
+    protected <T> List<T> getExecuteResults(final SQLType sqlType, final Collection<? extends BaseStatementUnit> baseStatementUnits, final ExecuteCallback<T> executeCallback) throws Exception {
+        List<Collection<BaseStatementUnit>> baseStatementUnitGroups = new ArrayList<>(baseStatementUnits.size());
+        for (BaseStatementUnit each : baseStatementUnits) {
+            baseStatementUnitGroups.add(Collections.singletonList(each));
         }
-        return result;
+        return executeGroups(sqlType, baseStatementUnitGroups, executeCallback);
     }
 }
-
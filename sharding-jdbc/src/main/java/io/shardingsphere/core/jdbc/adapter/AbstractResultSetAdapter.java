@@ -68,6 +68,11 @@ public abstract class AbstractResultSetAdapter extends AbstractUnsupportedOperat
     public final void close() throws SQLException {
         closed = true;
         Collection<SQLException> exceptions = new LinkedList<>();
+        try {
+            closeMergedResult();
+        } catch (final SQLException ex) {
+            exceptions.add(ex);
+        }
         for (ResultSet each : resultSets) {
             try {
                 each.close();
@@ -78,6 +83,8 @@ public abstract class AbstractResultSetAdapter extends AbstractUnsupportedOperat
         throwSQLExceptionIfNecessary(exceptions);
     }
     
+    protected abstract void closeMergedResult() throws SQLException;
+    
     @Override
     public final boolean isClosed() {
         return closed;
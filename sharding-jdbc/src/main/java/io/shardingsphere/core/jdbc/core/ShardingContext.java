@@ -21,6 +21,7 @@ import io.shardingsphere.core.constant.ConnectionMode;
 import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.executor.ExecutorEngine;
 import io.shardingsphere.core.metadata.ShardingMetaData;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
 import io.shardingsphere.core.rule.ShardingRule;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -51,4 +52,12 @@ public final class ShardingContext {
     private final ConnectionMode connectionMode;
     
     private final boolean showSQL;
+    
+    private final ParsingResultCache parsingResultCache;
+    
+    private final int groupByMemoryMergeBudget;
+    
+    private final int maxBatchSize;
+    
+    private final int maxInsertValuesSize;
 }
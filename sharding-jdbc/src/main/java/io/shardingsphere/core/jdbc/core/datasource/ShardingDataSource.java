@@ -17,13 +17,16 @@
 
 package io.shardingsphere.core.jdbc.core.datasource;
 
+import com.google.common.base.Optional;
 import io.shardingsphere.core.api.ConfigMapContext;
 import io.shardingsphere.core.api.config.MasterSlaveRuleConfiguration;
 import io.shardingsphere.core.api.config.ShardingRuleConfiguration;
 import io.shardingsphere.core.constant.ConnectionMode;
+import io.shardingsphere.core.constant.ExecutorRejectedPolicy;
 import io.shardingsphere.core.constant.properties.ShardingProperties;
 import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import io.shardingsphere.core.exception.ShardingException;
+import io.shardingsphere.core.executor.DataSourceBulkhead;
 import io.shardingsphere.core.executor.ExecutorEngine;
 import io.shardingsphere.core.executor.type.connection.ConnectionStrictlyExecutorEngine;
 import io.shardingsphere.core.executor.type.memory.MemoryStrictlyExecutorEngine;
@@ -32,6 +35,7 @@ import io.shardingsphere.core.jdbc.core.ShardingContext;
 import io.shardingsphere.core.jdbc.core.connection.ShardingConnection;
 import io.shardingsphere.core.jdbc.metadata.JDBCTableMetaDataConnectionManager;
 import io.shardingsphere.core.metadata.ShardingMetaData;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
 import io.shardingsphere.core.rule.MasterSlaveRule;
 import io.shardingsphere.core.rule.ShardingRule;
 import lombok.Getter;
@@ -72,13 +76,39 @@ public class ShardingDataSource extends AbstractDataSourceAdapter implements Aut
             ConfigMapContext.getInstance().getShardingConfig().putAll(configMap);
         }
         shardingProperties = new ShardingProperties(null == props ? new Properties() : props);
-        int executorSize = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_SIZE);
         ConnectionMode connectionMode = ConnectionMode.valueOf(shardingProperties.<String>getValue(ShardingPropertiesConstant.CONNECTION_MODE));
-        executorEngine = ConnectionMode.MEMORY_STRICTLY == connectionMode ? new MemoryStrictlyExecutorEngine(executorSize) : new ConnectionStrictlyExecutorEngine(executorSize);
+        executorEngine = createExecutorEngine(shardingProperties);
         ShardingMetaData shardingMetaData = new ShardingMetaData(
                 getDataSourceURLs(dataSourceMap), shardingRule, getDatabaseType(), executorEngine.getExecutorService(), new JDBCTableMetaDataConnectionManager(dataSourceMap));
         boolean showSQL = shardingProperties.getValue(ShardingPropertiesConstant.SQL_SHOW);
-        shardingContext = new ShardingContext(dataSourceMap, shardingRule, getDatabaseType(), executorEngine, shardingMetaData, connectionMode, showSQL);
+        long parsingResultCacheSize = shardingProperties.getValue(ShardingPropertiesConstant.PARSING_RESULT_CACHE_SIZE);
+        int groupByMemoryMergeBudget = shardingProperties.getValue(ShardingPropertiesConstant.GROUP_BY_MEMORY_MERGE_BUDGET);
+        int maxBatchSize = shardingProperties.getValue(ShardingPropertiesConstant.MAX_BATCH_SIZE);
+        int maxInsertValuesSize = shardingProperties.getValue(ShardingPropertiesConstant.MAX_INSERT_VALUES_SIZE);
+        shardingContext = new ShardingContext(dataSourceMap, shardingRule, getDatabaseType(), executorEngine, shardingMetaData, connectionMode, showSQL, 
+                new ParsingResultCache(parsingResultCacheSize), groupByMemoryMergeBudget, maxBatchSize, maxInsertValuesSize);
+    }
+    
+    private static ExecutorEngine createExecutorEngine(final ShardingProperties shardingProperties) {
+        int executorSize = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_SIZE);
+        ConnectionMode connectionMode = ConnectionMode.valueOf(shardingProperties.<String>getValue(ShardingPropertiesConstant.CONNECTION_MODE));
+        Optional<DataSourceBulkhead> bulkhead = Optional.absent();
+        if (shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.EXECUTOR_ADAPTIVE)) {
+            int queueSize = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_QUEUE_SIZE);
+            ExecutorRejectedPolicy rejectedPolicy = ExecutorRejectedPolicy.valueOf(shardingProperties.<String>getValue(ShardingPropertiesConstant.EXECUTOR_REJECTED_POLICY));
+            bulkhead = Optional.of(new DataSourceBulkhead(0 == executorSize ? Runtime.getRuntime().availableProcessors() * 2 : executorSize, queueSize, rejectedPolicy));
+        }
+        return ConnectionMode.MEMORY_STRICTLY == connectionMode ? new MemoryStrictlyExecutorEngine(executorSize, bulkhead) : new ConnectionStrictlyExecutorEngine(executorSize, bulkhead);
+    }
+    
+    private static boolean isExecutorChanged(final ShardingProperties originalShardingProperties, final ShardingProperties newShardingProperties) {
+        for (ShardingPropertiesConstant each : new ShardingPropertiesConstant[] {ShardingPropertiesConstant.EXECUTOR_SIZE, ShardingPropertiesConstant.CONNECTION_MODE, 
+            ShardingPropertiesConstant.EXECUTOR_ADAPTIVE, ShardingPropertiesConstant.EXECUTOR_QUEUE_SIZE, ShardingPropertiesConstant.EXECUTOR_REJECTED_POLICY}) {
+            if (!originalShardingProperties.getValue(each).equals(newShardingProperties.getValue(each))) {
+                return true;
+            }
+        }
+        return false;
     }
     
     private static Map<String, String> getDataSourceURLs(final Map<String, DataSource> dataSourceMap) {
@@ -106,20 +136,22 @@ public class ShardingDataSource extends AbstractDataSourceAdapter implements Aut
      */
     public void renew(final Map<String, DataSource> newDataSourceMap, final ShardingRule newShardingRule, final Properties newProps) {
         ShardingProperties newShardingProperties = new ShardingProperties(null == newProps ? new Properties() : newProps);
-        int originalExecutorSize = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_SIZE);
-        int newExecutorSize = newShardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_SIZE);
-        ConnectionMode originalConnectionMode = ConnectionMode.valueOf(shardingProperties.<String>getValue(ShardingPropertiesConstant.CONNECTION_MODE));
         ConnectionMode newConnectionMode = ConnectionMode.valueOf(newShardingProperties.<String>getValue(ShardingPropertiesConstant.CONNECTION_MODE));
-        if (originalExecutorSize != newExecutorSize || originalConnectionMode != newConnectionMode) {
+        if (isExecutorChanged(shardingProperties, newShardingProperties)) {
             ExecutorEngine originalExecutorEngine = executorEngine;
-            executorEngine = ConnectionMode.MEMORY_STRICTLY == newConnectionMode ? new MemoryStrictlyExecutorEngine(newExecutorSize) : new ConnectionStrictlyExecutorEngine(newExecutorSize);
+            executorEngine = createExecutorEngine(newShardingProperties);
             originalExecutorEngine.close();
         }
         shardingProperties = newShardingProperties;
         ShardingMetaData shardingMetaData = new ShardingMetaData(
                 getDataSourceURLs(newDataSourceMap), newShardingRule, getDatabaseType(), executorEngine.getExecutorService(), new JDBCTableMetaDataConnectionManager(newDataSourceMap));
         boolean newShowSQL = newShardingProperties.getValue(ShardingPropertiesConstant.SQL_SHOW);
-        shardingContext = new ShardingContext(newDataSourceMap, newShardingRule, getDatabaseType(), executorEngine, shardingMetaData, newConnectionMode, newShowSQL);
+        long newParsingResultCacheSize = newShardingProperties.getValue(ShardingPropertiesConstant.PARSING_RESULT_CACHE_SIZE);
+        int newGroupByMemoryMergeBudget = newShardingProperties.getValue(ShardingPropertiesConstant.GROUP_BY_MEMORY_MERGE_BUDGET);
+        int newMaxBatchSize = newShardingProperties.getValue(ShardingPropertiesConstant.MAX_BATCH_SIZE);
+        int newMaxInsertValuesSize = newShardingProperties.getValue(ShardingPropertiesConstant.MAX_INSERT_VALUES_SIZE);
+        shardingContext = new ShardingContext(newDataSourceMap, newShardingRule, getDatabaseType(), executorEngine, shardingMetaData, newConnectionMode, newShowSQL, 
+                new ParsingResultCache(newParsingResultCacheSize), newGroupByMemoryMergeBudget, newMaxBatchSize, newMaxInsertValuesSize);
     }
     
     @Override
@@ -20,6 +20,8 @@ package io.shardingsphere.core.jdbc.core.resultset;
 import io.shardingsphere.core.jdbc.adapter.AbstractResultSetAdapter;
 import io.shardingsphere.core.merger.MergedResult;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.math.BigDecimal;
@@ -60,6 +62,18 @@ public final class ShardingResultSet extends AbstractResultSetAdapter {
         return mergeResultSet.wasNull();
     }
     
+    @Override
+    protected void closeMergedResult() throws SQLException {
+        if (!(mergeResultSet instanceof Closeable)) {
+            return;
+        }
+        try {
+            ((Closeable) mergeResultSet).close();
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+    }
+    
     @Override
     public boolean getBoolean(final int columnIndex) throws SQLException {
         return (boolean) ResultSetUtil.convertValue(mergeResultSet.getValue(columnIndex, boolean.class), boolean.class);
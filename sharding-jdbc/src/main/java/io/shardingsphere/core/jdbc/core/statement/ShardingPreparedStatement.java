@@ -18,8 +18,6 @@
 package io.shardingsphere.core.jdbc.core.statement;
 
 import com.google.common.base.Optional;
-import com.google.common.base.Predicate;
-import com.google.common.collect.Iterators;
 import io.shardingsphere.core.constant.ConnectionMode;
 import io.shardingsphere.core.constant.SQLType;
 import io.shardingsphere.core.executor.type.batch.BatchPreparedStatementExecutor;
@@ -66,7 +64,6 @@ import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 
 /**
  * PreparedStatement that support sharding.
@@ -89,7 +86,9 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     
     private final PreparedStatementRoutingEngine routingEngine;
     
-    private final List<BatchPreparedStatementUnit> batchStatementUnits = new LinkedList<>();
+    private final Map<SQLExecutionUnit, BatchPreparedStatementUnit> batchStatementUnits = new LinkedHashMap<>();
+    
+    private final List<int[]> executedBatchResults = new LinkedList<>();
     
     private final Collection<PreparedStatement> routedStatements = new LinkedList<>();
 
@@ -129,7 +128,8 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         this.sql = sql;
         ShardingContext shardingContext = connection.getShardingContext();
         routingEngine = new PreparedStatementRoutingEngine(sql, shardingContext.getShardingRule(), 
-                shardingContext.getMetaData().getTable(), shardingContext.getDatabaseType(), shardingContext.isShowSQL(), shardingContext.getMetaData().getDataSource());
+                shardingContext.getMetaData().getTable(), shardingContext.getDatabaseType(), shardingContext.isShowSQL(), shardingContext.getMetaData().getDataSource(), 
+                shardingContext.getParsingResultCache(), shardingContext.getMaxInsertValuesSize());
     }
     
     @Override
@@ -141,7 +141,8 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
             List<ResultSet> resultSets = new PreparedStatementExecutor(
                     connection.getShardingContext().getExecutorEngine(), routeResult.getSqlStatement().getType(), preparedStatementUnits).executeQuery();
             MergeEngine mergeEngine = MergeEngineFactory.newInstance(
-                    connection.getShardingContext().getShardingRule(), getQueryResults(resultSets), routeResult.getSqlStatement(), connection.getShardingContext().getMetaData().getTable());
+                    connection.getShardingContext().getShardingRule(), getQueryResults(resultSets), routeResult.getSqlStatement(), connection.getShardingContext().getMetaData().getTable(),
+                    connection.getShardingContext().getGroupByMemoryMergeBudget());
             result = new ShardingResultSet(resultSets, merge(mergeEngine), this);
         } finally {
             clearBatch();
@@ -229,6 +230,10 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     }
     
     private void sqlRoute() {
+        if (!EventBusInstance.getInstance().hasSubscribers(SqlRoutingEvent.class)) {
+            routeResult = routingEngine.route(getParameters());
+            return;
+        }
         SqlRoutingEvent event = new SqlRoutingEvent(sql);
         EventBusInstance.getInstance().post(event);
         try {
@@ -260,62 +265,87 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         currentResultSet = null;
         clearParameters();
         batchStatementUnits.clear();
+        executedBatchResults.clear();
         batchCount = 0;
     }
     
     @Override
     public void addBatch() throws SQLException {
         try {
-            for (BatchPreparedStatementUnit each : routeBatch()) {
-                each.getStatement().addBatch();
-                each.mapAddBatchCount(batchCount);
+            sqlRoute();
+            for (SQLExecutionUnit each : routeResult.getExecutionUnits()) {
+                BatchPreparedStatementUnit batchStatementUnit = getPreparedBatchStatement(each);
+                replaySetParameter(batchStatementUnit.getStatement(), each.getSqlUnit().getParameterSets().get(0));
+                batchStatementUnit.getStatement().addBatch();
+                batchStatementUnit.mapAddBatchCount(batchCount);
             }
             batchCount++;
+            if (batchCount == connection.getShardingContext().getMaxBatchSize()) {
+                executedBatchResults.add(executeAddedBatch());
+            }
         } finally {
             currentResultSet = null;
             clearParameters();
         }
     }
     
-    private List<BatchPreparedStatementUnit> routeBatch() throws SQLException {
-        List<BatchPreparedStatementUnit> result = new ArrayList<>();
-        sqlRoute();
-        for (SQLExecutionUnit each : routeResult.getExecutionUnits()) {
-            BatchPreparedStatementUnit batchStatementUnit = getPreparedBatchStatement(each);
-            replaySetParameter(batchStatementUnit.getStatement(), each.getSqlUnit().getParameterSets().get(0));
-            result.add(batchStatementUnit);
-        }
-        return result;
-    }
-    
     private BatchPreparedStatementUnit getPreparedBatchStatement(final SQLExecutionUnit sqlExecutionUnit) throws SQLException {
-        Optional<BatchPreparedStatementUnit> preparedBatchStatement = Iterators.tryFind(batchStatementUnits.iterator(), new Predicate<BatchPreparedStatementUnit>() {
-            
-            @Override
-            public boolean apply(final BatchPreparedStatementUnit input) {
-                return Objects.equals(input.getSqlExecutionUnit(), sqlExecutionUnit);
-            }
-        });
-        if (preparedBatchStatement.isPresent()) {
-            preparedBatchStatement.get().getSqlExecutionUnit().getSqlUnit().getParameterSets().add(sqlExecutionUnit.getSqlUnit().getParameterSets().get(0));
-            return preparedBatchStatement.get();
+        BatchPreparedStatementUnit preparedBatchStatement = batchStatementUnits.get(sqlExecutionUnit);
+        if (null != preparedBatchStatement) {
+            preparedBatchStatement.getSqlExecutionUnit().getSqlUnit().getParameterSets().add(sqlExecutionUnit.getSqlUnit().getParameterSets().get(0));
+            return preparedBatchStatement;
         }
         BatchPreparedStatementUnit result = new BatchPreparedStatementUnit(
                 sqlExecutionUnit, generatePreparedStatement(connection.getConnection(sqlExecutionUnit.getDataSource()), sqlExecutionUnit.getSqlUnit().getSql()));
-        batchStatementUnits.add(result);
+        batchStatementUnits.put(sqlExecutionUnit, result);
         return result;
     }
     
     @Override
     public int[] executeBatch() throws SQLException {
         try {
-            return new BatchPreparedStatementExecutor(connection.getShardingContext().getExecutorEngine(),
-                    connection.getShardingContext().getDatabaseType(), routeResult.getSqlStatement().getType(), batchStatementUnits, batchCount).executeBatch();
+            if (executedBatchResults.isEmpty()) {
+                return executeAddedBatch();
+            }
+            if (0 != batchCount) {
+                executedBatchResults.add(executeAddedBatch());
+            }
+            return concatBatchResults();
         } finally {
             clearBatch();
         }
     }
     
+    private int[] executeAddedBatch() throws SQLException {
+        Collection<BatchPreparedStatementUnit> addedBatchStatementUnits = new LinkedList<>();
+        for (BatchPreparedStatementUnit each : batchStatementUnits.values()) {
+            if (!each.getActualAndJdbcAddBatchCallTimesMap().isEmpty()) {
+                addedBatchStatementUnits.add(each);
+            }
+        }
+        int[] result = new BatchPreparedStatementExecutor(connection.getShardingContext().getExecutorEngine(),
+                connection.getShardingContext().getDatabaseType(), routeResult.getSqlStatement().getType(), addedBatchStatementUnits, batchCount).executeBatch();
+        for (BatchPreparedStatementUnit each : addedBatchStatementUnits) {
+            each.resetAddBatchCount();
+        }
+        batchCount = 0;
+        return result;
+    }
+    
+    private int[] concatBatchResults() {
+        int length = 0;
+        for (int[] each : executedBatchResults) {
+            length += each.length;
+        }
+        int[] result = new int[length];
+        int offset = 0;
+        for (int[] each : executedBatchResults) {
+            System.arraycopy(each, 0, result, offset, each.length);
+            offset += each.length;
+        }
+        return result;
+    }
+    
     @Override
     public ResultSet getGeneratedKeys() throws SQLException {
         Optional<GeneratedKey> generatedKey = getGeneratedKey();
@@ -353,13 +383,17 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         }
         if (routeResult.getSqlStatement() instanceof SelectStatement || routeResult.getSqlStatement() instanceof DALStatement) {
             MergeEngine mergeEngine = MergeEngineFactory.newInstance(
-                    connection.getShardingContext().getShardingRule(), queryResults, routeResult.getSqlStatement(), connection.getShardingContext().getMetaData().getTable());
+                    connection.getShardingContext().getShardingRule(), queryResults, routeResult.getSqlStatement(), connection.getShardingContext().getMetaData().getTable(),
+                    connection.getShardingContext().getGroupByMemoryMergeBudget());
             currentResultSet = new ShardingResultSet(resultSets, merge(mergeEngine), this);
         }
         return currentResultSet;
     }
     
     private MergedResult merge(final MergeEngine mergeEngine) throws SQLException {
+        if (!EventBusInstance.getInstance().hasSubscribers(ResultSetMergeEvent.class)) {
+            return mergeEngine.merge();
+        }
         ResultSetMergeEvent event = new ResultSetMergeEvent();
         try {
             EventBusInstance.getInstance().post(event);
@@ -115,7 +115,8 @@ public final class ShardingStatement extends AbstractStatementAdapter {
         try {
             List<ResultSet> resultSets = generateExecutor(sql).executeQuery();
             MergeEngine mergeEngine = MergeEngineFactory.newInstance(
-                    connection.getShardingContext().getShardingRule(), getQueryResults(resultSets), routeResult.getSqlStatement(), connection.getShardingContext().getMetaData().getTable());
+                    connection.getShardingContext().getShardingRule(), getQueryResults(resultSets), routeResult.getSqlStatement(), connection.getShardingContext().getMetaData().getTable(),
+                    connection.getShardingContext().getGroupByMemoryMergeBudget());
             result = new ShardingResultSet(resultSets, merge(mergeEngine), this);
         } finally {
             currentResultSet = null;
@@ -265,12 +266,14 @@ public final class ShardingStatement extends AbstractStatementAdapter {
     }
     
     private void sqlRoute(final String sql) {
-        ShardingContext shardingContext = connection.getShardingContext();
+        if (!EventBusInstance.getInstance().hasSubscribers(SqlRoutingEvent.class)) {
+            routeResult = route(sql);
+            return;
+        }
         SqlRoutingEvent event = new SqlRoutingEvent(sql);
         EventBusInstance.getInstance().post(event);
         try {
-            routeResult = new StatementRoutingEngine(shardingContext.getShardingRule(), 
-                    shardingContext.getMetaData().getTable(), shardingContext.getDatabaseType(), shardingContext.isShowSQL(), shardingContext.getMetaData().getDataSource()).route(sql);
+            routeResult = route(sql);
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
@@ -283,6 +286,13 @@ public final class ShardingStatement extends AbstractStatementAdapter {
         EventBusInstance.getInstance().post(event);
     }
     
+    private SQLRouteResult route(final String sql) {
+        ShardingContext shardingContext = connection.getShardingContext();
+        return new StatementRoutingEngine(shardingContext.getShardingRule(), 
+                shardingContext.getMetaData().getTable(), shardingContext.getDatabaseType(), shardingContext.isShowSQL(), shardingContext.getMetaData().getDataSource(), 
+                shardingContext.getParsingResultCache(), shardingContext.getMaxInsertValuesSize()).route(sql);
+    }
+    
     // TODO refresh table meta data by SQL parse result
     private void refreshTableMetaData() {
         if (null != routeResult && null != connection && SQLType.DDL == routeResult.getSqlStatement().getType() && !routeResult.getSqlStatement().getTables().isEmpty()) {
@@ -330,13 +340,17 @@ public final class ShardingStatement extends AbstractStatementAdapter {
         }
         if (routeResult.getSqlStatement() instanceof SelectStatement || routeResult.getSqlStatement() instanceof DALStatement) {
             MergeEngine mergeEngine = MergeEngineFactory.newInstance(
-                    connection.getShardingContext().getShardingRule(), queryResults, routeResult.getSqlStatement(), connection.getShardingContext().getMetaData().getTable());
+                    connection.getShardingContext().getShardingRule(), queryResults, routeResult.getSqlStatement(), connection.getShardingContext().getMetaData().getTable(),
+                    connection.getShardingContext().getGroupByMemoryMergeBudget());
             currentResultSet = new ShardingResultSet(resultSets, merge(mergeEngine), this);
         }
         return currentResultSet;
     }
     
     private MergedResult merge(final MergeEngine mergeEngine) throws SQLException {
+        if (!EventBusInstance.getInstance().hasSubscribers(ResultSetMergeEvent.class)) {
+            return mergeEngine.merge();
+        }
         ResultSetMergeEvent event = new ResultSetMergeEvent();
         try {
             EventBusInstance.getInstance().post(event);
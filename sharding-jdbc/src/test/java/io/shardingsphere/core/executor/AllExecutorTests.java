@@ -21,6 +21,7 @@ import io.shardingsphere.core.executor.threadlocal.ExecutorExceptionHandlerTest;
 import io.shardingsphere.core.executor.type.BatchPreparedStatementExecutorTest;
 import io.shardingsphere.core.executor.type.PreparedStatementExecutorTest;
 import io.shardingsphere.core.executor.type.StatementExecutorTest;
+import io.shardingsphere.core.executor.type.connection.MemoryQueryResultTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
@@ -29,7 +30,9 @@ import org.junit.runners.Suite;
         ExecutorExceptionHandlerTest.class, 
         StatementExecutorTest.class, 
         PreparedStatementExecutorTest.class,
-        BatchPreparedStatementExecutorTest.class
+        BatchPreparedStatementExecutorTest.class, 
+        MemoryQueryResultTest.class, 
+        DataSourceBulkheadTest.class
     })
 public final class AllExecutorTests {
 }
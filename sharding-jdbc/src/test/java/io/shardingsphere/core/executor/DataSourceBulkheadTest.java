@@ -0,0 +1,122 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import io.shardingsphere.core.constant.ExecutorRejectedPolicy;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.junit.Assert.assertThat;
+
+public final class DataSourceBulkheadTest {
+    
+    private final CountDownLatch blockLatch = new CountDownLatch(1);
+    
+    private DataSourceBulkhead bulkhead;
+    
+    @After
+    public void tearDown() {
+        blockLatch.countDown();
+        bulkhead.close();
+    }
+    
+    @Test
+    public void assertSubmitWithDataSourceThread() throws InterruptedException, ExecutionException {
+        bulkhead = new DataSourceBulkhead(1, 1, ExecutorRejectedPolicy.ABORT);
+        assertThat(bulkhead.submit("ds_0", new ThreadNameCallable()).get(), startsWith("Sharding-JDBC-ds_0-"));
+    }
+    
+    @Test
+    public void assertSubmitIsolatedByDataSource() throws InterruptedException, ExecutionException, TimeoutException {
+        bulkhead = new DataSourceBulkhead(1, 1, ExecutorRejectedPolicy.ABORT);
+        bulkhead.submit("ds_0", new BlockingCallable());
+        bulkhead.submit("ds_0", new BlockingCallable());
+        assertThat(bulkhead.submit("ds_1", new ThreadNameCallable()).get(5, TimeUnit.SECONDS), startsWith("Sharding-JDBC-ds_1-"));
+    }
+    
+    @Test(expected = RejectedExecutionException.class)
+    public void assertSubmitWhenQueueFullWithAbortPolicy() {
+        bulkhead = new DataSourceBulkhead(1, 1, ExecutorRejectedPolicy.ABORT);
+        bulkhead.submit("ds_0", new BlockingCallable());
+        bulkhead.submit("ds_0", new BlockingCallable());
+        bulkhead.submit("ds_0", new ThreadNameCallable());
+    }
+    
+    @Test
+    public void assertSubmitWhenQueueFullWithCallerRunsPolicy() throws InterruptedException, ExecutionException {
+        bulkhead = new DataSourceBulkhead(1, 1, ExecutorRejectedPolicy.CALLER_RUNS);
+        bulkhead.submit("ds_0", new BlockingCallable());
+        bulkhead.submit("ds_0", new BlockingCallable());
+        ListenableFuture<String> actual = bulkhead.submit("ds_0", new ThreadNameCallable());
+        assertThat(actual.isDone(), is(true));
+        assertThat(actual.get(), is(Thread.currentThread().getName()));
+    }
+    
+    @Test
+    public void assertGetStatistics() throws InterruptedException {
+        bulkhead = new DataSourceBulkhead(1, 2, ExecutorRejectedPolicy.ABORT);
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        bulkhead.submit("ds_0", new Callable<Void>() {
+            
+            @Override
+            public Void call() throws InterruptedException {
+                startLatch.countDown();
+                blockLatch.await();
+                return null;
+            }
+        });
+        bulkhead.submit("ds_0", new BlockingCallable());
+        startLatch.await();
+        Collection<ExecutorStatistics> actual = bulkhead.getStatistics();
+        assertThat(actual.size(), is(1));
+        ExecutorStatistics statistics = actual.iterator().next();
+        assertThat(statistics.getName(), is("ds_0"));
+        assertThat(statistics.getPoolSize(), is(1));
+        assertThat(statistics.getActiveCount(), is(1));
+        assertThat(statistics.getQueueSize(), is(1));
+        assertThat(statistics.getRemainingQueueCapacity(), is(1));
+    }
+    
+    private final class BlockingCallable implements Callable<Void> {
+        
+        @Override
+        public Void call() throws InterruptedException {
+            blockLatch.await();
+            return null;
+        }
+    }
+    
+    private static final class ThreadNameCallable implements Callable<String> {
+        
+        @Override
+        public String call() {
+            return Thread.currentThread().getName();
+        }
+    }
+}
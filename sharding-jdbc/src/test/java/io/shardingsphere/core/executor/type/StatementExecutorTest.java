@@ -25,22 +25,29 @@ import io.shardingsphere.core.executor.type.statement.StatementUnit;
 import io.shardingsphere.core.rewrite.SQLBuilder;
 import io.shardingsphere.core.routing.SQLExecutionUnit;
 import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
 import java.sql.Statement;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -464,6 +471,107 @@ public final class StatementExecutorTest extends AbstractBaseExecutorTest {
         verify(getEventCaller()).verifyEventExecutionType(EventExecutionType.EXECUTE_FAILURE);
     }
     
+    @Test
+    public void assertExecuteQueryForMultipleStatementsInParallel() throws SQLException {
+        final CountDownLatch latch = new CountDownLatch(1);
+        Statement statement1 = mock(Statement.class);
+        Statement statement2 = mock(Statement.class);
+        final ResultSet resultSet1 = mock(ResultSet.class);
+        final ResultSet resultSet2 = mock(ResultSet.class);
+        when(statement1.executeQuery(DQL_SQL)).thenAnswer(new Answer<ResultSet>() {
+            
+            @Override
+            public ResultSet answer(final InvocationOnMock invocation) throws InterruptedException {
+                assertTrue(latch.await(5, TimeUnit.SECONDS));
+                return resultSet1;
+            }
+        });
+        when(statement2.executeQuery(DQL_SQL)).thenAnswer(new Answer<ResultSet>() {
+            
+            @Override
+            public ResultSet answer(final InvocationOnMock invocation) {
+                latch.countDown();
+                return resultSet2;
+            }
+        });
+        when(statement1.getConnection()).thenReturn(mock(Connection.class));
+        when(statement2.getConnection()).thenReturn(mock(Connection.class));
+        StatementExecutor actual = new StatementExecutor(getExecutorEngine(), SQLType.DQL, createStatementUnits(DQL_SQL, statement1, "ds_0", statement2, "ds_1"));
+        assertThat(actual.executeQuery(), is(Arrays.asList(resultSet1, resultSet2)));
+    }
+    
+    @Test
+    public void assertExecuteQueryForMultipleStatementsTimeout() throws SQLException {
+        ExecutorExceptionHandler.setExceptionThrown(true);
+        final CountDownLatch latch = new CountDownLatch(1);
+        Statement statement1 = mock(Statement.class);
+        Statement statement2 = mock(Statement.class);
+        when(statement1.getQueryTimeout()).thenReturn(1);
+        when(statement1.executeQuery(DQL_SQL)).thenReturn(mock(ResultSet.class));
+        when(statement2.executeQuery(DQL_SQL)).thenAnswer(new Answer<ResultSet>() {
+            
+            @Override
+            public ResultSet answer(final InvocationOnMock invocation) throws InterruptedException {
+                latch.await(5, TimeUnit.SECONDS);
+                return mock(ResultSet.class);
+            }
+        });
+        doAnswer(new Answer<Void>() {
+            
+            @Override
+            public Void answer(final InvocationOnMock invocation) {
+                latch.countDown();
+                return null;
+            }
+        }).when(statement2).cancel();
+        when(statement1.getConnection()).thenReturn(mock(Connection.class));
+        when(statement2.getConnection()).thenReturn(mock(Connection.class));
+        StatementExecutor actual = new StatementExecutor(getExecutorEngine(), SQLType.DQL, createStatementUnits(DQL_SQL, statement1, "ds_0", statement2, "ds_1"));
+        try {
+            actual.executeQuery();
+            fail("Expected SQLTimeoutException to be thrown");
+        } catch (final SQLTimeoutException ignore) {
+        }
+        verify(statement2).cancel();
+        verify(statement1, times(0)).cancel();
+    }
+    
+    @Test
+    public void assertExecuteQueryForMultipleStatementsWithFailureOfRestStatement() throws SQLException {
+        ExecutorExceptionHandler.setExceptionThrown(true);
+        final CountDownLatch latch = new CountDownLatch(1);
+        Statement statement1 = mock(Statement.class);
+        Statement statement2 = mock(Statement.class);
+        SQLException restFailure = new SQLException("rest failure");
+        when(statement1.executeQuery(DQL_SQL)).thenAnswer(new Answer<ResultSet>() {
+            
+            @Override
+            public ResultSet answer(final InvocationOnMock invocation) throws InterruptedException, SQLException {
+                assertTrue(latch.await(5, TimeUnit.SECONDS));
+                throw new SQLException("cancelled");
+            }
+        });
+        doAnswer(new Answer<Void>() {
+            
+            @Override
+            public Void answer(final InvocationOnMock invocation) {
+                latch.countDown();
+                return null;
+            }
+        }).when(statement1).cancel();
+        when(statement2.executeQuery(DQL_SQL)).thenThrow(restFailure);
+        when(statement1.getConnection()).thenReturn(mock(Connection.class));
+        when(statement2.getConnection()).thenReturn(mock(Connection.class));
+        StatementExecutor actual = new StatementExecutor(getExecutorEngine(), SQLType.DQL, createStatementUnits(DQL_SQL, statement1, "ds_0", statement2, "ds_1"));
+        try {
+            actual.executeQuery();
+            fail("Expected SQLException to be thrown");
+        } catch (final SQLException ex) {
+            assertThat(ex, is(restFailure));
+        }
+        verify(statement1).cancel();
+    }
+    
     private Collection<StatementUnit> createStatementUnits(final String sql, final Statement statement, final String dataSource) {
         Collection<StatementUnit> result = new LinkedList<>();
         SQLBuilder sqlBuilder = new SQLBuilder();
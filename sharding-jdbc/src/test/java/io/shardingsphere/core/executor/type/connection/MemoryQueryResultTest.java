@@ -0,0 +1,120 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.type.connection;
+
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class MemoryQueryResultTest {
+    
+    private static final int ROW_COUNT = 3000;
+    
+    @Test
+    public void assertNextAndGetValue() throws SQLException {
+        MemoryQueryResult actual = new MemoryQueryResult(mockResultSet());
+        assertThat(actual.getColumnCount(), is(4));
+        assertThat(actual.getColumnLabel(1), is("id"));
+        assertThat(actual.getColumnLabel(4), is("score"));
+        for (int i = 0; i < ROW_COUNT; i++) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is((Object) i));
+            assertFalse(actual.wasNull());
+            assertThat(actual.getValue("id", Object.class), is((Object) i));
+            if (0 == i % 7) {
+                assertThat(actual.getValue("name", Object.class), nullValue());
+                assertTrue(actual.wasNull());
+            } else {
+                assertThat(actual.getValue("name", Object.class), is((Object) ("name_\u4e2d_" + i)));
+            }
+            assertThat(actual.getValue(3, Object.class), is((Object) (i * 0.5D)));
+            assertThat(actual.getValue(4, Object.class), is(getScore(i)));
+        }
+        assertFalse(actual.next());
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertGetValueWithUnknownColumnLabel() throws SQLException {
+        MemoryQueryResult actual = new MemoryQueryResult(mockResultSet());
+        assertTrue(actual.next());
+        actual.getValue("unknown", Object.class);
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertGetColumnLabelWithIndexOutOfRange() throws SQLException {
+        new MemoryQueryResult(mockResultSet()).getColumnLabel(5);
+    }
+    
+    private Object getScore(final int rowIndex) {
+        if (rowIndex < 5) {
+            return null;
+        }
+        return rowIndex < 2000 ? (Object) (long) rowIndex : new BigDecimal(rowIndex);
+    }
+    
+    private ResultSet mockResultSet() throws SQLException {
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSetMetaData.getColumnCount()).thenReturn(4);
+        when(resultSetMetaData.getColumnLabel(1)).thenReturn("id");
+        when(resultSetMetaData.getColumnLabel(2)).thenReturn("name");
+        when(resultSetMetaData.getColumnLabel(3)).thenReturn("ratio");
+        when(resultSetMetaData.getColumnLabel(4)).thenReturn("score");
+        ResultSet result = mock(ResultSet.class);
+        when(result.getMetaData()).thenReturn(resultSetMetaData);
+        final int[] cursor = {-1};
+        when(result.next()).thenAnswer(new Answer<Boolean>() {
+            
+            @Override
+            public Boolean answer(final InvocationOnMock invocation) {
+                return ++cursor[0] < ROW_COUNT;
+            }
+        });
+        when(result.getObject(anyInt())).thenAnswer(new Answer<Object>() {
+            
+            @Override
+            public Object answer(final InvocationOnMock invocation) {
+                int rowIndex = cursor[0];
+                switch ((Integer) invocation.getArguments()[0]) {
+                    case 1:
+                        return rowIndex;
+                    case 2:
+                        return 0 == rowIndex % 7 ? null : "name_\u4e2d_" + rowIndex;
+                    case 3:
+                        return rowIndex * 0.5D;
+                    default:
+                        return getScore(rowIndex);
+                }
+            }
+        });
+        return result;
+    }
+}
@@ -24,6 +24,8 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.math.BigDecimal;
@@ -46,7 +48,9 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 @RunWith(MockitoJUnitRunner.class)
 public final class ShardingResultSetTest {
@@ -70,6 +74,15 @@ public final class ShardingResultSetTest {
         assertTrue(shardingResultSet.next());
     }
     
+    @Test
+    public void assertClose() throws SQLException, IOException {
+        MergedResult closeableMergedResult = mock(MergedResult.class, withSettings().extraInterfaces(Closeable.class));
+        ShardingResultSet actual = new ShardingResultSet(Collections.singletonList(mock(ResultSet.class)), closeableMergedResult, statement);
+        actual.close();
+        assertTrue(actual.isClosed());
+        verify((Closeable) closeableMergedResult).close();
+    }
+    
     @Test
     public void assertWasNull() throws SQLException {
         assertFalse(shardingResultSet.wasNull());
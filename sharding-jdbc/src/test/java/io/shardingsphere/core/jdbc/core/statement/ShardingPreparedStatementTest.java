@@ -19,9 +19,12 @@ package io.shardingsphere.core.jdbc.core.statement;
 
 import com.google.common.eventbus.Subscribe;
 import io.shardingsphere.core.common.base.AbstractShardingJDBCDatabaseAndTableTest;
+import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import io.shardingsphere.core.executor.event.DMLExecutionEvent;
 import io.shardingsphere.core.executor.event.EventExecutionType;
 import io.shardingsphere.core.jdbc.JDBCTestSQL;
+import io.shardingsphere.core.jdbc.core.ShardingContext;
+import io.shardingsphere.core.jdbc.core.datasource.ShardingDataSource;
 import io.shardingsphere.core.util.EventBusInstance;
 import io.shardingsphere.core.util.SQLPlaceholderUtil;
 import org.junit.Test;
@@ -32,7 +35,9 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.is;
@@ -228,6 +233,68 @@ public final class ShardingPreparedStatementTest extends AbstractShardingJDBCDat
         }
     }
     
+    @Test
+    public void assertUpdateBatchWithMaxBatchSize() throws SQLException {
+        String sql = SQLPlaceholderUtil.replacePreparedStatement(JDBCTestSQL.UPDATE_WITHOUT_SHARDING_VALUE_SQL);
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.MAX_BATCH_SIZE.getKey(), "2");
+        ShardingContext shardingContext = getShardingDataSource().getConnection().getShardingContext();
+        ShardingDataSource shardingDataSource = new ShardingDataSource(shardingContext.getDataSourceMap(), shardingContext.getShardingRule(), Collections.<String, Object>emptyMap(), props);
+        try (
+                Connection connection = shardingDataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            preparedStatement.setString(1, "batch");
+            preparedStatement.setString(2, "init");
+            preparedStatement.addBatch();
+            preparedStatement.setString(1, "batch");
+            preparedStatement.setString(2, "init");
+            preparedStatement.addBatch();
+            preparedStatement.setString(1, "init");
+            preparedStatement.setString(2, "batch");
+            preparedStatement.addBatch();
+            int[] result = preparedStatement.executeBatch();
+            assertThat(result.length, is(3));
+            assertThat(result[0], is(4));
+            assertThat(result[1], is(0));
+            assertThat(result[2], is(4));
+        } finally {
+            shardingDataSource.close();
+        }
+    }
+    
+    @Test
+    public void assertAddBatchWithMaxInsertValuesSize() throws SQLException {
+        String sql = "INSERT INTO t_order_item (item_id, order_id, user_id, status) VALUES (?, ?, ?, ?), (?, ?, ?, ?), (?, ?, ?, ?), (?, ?, ?, ?)";
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.MAX_INSERT_VALUES_SIZE.getKey(), "2");
+        ShardingContext shardingContext = getShardingDataSource().getConnection().getShardingContext();
+        ShardingDataSource shardingDataSource = new ShardingDataSource(shardingContext.getDataSourceMap(), shardingContext.getShardingRule(), Collections.<String, Object>emptyMap(), props);
+        try (
+                Connection connection = shardingDataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(sql);
+                Statement queryStatement = connection.createStatement()) {
+            for (int i = 0; i < 4; i++) {
+                preparedStatement.setInt(i * 4 + 1, 901 + i);
+                preparedStatement.setInt(i * 4 + 2, 1000);
+                preparedStatement.setInt(i * 4 + 3, 10);
+                preparedStatement.setString(i * 4 + 4, "BATCH");
+            }
+            preparedStatement.addBatch();
+            int[] result = preparedStatement.executeBatch();
+            assertThat(result.length, is(1));
+            assertThat(result[0], is(4));
+            try (ResultSet rs = queryStatement.executeQuery("SELECT item_id FROM t_order_item WHERE user_id = 10 AND order_id = 1000 AND status = 'BATCH' ORDER BY item_id")) {
+                for (int i = 0; i < 4; i++) {
+                    assertTrue(rs.next());
+                    assertThat(rs.getInt(1), is(901 + i));
+                }
+                assertFalse(rs.next());
+            }
+        } finally {
+            shardingDataSource.close();
+        }
+    }
+    
     @Test
     public void assertClearBatch() throws SQLException {
         try (
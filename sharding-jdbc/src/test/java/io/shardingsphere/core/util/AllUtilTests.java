@@ -23,6 +23,7 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
         EventBusInstanceTest.class,
+        ShardingEventBusTest.class,
         DataSourceUtilTest.class
     })
 public final class AllUtilTests {
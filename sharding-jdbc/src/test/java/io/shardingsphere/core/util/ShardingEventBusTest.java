@@ -0,0 +1,118 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.util;
+
+import com.google.common.eventbus.Subscribe;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ShardingEventBusTest {
+    
+    private final ShardingEventBus eventBus = new ShardingEventBus();
+    
+    @Test
+    public void assertHasSubscribersWithoutListener() {
+        assertFalse(eventBus.hasSubscribers(String.class));
+    }
+    
+    @Test
+    public void assertHasSubscribersWithSuperTypeListener() {
+        eventBus.register(new CharSequenceListener());
+        assertTrue(eventBus.hasSubscribers(String.class));
+        assertFalse(eventBus.hasSubscribers(Integer.class));
+    }
+    
+    @Test
+    public void assertHasSubscribersAfterUnregister() {
+        CharSequenceListener listener = new CharSequenceListener();
+        eventBus.register(listener);
+        eventBus.unregister(listener);
+        assertFalse(eventBus.hasSubscribers(String.class));
+    }
+    
+    @Test
+    public void assertPost() {
+        CharSequenceListener listener = new CharSequenceListener();
+        eventBus.register(listener);
+        eventBus.post("foo");
+        eventBus.post(1);
+        assertThat(listener.getEvents(), is(Arrays.<CharSequence>asList("foo")));
+    }
+    
+    @Test
+    public void assertPostAll() {
+        CharSequenceListener listener = new CharSequenceListener();
+        eventBus.register(listener);
+        eventBus.postAll(Arrays.<Object>asList("foo", 1, new StringBuilder("bar"), "baz"));
+        assertThat(listener.getEvents().size(), is(3));
+        assertThat(listener.getEvents().get(0).toString(), is("foo"));
+        assertThat(listener.getEvents().get(1).toString(), is("bar"));
+        assertThat(listener.getEvents().get(2).toString(), is("baz"));
+    }
+    
+    @Test
+    public void assertPostWhenListenerThrowsException() {
+        CharSequenceListener listener = new CharSequenceListener();
+        eventBus.register(new FailureListener());
+        eventBus.register(listener);
+        eventBus.post("foo");
+        assertThat(listener.getEvents(), is(Arrays.<CharSequence>asList("foo")));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertRegisterWithInvalidSubscriber() {
+        eventBus.register(new InvalidListener());
+    }
+    
+    private static final class CharSequenceListener {
+        
+        private final List<CharSequence> events = new LinkedList<>();
+        
+        @Subscribe
+        public void listen(final CharSequence event) {
+            events.add(event);
+        }
+        
+        List<CharSequence> getEvents() {
+            return events;
+        }
+    }
+    
+    private static final class FailureListener {
+        
+        @Subscribe
+        public void listen(final String event) {
+            throw new IllegalStateException(event);
+        }
+    }
+    
+    private static final class InvalidListener {
+        
+        @Subscribe
+        public void listen(final String event, final String other) {
+        }
+    }
+}
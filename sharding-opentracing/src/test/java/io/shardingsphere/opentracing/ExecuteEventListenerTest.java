@@ -17,8 +17,6 @@
 
 package io.shardingsphere.opentracing;
 
-import com.google.common.collect.HashMultimap;
-import com.google.common.eventbus.EventBus;
 import io.opentracing.NoopTracerFactory;
 import io.opentracing.mock.MockTracer;
 import io.opentracing.util.GlobalTracer;
@@ -33,6 +31,7 @@ import io.shardingsphere.core.executor.type.statement.StatementUnit;
 import io.shardingsphere.core.routing.SQLExecutionUnit;
 import io.shardingsphere.core.routing.SQLUnit;
 import io.shardingsphere.core.util.EventBusInstance;
+import io.shardingsphere.core.util.ShardingEventBus;
 import org.junit.AfterClass;
 import org.junit.Before;
 import org.junit.BeforeClass;
@@ -146,8 +145,8 @@ public final class ExecuteEventListenerTest {
         Field tracerField = GlobalTracer.class.getDeclaredField("tracer");
         tracerField.setAccessible(true);
         tracerField.set(GlobalTracer.class, NoopTracerFactory.create());
-        Field subscribersByTypeField = EventBus.class.getDeclaredField("subscribersByType");
+        Field subscribersByTypeField = ShardingEventBus.class.getDeclaredField("subscribersByType");
         subscribersByTypeField.setAccessible(true);
-        subscribersByTypeField.set(EventBusInstance.getInstance(), HashMultimap.create());
+        subscribersByTypeField.set(EventBusInstance.getInstance(), Collections.emptyMap());
     }
 }
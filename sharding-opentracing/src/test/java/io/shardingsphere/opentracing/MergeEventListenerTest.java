@@ -17,8 +17,6 @@
 
 package io.shardingsphere.opentracing;
 
-import com.google.common.collect.HashMultimap;
-import com.google.common.eventbus.EventBus;
 import io.opentracing.NoopTracerFactory;
 import io.opentracing.mock.MockTracer;
 import io.opentracing.tag.Tags;
@@ -35,10 +33,12 @@ import io.shardingsphere.core.jdbc.core.statement.ShardingStatement;
 import io.shardingsphere.core.merger.MergeEngine;
 import io.shardingsphere.core.merger.dal.DALMergeEngine;
 import io.shardingsphere.core.metadata.ShardingMetaData;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
 import io.shardingsphere.core.parsing.parser.dialect.mysql.statement.ShowColumnsStatement;
 import io.shardingsphere.core.parsing.parser.dialect.mysql.statement.ShowDatabasesStatement;
 import io.shardingsphere.core.rule.ShardingRule;
 import io.shardingsphere.core.util.EventBusInstance;
+import io.shardingsphere.core.util.ShardingEventBus;
 import org.junit.AfterClass;
 import org.junit.Before;
 import org.junit.BeforeClass;
@@ -51,6 +51,7 @@ import java.lang.reflect.Method;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -90,7 +91,7 @@ public final class MergeEventListenerTest {
         dataSourceMap.put("ds_1", mockDataSource());
         ShardingRule shardingRule = new ShardingRule(shardingRuleConfig, dataSourceMap.keySet());
         ShardingMetaData shardingMetaData = mock(ShardingMetaData.class);
-        shardingContext = new ShardingContext(dataSourceMap, shardingRule, DatabaseType.MySQL, null, shardingMetaData, ConnectionMode.MEMORY_STRICTLY, true);
+        shardingContext = new ShardingContext(dataSourceMap, shardingRule, DatabaseType.MySQL, null, shardingMetaData, ConnectionMode.MEMORY_STRICTLY, true, new ParsingResultCache(1024), 0, 0, 0);
         mergeEngine = new DALMergeEngine(null, null, new ShowDatabasesStatement(), null);
     }
     
@@ -142,8 +143,8 @@ public final class MergeEventListenerTest {
         Field tracerField = GlobalTracer.class.getDeclaredField("tracer");
         tracerField.setAccessible(true);
         tracerField.set(GlobalTracer.class, NoopTracerFactory.create());
-        Field subscribersByTypeField = EventBus.class.getDeclaredField("subscribersByType");
+        Field subscribersByTypeField = ShardingEventBus.class.getDeclaredField("subscribersByType");
         subscribersByTypeField.setAccessible(true);
-        subscribersByTypeField.set(EventBusInstance.getInstance(), HashMultimap.create());
+        subscribersByTypeField.set(EventBusInstance.getInstance(), Collections.emptyMap());
     }
 }
@@ -17,19 +17,19 @@
 
 package io.shardingsphere.opentracing;
 
-import com.google.common.collect.HashMultimap;
-import com.google.common.eventbus.EventBus;
 import io.opentracing.NoopTracerFactory;
 import io.opentracing.Tracer;
 import io.opentracing.util.GlobalTracer;
 import io.shardingsphere.core.exception.ShardingException;
 import io.shardingsphere.core.util.EventBusInstance;
+import io.shardingsphere.core.util.ShardingEventBus;
 import io.shardingsphere.opentracing.fixture.FooTracer;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.lang.reflect.Field;
+import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.isA;
@@ -82,8 +82,8 @@ public final class ShardingJDBCTracerTest {
     }
     
     private static void unregisterEventBus() throws NoSuchFieldException, IllegalAccessException {
-        Field subscribersByTypeField = EventBus.class.getDeclaredField("subscribersByType");
+        Field subscribersByTypeField = ShardingEventBus.class.getDeclaredField("subscribersByType");
         subscribersByTypeField.setAccessible(true);
-        subscribersByTypeField.set(EventBusInstance.getInstance(), HashMultimap.create());
+        subscribersByTypeField.set(EventBusInstance.getInstance(), Collections.emptyMap());
     }
 }
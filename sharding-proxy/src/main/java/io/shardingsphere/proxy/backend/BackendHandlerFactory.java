@@ -18,8 +18,10 @@
 package io.shardingsphere.proxy.backend;
 
 import io.shardingsphere.core.constant.DatabaseType;
-import io.shardingsphere.proxy.backend.jdbc.connection.BackendConnection;
+import io.shardingsphere.core.constant.transaction.TransactionType;
 import io.shardingsphere.proxy.backend.jdbc.JDBCBackendHandler;
+import io.shardingsphere.proxy.backend.jdbc.connection.BackendConnection;
+import io.shardingsphere.proxy.backend.jdbc.connection.SetAutoCommitStatement;
 import io.shardingsphere.proxy.backend.jdbc.execute.JDBCExecuteEngineFactory;
 import io.shardingsphere.proxy.backend.netty.NettyBackendHandler;
 import io.shardingsphere.proxy.config.RuleRegistry;
@@ -41,6 +43,8 @@ public final class BackendHandlerFactory {
     /**
      * Create new instance of text protocol backend handler.
      * 
+     * <p>SQL which controls transaction or runs in transaction is always executed by JDBC backend, which tracks transaction status of session.</p>
+     * 
      * @param connectionId connection ID of database connected
      * @param sequenceId sequence ID of SQL packet
      * @param sql SQL to be executed
@@ -50,12 +54,15 @@ public final class BackendHandlerFactory {
      */
     public static BackendHandler newTextProtocolInstance(
             final int connectionId, final int sequenceId, final String sql, final BackendConnection backendConnection, final DatabaseType databaseType) {
-        return RULE_REGISTRY.getBackendNIOConfig().isUseNIO()
-                ? new NettyBackendHandler(connectionId, sequenceId, sql, databaseType) : new JDBCBackendHandler(sql, JDBCExecuteEngineFactory.createTextProtocolInstance(backendConnection));
+        return isUseNIO(sql, backendConnection)
+                ? new NettyBackendHandler(connectionId, sequenceId, sql, backendConnection, databaseType)
+                : new JDBCBackendHandler(sql, JDBCExecuteEngineFactory.createTextProtocolInstance(backendConnection), false);
     }
     
     /**
-     * Create new instance of text protocol backend handler.
+     * Create new instance of binary protocol backend handler.
+     * 
+     * <p>Binary protocol is always executed by JDBC backend, since NIO backend only speaks text protocol to databases.</p>
      * 
      * @param connectionId connection ID of database connected
      * @param sequenceId sequence ID of SQL packet
@@ -63,11 +70,15 @@ public final class BackendHandlerFactory {
      * @param parameters SQL parameters
      * @param backendConnection backend connection
      * @param databaseType database type
-     * @return instance of text protocol backend handler
+     * @return instance of binary protocol backend handler
      */
     public static BackendHandler newBinaryProtocolInstance(
             final int connectionId, final int sequenceId, final String sql, final List<Object> parameters, final BackendConnection backendConnection, final DatabaseType databaseType) {
-        return RULE_REGISTRY.getBackendNIOConfig().isUseNIO() ? new NettyBackendHandler(connectionId, sequenceId, sql, databaseType)
-                : new JDBCBackendHandler(sql, JDBCExecuteEngineFactory.createBinaryProtocolInstance(parameters, backendConnection));
+        return new JDBCBackendHandler(sql, JDBCExecuteEngineFactory.createBinaryProtocolInstance(parameters, backendConnection), true);
+    }
+    
+    private static boolean isUseNIO(final String sql, final BackendConnection backendConnection) {
+        return RULE_REGISTRY.getBackendNIOConfig().isUseNIO() && TransactionType.LOCAL == RULE_REGISTRY.getTransactionType()
+                && !backendConnection.isInTransaction() && !SetAutoCommitStatement.isTransactionControl(sql);
     }
 }
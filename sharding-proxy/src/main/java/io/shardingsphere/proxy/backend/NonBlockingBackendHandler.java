@@ -0,0 +1,35 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.backend;
+
+/**
+ * Backend handler which sends SQL to backend without blocking thread.
+ *
+ * @author zhangliang
+ */
+public interface NonBlockingBackendHandler extends BackendHandler {
+    
+    /**
+     * Send SQL to backend.
+     * 
+     * <p>Callback is invoked once all responses are received, sending failed or timeout, then {@code execute} returns without waiting backend.</p>
+     * 
+     * @param callback callback invoked by backend I/O thread or current thread
+     */
+    void send(Runnable callback);
+}
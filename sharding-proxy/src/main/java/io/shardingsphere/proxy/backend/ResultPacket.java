@@ -17,10 +17,13 @@
 
 package io.shardingsphere.proxy.backend;
 
+import io.shardingsphere.proxy.transport.common.packet.DatabasePacket;
 import io.shardingsphere.proxy.transport.mysql.constant.ColumnType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -28,7 +31,7 @@ import java.util.List;
  *
  * @author zhangliang
  */
-@RequiredArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Getter
 public final class ResultPacket {
     
@@ -39,4 +42,23 @@ public final class ResultPacket {
     private final int columnCount;
     
     private final List<ColumnType> columnTypes;
+    
+    private final DatabasePacket passThroughPacket;
+    
+    public ResultPacket(final int sequenceId, final List<Object> data, final int columnCount, final List<ColumnType> columnTypes) {
+        this(sequenceId, data, columnCount, columnTypes, null);
+    }
+    
+    public ResultPacket(final DatabasePacket passThroughPacket) {
+        this(passThroughPacket.getSequenceId(), Collections.emptyList(), 0, Collections.<ColumnType>emptyList(), passThroughPacket);
+    }
+    
+    /**
+     * Whether result is passed through from backend database without decoding.
+     * 
+     * @return result is passed through or not
+     */
+    public boolean isPassThrough() {
+        return null != passThroughPacket;
+    }
 }
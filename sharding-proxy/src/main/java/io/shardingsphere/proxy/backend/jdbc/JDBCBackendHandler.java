@@ -30,7 +30,9 @@ import io.shardingsphere.core.routing.SQLRouteResult;
 import io.shardingsphere.proxy.backend.AbstractBackendHandler;
 import io.shardingsphere.proxy.backend.BackendExecutorContext;
 import io.shardingsphere.proxy.backend.ResultPacket;
+import io.shardingsphere.proxy.backend.jdbc.connection.BackendConnection;
 import io.shardingsphere.proxy.backend.jdbc.execute.JDBCExecuteEngine;
+import io.shardingsphere.proxy.backend.jdbc.execute.QueryResponsePacketsCache;
 import io.shardingsphere.proxy.backend.jdbc.execute.response.ExecuteQueryResponse;
 import io.shardingsphere.proxy.backend.jdbc.execute.response.ExecuteResponse;
 import io.shardingsphere.proxy.backend.jdbc.execute.response.ExecuteUpdateResponse;
@@ -41,6 +43,7 @@ import io.shardingsphere.proxy.transport.mysql.packet.command.CommandResponsePac
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.ColumnDefinition41Packet;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.FieldCountPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.QueryResponsePackets;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.execute.BinaryResultSetRowWriter;
 import io.shardingsphere.proxy.transport.mysql.packet.generic.EofPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.generic.ErrPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.generic.OKPacket;
@@ -68,10 +71,16 @@ public final class JDBCBackendHandler extends AbstractBackendHandler {
     
     private final JDBCExecuteEngine executeEngine;
     
+    private final boolean binaryProtocol;
+    
     private ExecuteResponse executeResponse;
     
     private MergedResult mergedResult;
     
+    private QueryResponsePackets queryResponsePackets;
+    
+    private BinaryResultSetRowWriter binaryResultSetRowWriter;
+    
     private int currentSequenceId;
     
     @Override
@@ -89,7 +98,10 @@ public final class JDBCBackendHandler extends AbstractBackendHandler {
             return new CommandResponsePackets(new ErrPacket(1, 
                     ServerErrorCode.ER_ERROR_ON_MODIFYING_GTID_EXECUTED_TABLE, sqlStatement.getTables().isSingleTable() ? sqlStatement.getTables().getSingleTableName() : "unknown_table"));
         }
-        executeResponse = executeEngine.execute(routeResult, isReturnGeneratedKeys);
+        executeResponse = execute(routeResult, isReturnGeneratedKeys);
+        if (SQLType.DDL == sqlStatement.getType()) {
+            QueryResponsePacketsCache.getInstance().increaseMetaDataVersion();
+        }
         if (!RULE_REGISTRY.isMasterSlaveOnly() && SQLType.DDL == sqlStatement.getType() && !sqlStatement.getTables().isEmpty()) {
             String logicTableName = sqlStatement.getTables().getSingleTableName();
             // TODO refresh table meta data by SQL parse result
@@ -100,6 +112,21 @@ public final class JDBCBackendHandler extends AbstractBackendHandler {
         return merge(sqlStatement);
     }
     
+    private ExecuteResponse execute(final SQLRouteResult routeResult, final boolean isReturnGeneratedKeys) throws SQLException {
+        BackendConnection backendConnection = executeEngine.getBackendConnection();
+        backendConnection.updateTransactionStatus(sql);
+        boolean executed = false;
+        try {
+            ExecuteResponse result = executeEngine.execute(routeResult, isReturnGeneratedKeys);
+            executed = true;
+            return result;
+        } finally {
+            if (!executed) {
+                backendConnection.revertTransactionStatus();
+            }
+        }
+    }
+    
     private boolean isUnsupportedXA(final SQLType sqlType) throws SQLException {
         return TransactionType.XA == RULE_REGISTRY.getTransactionType() && SQLType.DDL == sqlType
                 && Status.STATUS_NO_TRANSACTION != ShardingTransactionManagerRegistry.getInstance().getShardingTransactionManager(TransactionType.XA).getStatus();
@@ -110,13 +137,20 @@ public final class JDBCBackendHandler extends AbstractBackendHandler {
             return ((ExecuteUpdateResponse) executeResponse).merge();
         }
         mergedResult = MergeEngineFactory.newInstance(
-                RULE_REGISTRY.getShardingRule(), ((ExecuteQueryResponse) executeResponse).getQueryResults(), sqlStatement, RULE_REGISTRY.getMetaData().getTable()).merge();
-        QueryResponsePackets result = getQueryResponsePacketsWithoutDerivedColumns(((ExecuteQueryResponse) executeResponse).getQueryResponsePackets());
-        currentSequenceId = result.getPackets().size();
-        return result;
+                RULE_REGISTRY.getShardingRule(), ((ExecuteQueryResponse) executeResponse).getQueryResults(), sqlStatement, RULE_REGISTRY.getMetaData().getTable(), 
+                RULE_REGISTRY.getGroupByMemoryMergeBudget()).merge();
+        queryResponsePackets = getQueryResponsePacketsWithoutDerivedColumns(((ExecuteQueryResponse) executeResponse).getQueryResponsePackets());
+        if (binaryProtocol) {
+            binaryResultSetRowWriter = new BinaryResultSetRowWriter(queryResponsePackets.getColumnDefinition41Packets());
+        }
+        currentSequenceId = queryResponsePackets.getPackets().size();
+        return queryResponsePackets;
     }
     
     private QueryResponsePackets getQueryResponsePacketsWithoutDerivedColumns(final QueryResponsePackets queryResponsePackets) {
+        if (!hasDerivedColumns(queryResponsePackets)) {
+            return queryResponsePackets;
+        }
         Collection<ColumnDefinition41Packet> columnDefinition41Packets = new ArrayList<>(queryResponsePackets.getColumnCount());
         int columnCount = 0;
         for (ColumnDefinition41Packet each : queryResponsePackets.getColumnDefinition41Packets()) {
@@ -129,6 +163,15 @@ public final class JDBCBackendHandler extends AbstractBackendHandler {
         return new QueryResponsePackets(fieldCountPacket, columnDefinition41Packets, new EofPacket(columnCount + 2));
     }
     
+    private boolean hasDerivedColumns(final QueryResponsePackets queryResponsePackets) {
+        for (ColumnDefinition41Packet each : queryResponsePackets.getColumnDefinition41Packets()) {
+            if (DerivedColumn.isDerivedColumn(each.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     @Override
     public boolean next() throws SQLException {
         return null != mergedResult && mergedResult.next();
@@ -136,7 +179,9 @@ public final class JDBCBackendHandler extends AbstractBackendHandler {
     
     @Override
     public ResultPacket getResultValue() throws SQLException {
-        QueryResponsePackets queryResponsePackets = ((ExecuteQueryResponse) executeResponse).getQueryResponsePackets();
+        if (null != binaryResultSetRowWriter) {
+            return new ResultPacket(binaryResultSetRowWriter.write(++currentSequenceId, mergedResult));
+        }
         int columnCount = queryResponsePackets.getColumnCount();
         List<Object> data = new ArrayList<>(columnCount);
         for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
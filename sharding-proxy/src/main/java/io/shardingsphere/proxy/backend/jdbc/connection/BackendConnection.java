@@ -17,19 +17,43 @@
 
 package io.shardingsphere.proxy.backend.jdbc.connection;
 
+import com.google.common.base.Optional;
+import io.shardingsphere.core.constant.transaction.TransactionOperationType;
+import io.shardingsphere.core.constant.transaction.TransactionType;
 import io.shardingsphere.core.routing.router.masterslave.MasterVisitedManager;
+import io.shardingsphere.proxy.config.BackendSessionConfiguration;
 import io.shardingsphere.proxy.config.RuleRegistry;
+import io.shardingsphere.transaction.event.xa.XATransactionEvent;
+import io.shardingsphere.transaction.manager.ShardingTransactionManagerRegistry;
+import io.shardingsphere.transaction.manager.xa.XATransactionManager;
 
+import javax.transaction.Transaction;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Backend connection.
+ * 
+ * <p>
+ * Backend connection lives as long as the frontend session.
+ * The first connection of each data source is bound to the session, 
+ * it is held during transaction, and held after command too if session is sticky.
+ * Other connections of the same data source in one command are returned to pool after command.
+ * </p>
+ * 
+ * <p>
+ * Session is in transaction after BEGIN until COMMIT or ROLLBACK, and always while autocommit is turned off.
+ * In local transaction, all SQL of one data source run on the bound connection.
+ * Bound connections are reset after transaction is finished, so neither transaction nor autocommit setting is left to connections returned to pool.
+ * </p>
  *
  * @author zhaojun
  * @author zhangliang
@@ -38,12 +62,30 @@ public final class BackendConnection implements AutoCloseable {
     
     private static final RuleRegistry RULE_REGISTRY = RuleRegistry.getInstance();
     
+    private final Map<String, Connection> boundConnections = new LinkedHashMap<>();
+    
+    private final Collection<String> usedDataSourceNames = new HashSet<>();
+    
     private final Collection<Connection> cachedConnections = new CopyOnWriteArrayList<>();
     
     private final Collection<Statement> cachedStatements = new CopyOnWriteArrayList<>();
     
     private final Collection<ResultSet> cachedResultSets = new CopyOnWriteArrayList<>();
     
+    private final Collection<AutoCloseable> cachedResources = new CopyOnWriteArrayList<>();
+    
+    private volatile boolean inTransaction;
+    
+    private volatile boolean autoCommit = true;
+    
+    private boolean previousInTransaction;
+    
+    private boolean previousAutoCommit = true;
+    
+    private boolean transactionStatusChanged;
+    
+    private Transaction suspendedXATransaction;
+    
     /**
      * Get connection of current thread datasource.
      *
@@ -51,12 +93,59 @@ public final class BackendConnection implements AutoCloseable {
      * @return connection
      * @throws SQLException SQL exception
      */
-    public Connection getConnection(final String dataSourceName) throws SQLException {
+    public synchronized Connection getConnection(final String dataSourceName) throws SQLException {
+        if (isInLocalTransaction()) {
+            return getTransactionConnection(dataSourceName);
+        }
+        if (usedDataSourceNames.add(dataSourceName)) {
+            if (boundConnections.containsKey(dataSourceName)) {
+                return boundConnections.get(dataSourceName);
+            }
+            if (isBindable()) {
+                Connection result = RULE_REGISTRY.getBackendDataSource().getConnection(dataSourceName);
+                boundConnections.put(dataSourceName, result);
+                return result;
+            }
+        }
         Connection result = RULE_REGISTRY.getBackendDataSource().getConnection(dataSourceName);
         cachedConnections.add(result);
         return result;
     }
     
+    private boolean isInLocalTransaction() {
+        return isInTransaction() && TransactionType.LOCAL == RULE_REGISTRY.getTransactionType();
+    }
+    
+    private Connection getTransactionConnection(final String dataSourceName) throws SQLException {
+        usedDataSourceNames.add(dataSourceName);
+        Connection result = boundConnections.get(dataSourceName);
+        if (null != result) {
+            return result;
+        }
+        if (!isBindable()) {
+            throw new SQLException(String.format("Can not bind connection of data source '%s' to transaction, exceed max connections '%d' of session.", 
+                    dataSourceName, RULE_REGISTRY.getBackendSessionConfig().getMaxConnections()));
+        }
+        result = RULE_REGISTRY.getBackendDataSource().getConnection(dataSourceName);
+        boundConnections.put(dataSourceName, result);
+        joinTransaction(result);
+        return result;
+    }
+    
+    private void joinTransaction(final Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(autoCommit ? "BEGIN" : "SET AUTOCOMMIT=0");
+        }
+    }
+    
+    private boolean isBindable() {
+        if (TransactionType.XA == RULE_REGISTRY.getTransactionType()) {
+            return false;
+        }
+        int maxConnections = RULE_REGISTRY.getBackendSessionConfig().getMaxConnections();
+        return 0 == maxConnections || boundConnections.size() < maxConnections;
+    }
+    
     /**
      * Add statement.
      *
@@ -75,16 +164,162 @@ public final class BackendConnection implements AutoCloseable {
         cachedResultSets.add(resultSet);
     }
     
+    /**
+     * Add resource which is not JDBC resource, such as NIO backend channels.
+     *
+     * @param resource resource to be released after command
+     */
+    public void addResource(final AutoCloseable resource) {
+        cachedResources.add(resource);
+    }
+    
+    /**
+     * Whether session is in transaction.
+     * 
+     * @return in transaction or not
+     */
+    public boolean isInTransaction() {
+        return inTransaction || !autoCommit;
+    }
+    
+    /**
+     * Whether autocommit of session is turned on.
+     * 
+     * @return autocommit is turned on or not
+     */
+    public boolean isAutoCommit() {
+        return autoCommit;
+    }
+    
+    /**
+     * Update transaction status by SQL to be executed.
+     * 
+     * <p>Status is updated before execution, so connections used by SQL which starts transaction are bound to session.</p>
+     * 
+     * @param sql SQL to be executed
+     */
+    public synchronized void updateTransactionStatus(final String sql) {
+        previousInTransaction = inTransaction;
+        previousAutoCommit = autoCommit;
+        Optional<Boolean> autoCommitSetting = SetAutoCommitStatement.getAutoCommit(sql);
+        if (autoCommitSetting.isPresent()) {
+            autoCommit = autoCommitSetting.get();
+            if (autoCommit) {
+                inTransaction = false;
+            }
+            transactionStatusChanged = true;
+            return;
+        }
+        Optional<TransactionOperationType> operationType = TransactionOperationType.getOperationType(sql.trim());
+        if (operationType.isPresent()) {
+            inTransaction = TransactionOperationType.BEGIN == operationType.get();
+            transactionStatusChanged = true;
+        }
+    }
+    
+    /**
+     * Revert transaction status updated by SQL which failed to execute.
+     */
+    public synchronized void revertTransactionStatus() {
+        inTransaction = previousInTransaction;
+        autoCommit = previousAutoCommit;
+    }
+    
+    /**
+     * Resume XA transaction of this session to current thread.
+     * 
+     * @throws SQLException SQL exception
+     */
+    public synchronized void resumeXATransaction() throws SQLException {
+        if (null != suspendedXATransaction) {
+            Transaction transaction = suspendedXATransaction;
+            suspendedXATransaction = null;
+            getXATransactionManager().resume(transaction);
+        }
+    }
+    
+    /**
+     * Suspend XA transaction of this session from current thread.
+     * 
+     * <p>Commands of one session may run on different threads, so XA transaction is detached from thread after each command.</p>
+     * 
+     * @throws SQLException SQL exception
+     */
+    public synchronized void suspendXATransaction() throws SQLException {
+        if (TransactionType.XA == RULE_REGISTRY.getTransactionType()) {
+            suspendedXATransaction = getXATransactionManager().suspend();
+        }
+    }
+    
+    private XATransactionManager getXATransactionManager() {
+        return (XATransactionManager) ShardingTransactionManagerRegistry.getInstance().getShardingTransactionManager(TransactionType.XA);
+    }
+    
+    /**
+     * Release resources of current command.
+     * 
+     * <p>Bound connections are reset if transaction is finished, and released too if neither in transaction nor sticky.</p>
+     * 
+     * @throws SQLException SQL exception
+     */
+    public synchronized void release() throws SQLException {
+        Collection<SQLException> exceptions = new LinkedList<>();
+        exceptions.addAll(closeResultSets());
+        exceptions.addAll(closeResources());
+        exceptions.addAll(closeStatements());
+        exceptions.addAll(closeConnections());
+        usedDataSourceNames.clear();
+        if (!isInTransaction()) {
+            exceptions.addAll(resetBoundConnectionsIfNecessary());
+            if (!RULE_REGISTRY.getBackendSessionConfig().isSticky()) {
+                exceptions.addAll(closeBoundConnections());
+            }
+        }
+        MasterVisitedManager.clear();
+        throwSQLExceptionIfNecessary(exceptions);
+    }
+    
+    /**
+     * Release bound connections if no command is running and not in transaction.
+     * 
+     * @throws SQLException SQL exception
+     */
+    public synchronized void releaseIdleConnections() throws SQLException {
+        if (usedDataSourceNames.isEmpty() && !isInTransaction()) {
+            throwSQLExceptionIfNecessary(closeBoundConnections());
+        }
+    }
+    
     @Override
-    public void close() throws SQLException {
+    public synchronized void close() throws SQLException {
         Collection<SQLException> exceptions = new LinkedList<>();
         exceptions.addAll(closeResultSets());
+        exceptions.addAll(closeResources());
         exceptions.addAll(closeStatements());
         exceptions.addAll(closeConnections());
+        usedDataSourceNames.clear();
+        inTransaction = false;
+        autoCommit = true;
+        exceptions.addAll(closeBoundConnections());
+        exceptions.addAll(rollbackSuspendedXATransaction());
         MasterVisitedManager.clear();
         throwSQLExceptionIfNecessary(exceptions);
     }
     
+    private Collection<SQLException> rollbackSuspendedXATransaction() {
+        Collection<SQLException> result = new LinkedList<>();
+        if (null == suspendedXATransaction) {
+            return result;
+        }
+        try {
+            resumeXATransaction();
+            getXATransactionManager().rollback(new XATransactionEvent(TransactionOperationType.ROLLBACK));
+        } catch (final SQLException ex) {
+            result.add(ex);
+        }
+        return result;
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
@@ -94,6 +329,22 @@ public final class BackendConnection implements AutoCloseable {
                 result.add(ex);
             }
         }
+        cachedResultSets.clear();
+        return result;
+    }
+    
+    private Collection<SQLException> closeResources() {
+        Collection<SQLException> result = new LinkedList<>();
+        for (AutoCloseable each : cachedResources) {
+            try {
+                each.close();
+                // CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+                // CHECKSTYLE:ON
+                result.add(ex instanceof SQLException ? (SQLException) ex : new SQLException(ex));
+            }
+        }
+        cachedResources.clear();
         return result;
     }
     
@@ -106,6 +357,7 @@ public final class BackendConnection implements AutoCloseable {
                 result.add(ex);
             }
         }
+        cachedStatements.clear();
         return result;
     }
     
@@ -114,7 +366,38 @@ public final class BackendConnection implements AutoCloseable {
         for (Connection each : cachedConnections) {
             try {
                 each.close();
-            } catch (SQLException ex) {
+            } catch (final SQLException ex) {
+                result.add(ex);
+            }
+        }
+        cachedConnections.clear();
+        return result;
+    }
+    
+    private Collection<SQLException> closeBoundConnections() {
+        Collection<SQLException> result = new LinkedList<>(resetBoundConnectionsIfNecessary());
+        for (Connection each : boundConnections.values()) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                result.add(ex);
+            }
+        }
+        boundConnections.clear();
+        return result;
+    }
+    
+    private Collection<SQLException> resetBoundConnectionsIfNecessary() {
+        Collection<SQLException> result = new LinkedList<>();
+        if (!transactionStatusChanged) {
+            return result;
+        }
+        transactionStatusChanged = false;
+        for (Connection each : boundConnections.values()) {
+            try (Statement statement = each.createStatement()) {
+                statement.execute("ROLLBACK");
+                statement.execute("SET AUTOCOMMIT=1");
+            } catch (final SQLException ex) {
                 result.add(ex);
             }
         }
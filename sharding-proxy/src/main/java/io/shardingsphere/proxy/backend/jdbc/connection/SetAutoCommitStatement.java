@@ -0,0 +1,62 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.backend.jdbc.connection;
+
+import com.google.common.base.Optional;
+import io.shardingsphere.core.constant.transaction.TransactionOperationType;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Statement to set autocommit of session.
+ *
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SetAutoCommitStatement {
+    
+    private static final Pattern PATTERN = Pattern.compile("^SET\\s+(?:SESSION\\s+|@@SESSION\\.|@@)?AUTOCOMMIT\\s*=\\s*(0|1|OFF|ON|FALSE|TRUE)\\s*;?$", Pattern.CASE_INSENSITIVE);
+    
+    /**
+     * Get autocommit set by SQL.
+     * 
+     * @param sql SQL
+     * @return autocommit set by SQL, absent if SQL is not to set autocommit
+     */
+    public static Optional<Boolean> getAutoCommit(final String sql) {
+        Matcher matcher = PATTERN.matcher(sql.trim());
+        if (!matcher.matches()) {
+            return Optional.absent();
+        }
+        String value = matcher.group(1);
+        return Optional.of("1".equals(value) || "ON".equalsIgnoreCase(value) || "TRUE".equalsIgnoreCase(value));
+    }
+    
+    /**
+     * Judge whether SQL controls transaction, include setting autocommit.
+     * 
+     * @param sql SQL
+     * @return SQL controls transaction or not
+     */
+    public static boolean isTransactionControl(final String sql) {
+        return getAutoCommit(sql).isPresent() || TransactionOperationType.getOperationType(sql.trim()).isPresent();
+    }
+}
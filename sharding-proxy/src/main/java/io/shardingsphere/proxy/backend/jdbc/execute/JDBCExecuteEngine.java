@@ -17,6 +17,7 @@
 
 package io.shardingsphere.proxy.backend.jdbc.execute;
 
+import com.google.common.base.Optional;
 import io.shardingsphere.core.merger.QueryResult;
 import io.shardingsphere.proxy.backend.SQLExecuteEngine;
 import io.shardingsphere.proxy.backend.jdbc.connection.BackendConnection;
@@ -35,6 +36,7 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
@@ -67,7 +69,8 @@ public abstract class JDBCExecuteEngine implements SQLExecuteEngine {
     
     private List<ColumnType> columnTypes;
     
-    protected ExecuteResponseUnit executeWithMetadata(final Statement statement, final String sql, final boolean isReturnGeneratedKeys) throws SQLException {
+    protected ExecuteResponseUnit executeWithMetadata(final Statement statement, final String dataSourceName, final String sql, final boolean isReturnGeneratedKeys) throws SQLException {
+        long metaDataVersion = QueryResponsePacketsCache.getInstance().getMetaDataVersion();
         backendConnection.add(statement);
         setFetchSize(statement);
         if (!jdbcExecutorWrapper.executeSQL(statement, sql, isReturnGeneratedKeys)) {
@@ -75,11 +78,17 @@ public abstract class JDBCExecuteEngine implements SQLExecuteEngine {
         }
         ResultSet resultSet = statement.getResultSet();
         backendConnection.add(resultSet);
+        if (statement instanceof PreparedStatement) {
+            Optional<QueryResponsePackets> cachedPackets = QueryResponsePacketsCache.getInstance().get(dataSourceName, sql, metaDataVersion);
+            if (cachedPackets.isPresent()) {
+                return new ExecuteQueryResponseUnit(cachedPackets.get(), createQueryResult(resultSet));
+            }
+        }
         ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
         if (0 == resultSetMetaData.getColumnCount()) {
             return new ExecuteUpdateResponseUnit(new OKPacket(1));
         }
-        return new ExecuteQueryResponseUnit(getHeaderPackets(resultSetMetaData), createQueryResult(resultSet));
+        return new ExecuteQueryResponseUnit(getHeaderPackets(statement, dataSourceName, sql, metaDataVersion, resultSetMetaData), createQueryResult(resultSet));
     }
     
     protected ExecuteResponseUnit executeWithoutMetadata(final Statement statement, final String sql, final boolean isReturnGeneratedKeys) throws SQLException {
@@ -100,6 +109,16 @@ public abstract class JDBCExecuteEngine implements SQLExecuteEngine {
         return resultSet.next() ? resultSet.getLong(1) : 0L;
     }
     
+    private QueryResponsePackets getHeaderPackets(
+            final Statement statement, final String dataSourceName, final String sql, final long metaDataVersion, final ResultSetMetaData resultSetMetaData) throws SQLException {
+        if (!(statement instanceof PreparedStatement)) {
+            return getHeaderPackets(resultSetMetaData);
+        }
+        QueryResponsePackets result = getHeaderPackets(resultSetMetaData).encode();
+        QueryResponsePacketsCache.getInstance().put(dataSourceName, sql, metaDataVersion, result);
+        return result;
+    }
+    
     private QueryResponsePackets getHeaderPackets(final ResultSetMetaData resultSetMetaData) throws SQLException {
         int currentSequenceId = 0;
         int columnCount = resultSetMetaData.getColumnCount();
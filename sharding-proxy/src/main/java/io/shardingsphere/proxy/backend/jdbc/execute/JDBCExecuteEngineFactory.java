@@ -18,6 +18,7 @@
 package io.shardingsphere.proxy.backend.jdbc.execute;
 
 import io.shardingsphere.core.constant.ConnectionMode;
+import io.shardingsphere.core.constant.transaction.TransactionType;
 import io.shardingsphere.proxy.backend.jdbc.connection.BackendConnection;
 import io.shardingsphere.proxy.backend.jdbc.execute.memory.ConnectionStrictlyExecuteEngine;
 import io.shardingsphere.proxy.backend.jdbc.execute.stream.MemoryStrictlyExecuteEngine;
@@ -32,6 +33,8 @@ import java.util.List;
 
 /**
  * JDBC execute engine factory.
+ * 
+ * <p>Connection strictly execute engine is always used in local transaction, so SQL of one data source run on the bound connection one by one.</p>
  *
  * @author zhangliang
  */
@@ -48,8 +51,7 @@ public final class JDBCExecuteEngineFactory {
      */
     public static JDBCExecuteEngine createTextProtocolInstance(final BackendConnection backendConnection) {
         JDBCExecutorWrapper jdbcExecutorWrapper = new StatementExecutorWrapper();
-        return ConnectionMode.MEMORY_STRICTLY == RULE_REGISTRY.getConnectionMode()
-                ? new MemoryStrictlyExecuteEngine(backendConnection, jdbcExecutorWrapper) : new ConnectionStrictlyExecuteEngine(backendConnection, jdbcExecutorWrapper);
+        return createInstance(backendConnection, jdbcExecutorWrapper);
     }
     
     /**
@@ -61,7 +63,15 @@ public final class JDBCExecuteEngineFactory {
      */
     public static JDBCExecuteEngine createBinaryProtocolInstance(final List<Object> parameters, final BackendConnection backendConnection) {
         JDBCExecutorWrapper jdbcExecutorWrapper = new PreparedStatementExecutorWrapper(parameters);
-        return ConnectionMode.MEMORY_STRICTLY == RULE_REGISTRY.getConnectionMode()
+        return createInstance(backendConnection, jdbcExecutorWrapper);
+    }
+    
+    private static JDBCExecuteEngine createInstance(final BackendConnection backendConnection, final JDBCExecutorWrapper jdbcExecutorWrapper) {
+        return ConnectionMode.MEMORY_STRICTLY == RULE_REGISTRY.getConnectionMode() && !isInLocalTransaction(backendConnection)
                 ? new MemoryStrictlyExecuteEngine(backendConnection, jdbcExecutorWrapper) : new ConnectionStrictlyExecuteEngine(backendConnection, jdbcExecutorWrapper);
     }
+    
+    private static boolean isInLocalTransaction(final BackendConnection backendConnection) {
+        return TransactionType.LOCAL == RULE_REGISTRY.getTransactionType() && backendConnection.isInTransaction();
+    }
 }
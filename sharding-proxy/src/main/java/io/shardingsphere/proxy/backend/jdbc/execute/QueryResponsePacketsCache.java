@@ -0,0 +1,118 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.backend.jdbc.execute;
+
+import com.google.common.base.Optional;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.QueryResponsePackets;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache of encoded query response packets for prepared statements.
+ * 
+ * <p>
+ *     Column definitions of a prepared statement do not change until table meta data changes,
+ *     so header packets are encoded once for each data source and actual SQL, and reused without reading result set meta data again.
+ *     Cached packets belong to a meta data version, which is increased after DDL executed by proxy.
+ *     Table meta data changed by others is not detected, packets of the old version are returned until next DDL executed by proxy.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class QueryResponsePacketsCache {
+    
+    private static final QueryResponsePacketsCache INSTANCE = new QueryResponsePacketsCache();
+    
+    private static final int MAX_SIZE = 1024;
+    
+    private final Cache<CacheKey, QueryResponsePackets> cache = CacheBuilder.newBuilder().maximumSize(MAX_SIZE).build();
+    
+    private final AtomicLong metaDataVersion = new AtomicLong();
+    
+    /**
+     * Get instance of query response packets cache.
+     * 
+     * @return instance of query response packets cache
+     */
+    public static QueryResponsePacketsCache getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Get current meta data version.
+     * 
+     * <p>Version should be got before executing SQL, so packets encoded from result set of old table meta data are not cached for new version.</p>
+     * 
+     * @return current meta data version
+     */
+    public long getMetaDataVersion() {
+        return metaDataVersion.get();
+    }
+    
+    /**
+     * Get cached query response packets.
+     * 
+     * @param dataSourceName data source name
+     * @param sql actual SQL of prepared statement
+     * @param metaDataVersion meta data version
+     * @return cached query response packets, absent if not cached
+     */
+    public Optional<QueryResponsePackets> get(final String dataSourceName, final String sql, final long metaDataVersion) {
+        return Optional.fromNullable(cache.getIfPresent(new CacheKey(dataSourceName, sql, metaDataVersion)));
+    }
+    
+    /**
+     * Put query response packets.
+     * 
+     * @param dataSourceName data source name
+     * @param sql actual SQL of prepared statement
+     * @param metaDataVersion meta data version
+     * @param queryResponsePackets encoded query response packets
+     */
+    public void put(final String dataSourceName, final String sql, final long metaDataVersion, final QueryResponsePackets queryResponsePackets) {
+        if (metaDataVersion == this.metaDataVersion.get()) {
+            cache.put(new CacheKey(dataSourceName, sql, metaDataVersion), queryResponsePackets);
+        }
+    }
+    
+    /**
+     * Increase meta data version and invalidate packets of old versions.
+     */
+    public void increaseMetaDataVersion() {
+        metaDataVersion.incrementAndGet();
+        cache.invalidateAll();
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class CacheKey {
+        
+        private final String dataSourceName;
+        
+        private final String sql;
+        
+        private final long metaDataVersion;
+    }
+}
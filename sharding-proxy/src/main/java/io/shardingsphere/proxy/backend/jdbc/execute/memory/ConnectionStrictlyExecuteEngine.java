@@ -134,7 +134,7 @@ public final class ConnectionStrictlyExecuteEngine extends JDBCExecuteEngine {
             if (hasMetaData) {
                 response = executeWithoutMetadata(statement, actualSQL, isReturnGeneratedKeys);
             } else {
-                response = executeWithMetadata(statement, actualSQL, isReturnGeneratedKeys);
+                response = executeWithMetadata(statement, dataSourceName, actualSQL, isReturnGeneratedKeys);
                 hasMetaData = true;
             }
             result.add(response);
@@ -110,7 +110,7 @@ public final class MemoryStrictlyExecuteEngine extends JDBCExecuteEngine {
     private ExecuteResponseUnit syncExecute(final boolean isReturnGeneratedKeys, final SQLExecutionUnit sqlExecutionUnit) throws SQLException {
         Statement statement = getJdbcExecutorWrapper().createStatement(
                 getBackendConnection().getConnection(sqlExecutionUnit.getDataSource()), sqlExecutionUnit.getSqlUnit().getSql(), isReturnGeneratedKeys);
-        return executeWithMetadata(statement, sqlExecutionUnit.getSqlUnit().getSql(), isReturnGeneratedKeys);
+        return executeWithMetadata(statement, sqlExecutionUnit.getDataSource(), sqlExecutionUnit.getSqlUnit().getSql(), isReturnGeneratedKeys);
     }
     
     private ExecuteResponse getExecuteQueryResponse(final ExecuteQueryResponseUnit firstResponseUnit, final List<Future<ExecuteResponseUnit>> futureList) {
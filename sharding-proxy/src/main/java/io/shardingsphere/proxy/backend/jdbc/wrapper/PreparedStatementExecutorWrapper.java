@@ -63,7 +63,8 @@ public final class PreparedStatementExecutorWrapper implements JDBCExecutorWrapp
     
     private SQLRouteResult doShardingRoute(final String sql, final DatabaseType databaseType) {
         return new PreparedStatementRoutingEngine(
-                sql, RULE_REGISTRY.getShardingRule(), RULE_REGISTRY.getMetaData().getTable(), databaseType, RULE_REGISTRY.isShowSQL(), RULE_REGISTRY.getMetaData().getDataSource()).route(parameters);
+                sql, RULE_REGISTRY.getShardingRule(), RULE_REGISTRY.getMetaData().getTable(), databaseType, RULE_REGISTRY.isShowSQL(), 
+                RULE_REGISTRY.getMetaData().getDataSource(), RULE_REGISTRY.getParsingResultCache(), RULE_REGISTRY.getMaxInsertValuesSize()).route(parameters);
     }
     
     @Override
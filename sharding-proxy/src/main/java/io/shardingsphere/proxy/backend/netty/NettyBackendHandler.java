@@ -18,7 +18,12 @@
 package io.shardingsphere.proxy.backend.netty;
 
 import io.netty.channel.Channel;
-import io.netty.channel.pool.SimpleChannelPool;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.FutureListener;
+import io.netty.util.concurrent.GlobalEventExecutor;
+import io.netty.util.concurrent.ScheduledFuture;
 import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.constant.SQLType;
 import io.shardingsphere.core.merger.MergeEngineFactory;
@@ -27,22 +32,28 @@ import io.shardingsphere.core.merger.QueryResult;
 import io.shardingsphere.core.metadata.table.executor.TableMetaDataLoader;
 import io.shardingsphere.core.parsing.SQLJudgeEngine;
 import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
 import io.shardingsphere.core.routing.SQLExecutionUnit;
 import io.shardingsphere.core.routing.SQLRouteResult;
 import io.shardingsphere.core.routing.StatementRoutingEngine;
 import io.shardingsphere.core.routing.router.masterslave.MasterSlaveRouter;
 import io.shardingsphere.proxy.backend.AbstractBackendHandler;
 import io.shardingsphere.proxy.backend.BackendExecutorContext;
+import io.shardingsphere.proxy.backend.NonBlockingBackendHandler;
 import io.shardingsphere.proxy.backend.ResultPacket;
+import io.shardingsphere.proxy.backend.jdbc.connection.BackendConnection;
+import io.shardingsphere.proxy.backend.jdbc.execute.QueryResponsePacketsCache;
 import io.shardingsphere.proxy.backend.netty.client.BackendNettyClient;
+import io.shardingsphere.proxy.backend.netty.client.response.ResponseHandler;
+import io.shardingsphere.proxy.backend.netty.client.response.mysql.MySQLQueryResult;
 import io.shardingsphere.proxy.backend.netty.future.FutureRegistry;
 import io.shardingsphere.proxy.backend.netty.future.SynchronizedFuture;
-import io.shardingsphere.proxy.backend.netty.client.response.mysql.MySQLQueryResult;
 import io.shardingsphere.proxy.config.ProxyTableMetaDataConnectionManager;
 import io.shardingsphere.proxy.config.RuleRegistry;
 import io.shardingsphere.proxy.runtime.ChannelRegistry;
 import io.shardingsphere.proxy.transport.common.packet.DatabasePacket;
 import io.shardingsphere.proxy.transport.mysql.constant.ColumnType;
+import io.shardingsphere.proxy.transport.mysql.packet.PassThroughPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandResponsePackets;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.text.query.ComQueryPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.generic.ErrPacket;
@@ -52,6 +63,7 @@ import lombok.RequiredArgsConstructor;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -64,6 +76,16 @@ import java.util.concurrent.TimeoutException;
 
 /**
  * Netty backend handler.
+ * 
+ * <p>
+ *     Backend channels are acquired from pool for each command, and released after all responses are read.
+ *     Channels which still have unread responses are closed instead of returned to pool.
+ * </p>
+ * 
+ * <p>
+ *     Channels are acquired, authenticated and written by listeners, so {@code send} never blocks thread.
+ *     If {@code execute} is called without {@code send}, SQL is sent and responses are waited on current thread.
+ * </p>
  *
  * @author wangkai
  * @author linjiaqi
@@ -71,21 +93,40 @@ import java.util.concurrent.TimeoutException;
  */
 @RequiredArgsConstructor
 @Getter
-public final class NettyBackendHandler extends AbstractBackendHandler {
+public final class NettyBackendHandler extends AbstractBackendHandler implements NonBlockingBackendHandler, AutoCloseable {
     
     private static final RuleRegistry RULE_REGISTRY = RuleRegistry.getInstance();
     
+    private static final Runnable NO_CALLBACK = new Runnable() {
+        
+        @Override
+        public void run() {
+        }
+    };
+    
     private final int connectionId;
     
     private final int sequenceId;
     
     private final String sql;
     
+    private final BackendConnection backendConnection;
+    
     private final DatabaseType databaseType;
     
     private final Map<String, List<Channel>> channelMap = new HashMap<>();
     
-    private SynchronizedFuture synchronizedFuture;
+    private volatile SynchronizedFuture synchronizedFuture;
+    
+    private SQLStatement sqlStatement;
+    
+    private boolean passThroughRequested;
+    
+    private boolean sent;
+    
+    private Exception sendFailure;
+    
+    private List<QueryResult> queryResults = Collections.emptyList();
     
     private int currentSequenceId;
     
@@ -93,39 +134,217 @@ public final class NettyBackendHandler extends AbstractBackendHandler {
     
     private MergedResult mergedResult;
     
+    private MySQLQueryResult passThroughResult;
+    
+    private boolean released;
+    
     @Override
-    protected CommandResponsePackets execute0() throws InterruptedException, ExecutionException, TimeoutException {
-        return RULE_REGISTRY.isMasterSlaveOnly() ? executeForMasterSlave() : executeForSharding();
+    public void send(final Runnable callback) {
+        sent = true;
+        backendConnection.addResource(this);
+        Collection<Entry<String, String>> executionUnits;
+        try {
+            executionUnits = RULE_REGISTRY.isMasterSlaveOnly() ? routeForMasterSlave() : routeForSharding();
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            sendFailure = ex;
+            callback.run();
+            return;
+        }
+        if (executionUnits.isEmpty()) {
+            callback.run();
+            return;
+        }
+        final SynchronizedFuture future = new SynchronizedFuture(executionUnits.size(), passThroughRequested);
+        synchronizedFuture = future;
+        FutureRegistry.getInstance().put(connectionId, future);
+        final ScheduledFuture<?> timeoutFuture = scheduleTimeout(future);
+        future.addListener(new Runnable() {
+            
+            @Override
+            public void run() {
+                if (null != timeoutFuture) {
+                    timeoutFuture.cancel(false);
+                }
+                callback.run();
+            }
+        });
+        try {
+            for (Entry<String, String> each : executionUnits) {
+                sendSQL(future, each.getKey(), each.getValue());
+            }
+        } catch (final RuntimeException ex) {
+            future.setFailure(ex);
+        }
     }
     
-    private CommandResponsePackets executeForMasterSlave() throws InterruptedException, ExecutionException, TimeoutException {
-        String dataSourceName = new MasterSlaveRouter(RULE_REGISTRY.getMasterSlaveRule(), RULE_REGISTRY.isShowSQL()).route(sql).iterator().next();
-        synchronizedFuture = new SynchronizedFuture(1);
-        FutureRegistry.getInstance().put(connectionId, synchronizedFuture);
-        executeSQL(dataSourceName, sql);
-        List<QueryResult> queryResults = synchronizedFuture.get(RULE_REGISTRY.getBackendNIOConfig().getConnectionTimeoutSeconds(), TimeUnit.SECONDS);
-        FutureRegistry.getInstance().delete(connectionId);
-        List<CommandResponsePackets> packets = new LinkedList<>();
-        for (QueryResult each : queryResults) {
-            packets.add(((MySQLQueryResult) each).getCommandResponsePackets());
+    private ScheduledFuture<?> scheduleTimeout(final SynchronizedFuture future) {
+        int queryTimeoutSeconds = RULE_REGISTRY.getBackendNIOConfig().getQueryTimeoutSeconds();
+        if (0 >= queryTimeoutSeconds) {
+            return null;
         }
-        return merge(new SQLJudgeEngine(sql).judge(), packets, queryResults);
+        return GlobalEventExecutor.INSTANCE.schedule(new Runnable() {
+            
+            @Override
+            public void run() {
+                future.timeout();
+            }
+        }, queryTimeoutSeconds, TimeUnit.SECONDS);
+    }
+    
+    private Collection<Entry<String, String>> routeForMasterSlave() {
+        String dataSourceName = new MasterSlaveRouter(RULE_REGISTRY.getMasterSlaveRule(), RULE_REGISTRY.isShowSQL()).route(sql).iterator().next();
+        sqlStatement = new SQLJudgeEngine(sql).judge();
+        passThroughRequested = SQLType.DQL == sqlStatement.getType();
+        return Collections.<Entry<String, String>>singletonList(new HashMap.SimpleImmutableEntry<>(dataSourceName, sql));
     }
     
-    private CommandResponsePackets executeForSharding() throws InterruptedException, ExecutionException, TimeoutException {
+    private Collection<Entry<String, String>> routeForSharding() {
         StatementRoutingEngine routingEngine = new StatementRoutingEngine(
-                RULE_REGISTRY.getShardingRule(), RULE_REGISTRY.getMetaData().getTable(), databaseType, RULE_REGISTRY.isShowSQL(), RULE_REGISTRY.getMetaData().getDataSource());
+                RULE_REGISTRY.getShardingRule(), RULE_REGISTRY.getMetaData().getTable(), databaseType, RULE_REGISTRY.isShowSQL(), 
+                RULE_REGISTRY.getMetaData().getDataSource(), RULE_REGISTRY.getParsingResultCache(), RULE_REGISTRY.getMaxInsertValuesSize());
         SQLRouteResult routeResult = routingEngine.route(sql);
-        if (routeResult.getExecutionUnits().isEmpty()) {
+        sqlStatement = routeResult.getSqlStatement();
+        passThroughRequested = isPassThrough(routeResult);
+        Collection<Entry<String, String>> result = new LinkedList<>();
+        for (SQLExecutionUnit each : routeResult.getExecutionUnits()) {
+            result.add(new HashMap.SimpleImmutableEntry<>(each.getDataSource(), each.getSqlUnit().getSql()));
+        }
+        return result;
+    }
+    
+    private boolean isPassThrough(final SQLRouteResult routeResult) {
+        if (1 != routeResult.getExecutionUnits().size() || !(routeResult.getSqlStatement() instanceof SelectStatement)) {
+            return false;
+        }
+        SelectStatement selectStatement = (SelectStatement) routeResult.getSqlStatement();
+        return selectStatement.getGroupByItems().isEmpty() && selectStatement.getAggregationSelectItems().isEmpty() && null == selectStatement.getLimit();
+    }
+    
+    private void sendSQL(final SynchronizedFuture future, final String dataSourceName, final String sql) {
+        BackendNettyClient.getInstance().getPoolMap().get(dataSourceName).acquire().addListener(new FutureListener<Channel>() {
+            
+            @Override
+            public void operationComplete(final Future<Channel> acquireFuture) {
+                if (!acquireFuture.isSuccess()) {
+                    future.setFailure(acquireFuture.cause());
+                    return;
+                }
+                Channel channel = acquireFuture.getNow();
+                if (addChannel(dataSourceName, channel)) {
+                    sendSQL(future, channel, sql);
+                }
+            }
+        });
+    }
+    
+    private void sendSQL(final SynchronizedFuture future, final Channel channel, final String sql) {
+        scheduleAuthTimeout(channel, ResponseHandler.getAuthFuture(channel));
+        ResponseHandler.getAuthFuture(channel).addListener(new ChannelFutureListener() {
+            
+            @Override
+            public void operationComplete(final ChannelFuture authFuture) {
+                if (!authFuture.isSuccess()) {
+                    future.setFailure(authFuture.cause());
+                    return;
+                }
+                if (future.isDone()) {
+                    return;
+                }
+                ChannelRegistry.getInstance().putConnectionId(channel.id().asShortText(), connectionId);
+                channel.writeAndFlush(new ComQueryPacket(sequenceId, sql));
+            }
+        });
+    }
+    
+    private void scheduleAuthTimeout(final Channel channel, final ChannelFuture authFuture) {
+        if (authFuture.isDone()) {
+            return;
+        }
+        final ScheduledFuture<?> authTimeoutFuture = channel.eventLoop().schedule(new Runnable() {
+            
+            @Override
+            public void run() {
+                channel.close();
+            }
+        }, RULE_REGISTRY.getBackendNIOConfig().getConnectionTimeoutSeconds(), TimeUnit.SECONDS);
+        authFuture.addListener(new ChannelFutureListener() {
+            
+            @Override
+            public void operationComplete(final ChannelFuture completedAuthFuture) {
+                authTimeoutFuture.cancel(false);
+            }
+        });
+    }
+    
+    private synchronized boolean addChannel(final String dataSourceName, final Channel channel) {
+        if (released) {
+            channel.close();
+            BackendNettyClient.getInstance().getPoolMap().get(dataSourceName).release(channel);
+            return false;
+        }
+        if (!channelMap.containsKey(dataSourceName)) {
+            channelMap.put(dataSourceName, new ArrayList<Channel>());
+        }
+        channelMap.get(dataSourceName).add(channel);
+        return true;
+    }
+    
+    @Override
+    protected CommandResponsePackets execute0() throws Exception {
+        if (!sent) {
+            send(NO_CALLBACK);
+        }
+        if (null != sendFailure) {
+            releaseChannels();
+            throw sendFailure;
+        }
+        if (null == synchronizedFuture) {
             return new CommandResponsePackets(new OKPacket(1));
         }
-        synchronizedFuture = new SynchronizedFuture(routeResult.getExecutionUnits().size());
-        FutureRegistry.getInstance().put(connectionId, synchronizedFuture);
-        for (SQLExecutionUnit each : routeResult.getExecutionUnits()) {
-            executeSQL(each.getDataSource(), each.getSqlUnit().getSql());
+        queryResults = getResponses();
+        CommandResponsePackets result = RULE_REGISTRY.isMasterSlaveOnly() ? executeForMasterSlave() : executeForSharding();
+        if (null == mergedResult && null == passThroughResult) {
+            releaseChannels();
+        }
+        return result;
+    }
+    
+    private List<QueryResult> getResponses() throws Exception {
+        try {
+            int queryTimeoutSeconds = RULE_REGISTRY.getBackendNIOConfig().getQueryTimeoutSeconds();
+            return 0 >= queryTimeoutSeconds ? synchronizedFuture.get() : synchronizedFuture.get(queryTimeoutSeconds, TimeUnit.SECONDS);
+        } catch (final ExecutionException ex) {
+            releaseChannels();
+            throw ex.getCause() instanceof Exception ? (Exception) ex.getCause() : ex;
+        } catch (final InterruptedException | TimeoutException | RuntimeException ex) {
+            synchronizedFuture.cancel(false);
+            releaseChannels();
+            throw ex;
+        } finally {
+            FutureRegistry.getInstance().delete(connectionId);
+        }
+    }
+    
+    private CommandResponsePackets executeForMasterSlave() {
+        if (SQLType.DDL == sqlStatement.getType()) {
+            QueryResponsePacketsCache.getInstance().increaseMetaDataVersion();
+        }
+        if (isPassThroughResult(queryResults)) {
+            return passThrough((MySQLQueryResult) queryResults.get(0));
+        }
+        List<CommandResponsePackets> packets = new LinkedList<>();
+        for (QueryResult each : queryResults) {
+            packets.add(((MySQLQueryResult) each).getCommandResponsePackets());
+        }
+        return merge(sqlStatement, packets, queryResults);
+    }
+    
+    private CommandResponsePackets executeForSharding() {
+        if (isPassThroughResult(queryResults)) {
+            return passThrough((MySQLQueryResult) queryResults.get(0));
         }
-        List<QueryResult> queryResults = synchronizedFuture.get(RULE_REGISTRY.getBackendNIOConfig().getConnectionTimeoutSeconds(), TimeUnit.SECONDS);
-        FutureRegistry.getInstance().delete(connectionId);
         List<CommandResponsePackets> packets = new ArrayList<>(queryResults.size());
         for (QueryResult each : queryResults) {
             MySQLQueryResult queryResult = (MySQLQueryResult) each;
@@ -137,23 +356,25 @@ public final class NettyBackendHandler extends AbstractBackendHandler {
             }
             packets.add(queryResult.getCommandResponsePackets());
         }
-        SQLStatement sqlStatement = routeResult.getSqlStatement();
         CommandResponsePackets result = merge(sqlStatement, packets, queryResults);
+        if (SQLType.DDL == sqlStatement.getType()) {
+            QueryResponsePacketsCache.getInstance().increaseMetaDataVersion();
+        }
         if (SQLType.DDL == sqlStatement.getType() && !sqlStatement.getTables().isEmpty()) {
             refreshTableMetaData(sqlStatement.getTables().getSingleTableName());
         }
         return result;
     }
     
-    private void executeSQL(final String dataSourceName, final String sql) throws InterruptedException, ExecutionException, TimeoutException {
-        if (!channelMap.containsKey(dataSourceName)) {
-            channelMap.put(dataSourceName, new ArrayList<Channel>());
-        }
-        SimpleChannelPool pool = BackendNettyClient.getInstance().getPoolMap().get(dataSourceName);
-        Channel channel = pool.acquire().get(RULE_REGISTRY.getBackendNIOConfig().getConnectionTimeoutSeconds(), TimeUnit.SECONDS);
-        channelMap.get(dataSourceName).add(channel);
-        ChannelRegistry.getInstance().putConnectionId(channel.id().asShortText(), connectionId);
-        channel.writeAndFlush(new ComQueryPacket(sequenceId, sql));
+    private boolean isPassThroughResult(final List<QueryResult> queryResults) {
+        return 1 == queryResults.size() && ((MySQLQueryResult) queryResults.get(0)).isPassThrough();
+    }
+    
+    private CommandResponsePackets passThrough(final MySQLQueryResult queryResult) {
+        passThroughResult = queryResult;
+        currentSequenceId = queryResult.getCurrentSequenceId();
+        columnCount = queryResult.getColumnCount();
+        return queryResult.getCommandResponsePackets();
     }
     
     private CommandResponsePackets merge(final SQLStatement sqlStatement, final List<CommandResponsePackets> packets, final List<QueryResult> queryResults) {
@@ -166,9 +387,6 @@ public final class NettyBackendHandler extends AbstractBackendHandler {
                 return new CommandResponsePackets(each);
             }
         }
-        if (SQLType.TCL == sqlStatement.getType()) {
-            channelRelease();
-        }
         if (SQLType.DML == sqlStatement.getType()) {
             return mergeDML(headPackets);
         }
@@ -193,7 +411,8 @@ public final class NettyBackendHandler extends AbstractBackendHandler {
     
     private CommandResponsePackets mergeDQLorDAL(final SQLStatement sqlStatement, final List<CommandResponsePackets> packets, final List<QueryResult> queryResults) {
         try {
-            mergedResult = MergeEngineFactory.newInstance(RULE_REGISTRY.getShardingRule(), queryResults, sqlStatement, RULE_REGISTRY.getMetaData().getTable()).merge();
+            mergedResult = MergeEngineFactory.newInstance(
+                    RULE_REGISTRY.getShardingRule(), queryResults, sqlStatement, RULE_REGISTRY.getMetaData().getTable(), RULE_REGISTRY.getGroupByMemoryMergeBudget()).merge();
         } catch (final SQLException ex) {
             return new CommandResponsePackets(new ErrPacket(1, ex));
         }
@@ -210,8 +429,15 @@ public final class NettyBackendHandler extends AbstractBackendHandler {
     
     @Override
     public boolean next() throws SQLException {
+        if (null != passThroughResult) {
+            if (passThroughResult.next()) {
+                return true;
+            }
+            releaseChannels();
+            return false;
+        }
         if (null == mergedResult || !mergedResult.next()) {
-            channelRelease();
+            releaseChannels();
             return false;
         }
         return true;
@@ -219,6 +445,9 @@ public final class NettyBackendHandler extends AbstractBackendHandler {
     
     @Override
     public ResultPacket getResultValue() throws SQLException {
+        if (null != passThroughResult) {
+            return new ResultPacket(new PassThroughPacket(++currentSequenceId, passThroughResult.getPassThroughRow().getPayload()));
+        }
         List<Object> data = new ArrayList<>(columnCount);
         for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
             data.add(mergedResult.getValue(columnIndex, Object.class));
@@ -226,11 +455,44 @@ public final class NettyBackendHandler extends AbstractBackendHandler {
         return new ResultPacket(++currentSequenceId, data, columnCount, Collections.<ColumnType>emptyList());
     }
     
-    private void channelRelease() {
+    @Override
+    public void close() {
+        releaseChannels();
+    }
+    
+    private synchronized void releaseChannels() {
+        if (released) {
+            return;
+        }
+        released = true;
+        boolean reusable = isAllResponsesCompleted();
         for (Entry<String, List<Channel>> entry : channelMap.entrySet()) {
             for (Channel each : entry.getValue()) {
+                if (!reusable) {
+                    each.close();
+                }
                 BackendNettyClient.getInstance().getPoolMap().get(entry.getKey()).release(each);
             }
         }
     }
+    
+    private boolean isAllResponsesCompleted() {
+        if (null == synchronizedFuture || synchronizedFuture.isCancelled() || queryResults.size() != getChannelCount()) {
+            return false;
+        }
+        for (QueryResult each : queryResults) {
+            if (!((MySQLQueryResult) each).isCompleted()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private synchronized int getChannelCount() {
+        int result = 0;
+        for (List<Channel> each : channelMap.values()) {
+            result += each.size();
+        }
+        return result;
+    }
 }
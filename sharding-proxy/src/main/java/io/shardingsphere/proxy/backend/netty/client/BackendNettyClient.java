@@ -29,6 +29,7 @@ import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.pool.AbstractChannelPoolMap;
 import io.netty.channel.pool.ChannelPoolMap;
 import io.netty.channel.pool.FixedChannelPool;
+import io.netty.channel.pool.FixedChannelPool.AcquireTimeoutAction;
 import io.netty.channel.pool.SimpleChannelPool;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import io.shardingsphere.core.metadata.datasource.DataSourceMetaData;
@@ -38,6 +39,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Collection;
+import java.util.LinkedList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -128,22 +131,22 @@ public final class BackendNettyClient {
             @Override
             protected SimpleChannelPool newPool(final String dataSourceName) {
                 DataSourceMetaData dataSourceMetaData = RULE_REGISTRY.getMetaData().getDataSource().getActualDataSourceMetaData(dataSourceName);
-                return new FixedChannelPool(
-                        bootstrap.remoteAddress(dataSourceMetaData.getHostName(), dataSourceMetaData.getPort()), new BackendNettyClientChannelPoolHandler(dataSourceName), MAX_CONNECTIONS);
+                return new FixedChannelPool(bootstrap.remoteAddress(dataSourceMetaData.getHostName(), dataSourceMetaData.getPort()), new BackendNettyClientChannelPoolHandler(dataSourceName), 
+                        new BackendNettyClientChannelHealthChecker(), AcquireTimeoutAction.FAIL, TimeUnit.SECONDS.toMillis(CONNECTION_TIMEOUT_SECONDS), MAX_CONNECTIONS, Integer.MAX_VALUE);
             }
         };
         for (String each : RULE_REGISTRY.getDataSourceConfigurationMap().keySet()) {
             SimpleChannelPool pool = poolMap.get(each);
-            Channel[] channels = new Channel[MAX_CONNECTIONS];
+            Collection<Channel> channels = new LinkedList<>();
             for (int i = 0; i < MAX_CONNECTIONS; i++) {
                 try {
-                    channels[i] = pool.acquire().get(CONNECTION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                    channels.add(pool.acquire().get(CONNECTION_TIMEOUT_SECONDS, TimeUnit.SECONDS));
                 } catch (final ExecutionException | TimeoutException ex) {
                     log.error(ex.getMessage(), ex);
                 }
             }
-            for (int i = 0; i < MAX_CONNECTIONS; i++) {
-                pool.release(channels[i]);
+            for (Channel channel : channels) {
+                pool.release(channel);
             }
         }
     }
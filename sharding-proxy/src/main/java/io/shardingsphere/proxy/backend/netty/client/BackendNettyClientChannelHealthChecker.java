@@ -0,0 +1,46 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.backend.netty.client;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.pool.ChannelHealthChecker;
+import io.netty.util.concurrent.Future;
+import io.shardingsphere.proxy.backend.netty.client.response.ResponseHandler;
+
+/**
+ * Channel health checker of backend netty client.
+ * 
+ * <p>
+ *     Channel is healthy if it is active and its authentication is not failed.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class BackendNettyClientChannelHealthChecker implements ChannelHealthChecker {
+    
+    @Override
+    public Future<Boolean> isHealthy(final Channel channel) {
+        return channel.eventLoop().newSucceededFuture(channel.isActive() && !isAuthFailed(channel));
+    }
+    
+    private boolean isAuthFailed(final Channel channel) {
+        ChannelFuture authFuture = ResponseHandler.getAuthFuture(channel);
+        return null == authFuture || authFuture.isDone() && !authFuture.isSuccess();
+    }
+}
@@ -18,8 +18,14 @@
 package io.shardingsphere.proxy.backend.netty.client.response;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.util.AttributeKey;
+
+import java.nio.channels.ClosedChannelException;
 
 /**
  * SQL executed response handler.
@@ -29,8 +35,25 @@ import io.netty.channel.ChannelInboundHandlerAdapter;
  */
 public abstract class ResponseHandler extends ChannelInboundHandlerAdapter {
     
+    private static final AttributeKey<ChannelPromise> AUTH_FUTURE = AttributeKey.valueOf("BACKEND_AUTH_FUTURE");
+    
     private boolean authorized;
     
+    /**
+     * Get authentication future of backend channel.
+     * 
+     * @param channel backend channel
+     * @return authentication future
+     */
+    public static ChannelFuture getAuthFuture(final Channel channel) {
+        return channel.attr(AUTH_FUTURE).get();
+    }
+    
+    @Override
+    public final void handlerAdded(final ChannelHandlerContext context) {
+        context.channel().attr(AUTH_FUTURE).set(context.newPromise());
+    }
+    
     @Override
     public final void channelRead(final ChannelHandlerContext context, final Object message) {
         ByteBuf byteBuf = (ByteBuf) message;
@@ -50,9 +73,21 @@ public abstract class ResponseHandler extends ChannelInboundHandlerAdapter {
     
     protected abstract void executeCommand(ChannelHandlerContext context, ByteBuf byteBuf, int header);
     
+    protected final void authSucceeded(final ChannelHandlerContext context) {
+        context.channel().attr(AUTH_FUTURE).get().trySuccess();
+    }
+    
+    protected final void authFailed(final ChannelHandlerContext context, final Throwable cause) {
+        context.channel().attr(AUTH_FUTURE).get().tryFailure(cause);
+        context.close();
+    }
+    
     @Override
-    public final void channelInactive(final ChannelHandlerContext ctx) throws Exception {
-        //TODO delete connection map
-        super.channelInactive(ctx);
+    public final void channelInactive(final ChannelHandlerContext context) throws Exception {
+        context.channel().attr(AUTH_FUTURE).get().tryFailure(new ClosedChannelException());
+        connectionClosed(context);
+        super.channelInactive(context);
     }
+    
+    protected abstract void connectionClosed(ChannelHandlerContext context);
 }
@@ -21,15 +21,18 @@ import com.google.common.collect.Lists;
 import io.shardingsphere.core.merger.QueryResult;
 import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
+import io.shardingsphere.proxy.transport.mysql.packet.PassThroughPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandResponsePackets;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.ColumnDefinition41Packet;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.FieldCountPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.text.TextResultSetRowPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.generic.EofPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.generic.ErrPacket;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.InputStream;
+import java.sql.SQLException;
 import java.util.Calendar;
 import java.util.HashMap;
 import java.util.List;
@@ -62,11 +65,17 @@ public final class MySQLQueryResult implements QueryResult {
     @Getter
     private int currentSequenceId;
     
-    private TextResultSetRowPacket currentRow;
+    @Getter
+    private final boolean passThrough;
+    
+    private MySQLPacket currentRow;
     
     @Getter
     private boolean columnFinished;
     
+    @Getter
+    private volatile boolean completed;
+    
     public MySQLQueryResult() {
         commandResponsePackets = new CommandResponsePackets();
         columnCount = 0;
@@ -74,9 +83,11 @@ public final class MySQLQueryResult implements QueryResult {
         columnLabelAndIndexMap = null;
         columnDefinitions = null;
         resultSet = null;
+        passThrough = false;
+        completed = true;
     }
     
-    public MySQLQueryResult(final MySQLPacketPayload payload) {
+    public MySQLQueryResult(final MySQLPacketPayload payload, final boolean passThrough) {
         FieldCountPacket fieldCountPacket = new FieldCountPacket(payload);
         commandResponsePackets = new CommandResponsePackets(fieldCountPacket);
         columnCount = fieldCountPacket.getColumnCount();
@@ -85,6 +96,7 @@ public final class MySQLQueryResult implements QueryResult {
         columnDefinitions = Lists.newArrayListWithCapacity(fieldCountPacket.getColumnCount());
         currentSequenceId = fieldCountPacket.getSequenceId();
         resultSet = new LinkedBlockingQueue<>();
+        this.passThrough = passThrough;
     }
     
     /**
@@ -127,6 +139,24 @@ public final class MySQLQueryResult implements QueryResult {
         put(textResultSetRow);
     }
     
+    /**
+     * Add pass through result set row.
+     * 
+     * @param passThroughRow pass through result set row
+     */
+    public void addPassThroughRow(final PassThroughPacket passThroughRow) {
+        put(passThroughRow);
+    }
+    
+    /**
+     * Get current row which is passed through without decoding.
+     * 
+     * @return current pass through row
+     */
+    public PassThroughPacket getPassThroughRow() {
+        return (PassThroughPacket) currentRow;
+    }
+    
     /**
      * Set column finished.
      * @param eofPacket eof packet
@@ -142,9 +172,20 @@ public final class MySQLQueryResult implements QueryResult {
      * @param eofPacket eof packet
      */
     public void setRowFinished(final EofPacket eofPacket) {
+        completed = true;
         put(eofPacket);
     }
     
+    /**
+     * Set error occurred while reading rows.
+     * 
+     * @param errPacket error packet
+     */
+    public void setRowError(final ErrPacket errPacket) {
+        completed = true;
+        put(errPacket);
+    }
+    
     private void put(final MySQLPacket mysqlPacket) {
         try {
             resultSet.put(mysqlPacket);
@@ -154,10 +195,14 @@ public final class MySQLQueryResult implements QueryResult {
     }
     
     @Override
-    public boolean next() {
+    public boolean next() throws SQLException {
         try {
             MySQLPacket mysqlPacket = resultSet.take();
-            currentRow = (mysqlPacket instanceof TextResultSetRowPacket) ? (TextResultSetRowPacket) mysqlPacket : null;
+            if (mysqlPacket instanceof ErrPacket) {
+                ErrPacket errPacket = (ErrPacket) mysqlPacket;
+                throw new SQLException(errPacket.getErrorMessage(), errPacket.getSqlState(), errPacket.getErrorCode());
+            }
+            currentRow = (mysqlPacket instanceof TextResultSetRowPacket || mysqlPacket instanceof PassThroughPacket) ? mysqlPacket : null;
             return null != currentRow;
         } catch (final InterruptedException ex) {
             log.error(ex.getMessage(), ex);
@@ -177,32 +222,36 @@ public final class MySQLQueryResult implements QueryResult {
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) {
-        return currentRow.getData().get(columnIndex - 1);
+        return getCurrentRowData().get(columnIndex - 1);
     }
     
     @Override
     public Object getValue(final String columnLabel, final Class<?> type) {
-        return currentRow.getData().get(columnLabelAndIndexMap.get(columnLabel));
+        return getCurrentRowData().get(columnLabelAndIndexMap.get(columnLabel));
     }
     
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
-        return currentRow.getData().get(columnIndex - 1);
+        return getCurrentRowData().get(columnIndex - 1);
     }
     
     @Override
     public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) {
-        return currentRow.getData().get(columnLabelAndIndexMap.get(columnLabel));
+        return getCurrentRowData().get(columnLabelAndIndexMap.get(columnLabel));
     }
     
     @Override
     public InputStream getInputStream(final int columnIndex, final String type) {
-        return (InputStream) currentRow.getData().get(columnIndex - 1);
+        return (InputStream) getCurrentRowData().get(columnIndex - 1);
     }
     
     @Override
     public InputStream getInputStream(final String columnLabel, final String type) {
-        return (InputStream) currentRow.getData().get(columnLabelAndIndexMap.get(columnLabel));
+        return (InputStream) getCurrentRowData().get(columnLabelAndIndexMap.get(columnLabel));
+    }
+    
+    private List<Object> getCurrentRowData() {
+        return ((TextResultSetRowPacket) currentRow).getData();
     }
     
     // TODO
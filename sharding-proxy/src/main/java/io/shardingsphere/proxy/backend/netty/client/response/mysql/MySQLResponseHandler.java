@@ -24,11 +24,15 @@ import io.shardingsphere.core.metadata.datasource.DataSourceMetaData;
 import io.shardingsphere.core.rule.DataSourceParameter;
 import io.shardingsphere.proxy.backend.netty.client.response.ResponseHandler;
 import io.shardingsphere.proxy.backend.netty.future.FutureRegistry;
+import io.shardingsphere.proxy.backend.netty.future.SynchronizedFuture;
 import io.shardingsphere.proxy.config.RuleRegistry;
 import io.shardingsphere.proxy.runtime.ChannelRegistry;
 import io.shardingsphere.proxy.transport.mysql.constant.CapabilityFlag;
+import io.shardingsphere.proxy.transport.mysql.constant.ServerErrorCode;
 import io.shardingsphere.proxy.transport.mysql.constant.ServerInfo;
+import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
+import io.shardingsphere.proxy.transport.mysql.packet.PassThroughPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.ColumnDefinition41Packet;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.text.TextResultSetRowPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.generic.EofPacket;
@@ -41,6 +45,7 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.sql.SQLException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -54,12 +59,16 @@ import java.util.Map;
 @RequiredArgsConstructor
 public final class MySQLResponseHandler extends ResponseHandler {
     
+    private static final int MAX_EOF_PAYLOAD_LENGTH = 9;
+    
     private final DataSourceParameter dataSourceParameter;
     
     private final DataSourceMetaData dataSourceMetaData;
     
     private final Map<Integer, MySQLQueryResult> resultMap;
     
+    private boolean authenticated;
+    
     public MySQLResponseHandler(final String dataSourceName) {
         dataSourceParameter = RuleRegistry.getInstance().getDataSourceConfigurationMap().get(dataSourceName);
         dataSourceMetaData = RuleRegistry.getInstance().getMetaData().getDataSource().getActualDataSourceMetaData(dataSourceName);
@@ -110,10 +119,39 @@ public final class MySQLResponseHandler extends ResponseHandler {
     
     @Override
     protected void executeCommand(final ChannelHandlerContext context, final ByteBuf byteBuf, final int header) {
+        if (!authenticated) {
+            authResult(context, byteBuf, header);
+            return;
+        }
+        int connectionId = ChannelRegistry.getInstance().getConnectionId(context.channel().id().asShortText());
+        MySQLQueryResult mysqlQueryResult = resultMap.get(connectionId);
+        if (null == mysqlQueryResult) {
+            executeFirstPacket(context, byteBuf, header);
+        } else if (ErrPacket.HEADER == header) {
+            rowErrPacket(context, byteBuf, mysqlQueryResult);
+        } else if (EofPacket.HEADER == header && byteBuf.readableBytes() < MySQLPacket.SEQUENCE_LENGTH + MAX_EOF_PAYLOAD_LENGTH) {
+            eofPacket(context, byteBuf, mysqlQueryResult);
+        } else {
+            commandPacket(byteBuf, mysqlQueryResult);
+        }
+    }
+    
+    private void authResult(final ChannelHandlerContext context, final ByteBuf byteBuf, final int header) {
+        try (MySQLPacketPayload payload = new MySQLPacketPayload(byteBuf)) {
+            if (OKPacket.HEADER == header) {
+                authenticated = true;
+                authSucceeded(context);
+            } else if (ErrPacket.HEADER == header) {
+                ErrPacket errPacket = new ErrPacket(payload);
+                authFailed(context, new SQLException(errPacket.getErrorMessage(), errPacket.getSqlState(), errPacket.getErrorCode()));
+            } else {
+                authFailed(context, new SQLException(String.format("Unsupported authentication response header '%s'.", header)));
+            }
+        }
+    }
+    
+    private void executeFirstPacket(final ChannelHandlerContext context, final ByteBuf byteBuf, final int header) {
         switch (header) {
-            case EofPacket.HEADER:
-                eofPacket(context, byteBuf);
-                break;
             case OKPacket.HEADER:
                 okPacket(context, byteBuf);
                 break;
@@ -121,66 +159,101 @@ public final class MySQLResponseHandler extends ResponseHandler {
                 errPacket(context, byteBuf);
                 break;
             default:
-                commandPacket(context, byteBuf);
+                fieldCountPacket(context, byteBuf);
         }
     }
     
     private void okPacket(final ChannelHandlerContext context, final ByteBuf byteBuf) {
-        int connectionId = ChannelRegistry.getInstance().getConnectionId(context.channel().id().asShortText());
         try (MySQLPacketPayload payload = new MySQLPacketPayload(byteBuf)) {
             MySQLQueryResult mysqlQueryResult = new MySQLQueryResult();
             mysqlQueryResult.setGenericResponse(new OKPacket(payload));
-            resultMap.put(connectionId, mysqlQueryResult);
-            setResponse(context);
-        } finally {
-            resultMap.remove(connectionId);
+            setResponse(context, mysqlQueryResult);
         }
     }
     
     private void errPacket(final ChannelHandlerContext context, final ByteBuf byteBuf) {
-        int connectionId = ChannelRegistry.getInstance().getConnectionId(context.channel().id().asShortText());
         try (MySQLPacketPayload payload = new MySQLPacketPayload(byteBuf)) {
             MySQLQueryResult mysqlQueryResult = new MySQLQueryResult();
             mysqlQueryResult.setGenericResponse(new ErrPacket(payload));
-            resultMap.put(connectionId, mysqlQueryResult);
-            setResponse(context);
-        } finally {
-            resultMap.remove(connectionId);
+            setResponse(context, mysqlQueryResult);
         }
     }
     
-    private void eofPacket(final ChannelHandlerContext context, final ByteBuf byteBuf) {
+    private void fieldCountPacket(final ChannelHandlerContext context, final ByteBuf byteBuf) {
         int connectionId = ChannelRegistry.getInstance().getConnectionId(context.channel().id().asShortText());
-        MySQLQueryResult mysqlQueryResult = resultMap.get(connectionId);
-        MySQLPacketPayload payload = new MySQLPacketPayload(byteBuf);
-        if (mysqlQueryResult.isColumnFinished()) {
-            mysqlQueryResult.setRowFinished(new EofPacket(payload));
-            resultMap.remove(connectionId);
-            payload.close();
-        } else {
-            mysqlQueryResult.setColumnFinished(new EofPacket(payload));
-            setResponse(context);
+        try (MySQLPacketPayload payload = new MySQLPacketPayload(byteBuf)) {
+            resultMap.put(connectionId, new MySQLQueryResult(payload, isPassThrough(connectionId)));
         }
     }
     
-    private void setResponse(final ChannelHandlerContext context) {
+    private void rowErrPacket(final ChannelHandlerContext context, final ByteBuf byteBuf, final MySQLQueryResult mysqlQueryResult) {
         int connectionId = ChannelRegistry.getInstance().getConnectionId(context.channel().id().asShortText());
-        if (null != FutureRegistry.getInstance().get(connectionId)) {
-            FutureRegistry.getInstance().get(connectionId).setResponse(resultMap.get(connectionId));
+        resultMap.remove(connectionId);
+        try (MySQLPacketPayload payload = new MySQLPacketPayload(byteBuf)) {
+            ErrPacket errPacket = new ErrPacket(payload);
+            if (mysqlQueryResult.isColumnFinished()) {
+                mysqlQueryResult.setRowError(errPacket);
+            } else {
+                MySQLQueryResult errorResult = new MySQLQueryResult();
+                errorResult.setGenericResponse(errPacket);
+                setResponse(context, errorResult);
+            }
         }
     }
     
-    private void commandPacket(final ChannelHandlerContext context, final ByteBuf byteBuf) {
+    private void eofPacket(final ChannelHandlerContext context, final ByteBuf byteBuf, final MySQLQueryResult mysqlQueryResult) {
+        try (MySQLPacketPayload payload = new MySQLPacketPayload(byteBuf)) {
+            if (mysqlQueryResult.isColumnFinished()) {
+                mysqlQueryResult.setRowFinished(new EofPacket(payload));
+                resultMap.remove(ChannelRegistry.getInstance().getConnectionId(context.channel().id().asShortText()));
+            } else {
+                mysqlQueryResult.setColumnFinished(new EofPacket(payload));
+                setResponse(context, mysqlQueryResult);
+            }
+        }
+    }
+    
+    private void setResponse(final ChannelHandlerContext context, final MySQLQueryResult mysqlQueryResult) {
         int connectionId = ChannelRegistry.getInstance().getConnectionId(context.channel().id().asShortText());
-        MySQLQueryResult mysqlQueryResult = resultMap.get(connectionId);
+        SynchronizedFuture synchronizedFuture = FutureRegistry.getInstance().get(connectionId);
+        if (null != synchronizedFuture) {
+            synchronizedFuture.setResponse(mysqlQueryResult);
+        }
+    }
+    
+    private void commandPacket(final ByteBuf byteBuf, final MySQLQueryResult mysqlQueryResult) {
         MySQLPacketPayload payload = new MySQLPacketPayload(byteBuf);
-        if (null == mysqlQueryResult) {
-            mysqlQueryResult = new MySQLQueryResult(payload);
-            resultMap.put(connectionId, mysqlQueryResult);
-        } else if (mysqlQueryResult.needColumnDefinition()) {
+        if (mysqlQueryResult.needColumnDefinition()) {
             mysqlQueryResult.addColumnDefinition(new ColumnDefinition41Packet(payload));
+            payload.close();
+        } else if (mysqlQueryResult.isPassThrough()) {
+            mysqlQueryResult.addPassThroughRow(new PassThroughPacket(payload.readInt1(), payload.getByteBuf()));
         } else {
             mysqlQueryResult.addTextResultSetRow(new TextResultSetRowPacket(payload, mysqlQueryResult.getColumnCount()));
+            payload.close();
         }
     }
+    
+    @Override
+    protected void connectionClosed(final ChannelHandlerContext context) {
+        Integer connectionId = ChannelRegistry.getInstance().removeConnectionId(context.channel().id().asShortText());
+        if (null == connectionId) {
+            return;
+        }
+        MySQLQueryResult mysqlQueryResult = resultMap.remove(connectionId);
+        ErrPacket errPacket = new ErrPacket(1, ServerErrorCode.ER_STD_UNKNOWN_EXCEPTION, "Backend connection closed");
+        if (null != mysqlQueryResult && mysqlQueryResult.isColumnFinished()) {
+            mysqlQueryResult.setRowError(errPacket);
+            return;
+        }
+        SynchronizedFuture synchronizedFuture = FutureRegistry.getInstance().get(connectionId);
+        if (null != synchronizedFuture) {
+            synchronizedFuture.cancel(false);
+        }
+    }
+    
+    private boolean isPassThrough(final int connectionId) {
+        SynchronizedFuture synchronizedFuture = FutureRegistry.getInstance().get(connectionId);
+        return null != synchronizedFuture && synchronizedFuture.isPassThrough();
+    }
 }
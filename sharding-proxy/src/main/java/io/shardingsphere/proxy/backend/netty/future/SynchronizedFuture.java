@@ -18,52 +18,128 @@
 package io.shardingsphere.proxy.backend.netty.future;
 
 import io.shardingsphere.core.merger.QueryResult;
-import lombok.extern.slf4j.Slf4j;
+import lombok.Getter;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Synchronized future for get multiple netty returns.
+ * 
+ * <p>Listeners are invoked once all responses are received, or future is cancelled or failed, by thread which completes the future.</p>
  *
  * @author wangkai
  * @author linjiaqi
  */
-@Slf4j
 public final class SynchronizedFuture implements Future<List<QueryResult>> {
     
     private final CountDownLatch latch;
     
     private final List<QueryResult> responses;
     
-    private boolean isDone;
+    @Getter
+    private final boolean passThrough;
     
-    public SynchronizedFuture(final int resultSize) {
+    private final List<Runnable> listeners = new LinkedList<>();
+    
+    private volatile boolean cancelled;
+    
+    private volatile Throwable failure;
+    
+    public SynchronizedFuture(final int resultSize, final boolean passThrough) {
         latch = new CountDownLatch(resultSize);
-        responses = new ArrayList<>(resultSize);
+        responses = Collections.synchronizedList(new ArrayList<QueryResult>(resultSize));
+        this.passThrough = passThrough;
     }
     
     @Override
     public boolean cancel(final boolean mayInterruptIfRunning) {
-        return false;
+        if (isDone()) {
+            return false;
+        }
+        cancelled = true;
+        complete();
+        return true;
+    }
+    
+    /**
+     * Fail future, responses not received are abandoned.
+     * 
+     * @param cause cause of failure
+     */
+    public void setFailure(final Throwable cause) {
+        if (isDone()) {
+            return;
+        }
+        failure = cause;
+        cancelled = true;
+        complete();
+    }
+    
+    /**
+     * Fail future for timeout.
+     */
+    public void timeout() {
+        setFailure(new TimeoutException(String.format("Backend response timeout, %d responses are missing.", latch.getCount())));
+    }
+    
+    private void complete() {
+        while (0 != latch.getCount()) {
+            latch.countDown();
+        }
+        notifyListeners();
     }
     
     @Override
     public boolean isCancelled() {
-        return false;
+        return cancelled;
     }
     
     @Override
     public boolean isDone() {
-        return isDone;
+        return cancelled || 0 == latch.getCount();
+    }
+    
+    /**
+     * Add listener to be invoked after future is done.
+     * 
+     * <p>Listener is invoked immediately by current thread if future is done already.</p>
+     * 
+     * @param listener listener
+     */
+    public void addListener(final Runnable listener) {
+        synchronized (listeners) {
+            if (!isDone()) {
+                listeners.add(listener);
+                return;
+            }
+        }
+        listener.run();
+    }
+    
+    private void notifyListeners() {
+        List<Runnable> notifiedListeners;
+        synchronized (listeners) {
+            notifiedListeners = new ArrayList<>(listeners);
+            listeners.clear();
+        }
+        for (Runnable each : notifiedListeners) {
+            each.run();
+        }
     }
     
     @Override
-    public List<QueryResult> get() throws InterruptedException {
+    public List<QueryResult> get() throws InterruptedException, ExecutionException {
         latch.await();
+        checkCancelled();
         return responses;
     }
     
@@ -73,25 +149,43 @@ public final class SynchronizedFuture implements Future<List<QueryResult>> {
      * @param timeout wait timeout
      * @param unit time unit
      * @return responses
+     * @throws InterruptedException interrupted exception
+     * @throws ExecutionException execution exception if future is failed
+     * @throws TimeoutException timeout exception
      */
     @Override
-    public List<QueryResult> get(final long timeout, final TimeUnit unit) {
-        try {
-            latch.await(timeout, unit);
-            isDone = true;
-        } catch (final InterruptedException ex) {
-            log.error(ex.getMessage(), ex);
+    public List<QueryResult> get(final long timeout, final TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+        if (!latch.await(timeout, unit)) {
+            long missingResponseCount = latch.getCount();
+            cancel(false);
+            throw new TimeoutException(String.format("Backend response timeout, %d responses are missing.", missingResponseCount));
         }
+        checkCancelled();
         return responses;
     }
     
+    private void checkCancelled() throws ExecutionException {
+        if (null != failure) {
+            throw new ExecutionException(failure);
+        }
+        if (cancelled) {
+            throw new CancellationException("Backend request is cancelled.");
+        }
+    }
+    
     /**
      * Set response and count down.
      * 
      * @param response SQL command result
      */
     public void setResponse(final QueryResult response) {
+        if (cancelled) {
+            return;
+        }
         responses.add(response);
         latch.countDown();
+        if (0 == latch.getCount()) {
+            notifyListeners();
+        }
     }
 }
@@ -34,4 +34,6 @@ public final class BackendNIOConfiguration {
     private final int maxConnections;
     
     private final int connectionTimeoutSeconds;
+    
+    private final int queryTimeoutSeconds;
 }
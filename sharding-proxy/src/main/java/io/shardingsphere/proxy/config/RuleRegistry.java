@@ -26,6 +26,7 @@ import io.shardingsphere.core.constant.properties.ShardingProperties;
 import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import io.shardingsphere.core.constant.transaction.TransactionType;
 import io.shardingsphere.core.metadata.ShardingMetaData;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
 import io.shardingsphere.core.rule.DataSourceParameter;
 import io.shardingsphere.core.rule.MasterSlaveRule;
 import io.shardingsphere.core.rule.ProxyAuthority;
@@ -75,14 +76,26 @@ public final class RuleRegistry {
     
     private int executorSize;
     
+    private int frontendExecutorSize;
+    
+    private int frontendMaxPendingCommands;
+    
     private BackendNIOConfiguration backendNIOConfig;
     
+    private BackendSessionConfiguration backendSessionConfig;
+    
     private TransactionType transactionType;
     
     private ProxyAuthority proxyAuthority;
     
     private ShardingMetaData metaData;
     
+    private ParsingResultCache parsingResultCache;
+    
+    private int groupByMemoryMergeBudget;
+    
+    private int maxInsertValuesSize;
+    
     /**
      * Get instance of sharding rule registry.
      *
@@ -106,12 +119,21 @@ public final class RuleRegistry {
         TransactionTypeHolder.set(transactionType);
         acceptorSize = shardingProperties.getValue(ShardingPropertiesConstant.ACCEPTOR_SIZE);
         executorSize = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_SIZE);
-        // TODO :jiaqi force off use NIO for backend, this feature is not complete yet
-        boolean useNIO = false;
-        //        boolean proxyBackendUseNio = shardingProperties.getValue(ShardingPropertiesConstant.PROXY_BACKEND_USE_NIO);
+        frontendExecutorSize = shardingProperties.getValue(ShardingPropertiesConstant.PROXY_FRONTEND_EXECUTOR_SIZE);
+        frontendMaxPendingCommands = shardingProperties.getValue(ShardingPropertiesConstant.PROXY_FRONTEND_MAX_PENDING_COMMANDS);
+        boolean useNIO = shardingProperties.getValue(ShardingPropertiesConstant.PROXY_BACKEND_USE_NIO);
         int databaseConnectionCount = shardingProperties.getValue(ShardingPropertiesConstant.PROXY_BACKEND_MAX_CONNECTIONS);
         int connectionTimeoutSeconds = shardingProperties.getValue(ShardingPropertiesConstant.PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS);
-        backendNIOConfig = new BackendNIOConfiguration(useNIO, databaseConnectionCount, connectionTimeoutSeconds);
+        int queryTimeoutSeconds = shardingProperties.getValue(ShardingPropertiesConstant.PROXY_BACKEND_QUERY_TIMEOUT_SECONDS);
+        backendNIOConfig = new BackendNIOConfiguration(useNIO, databaseConnectionCount, connectionTimeoutSeconds, queryTimeoutSeconds);
+        boolean sessionSticky = shardingProperties.getValue(ShardingPropertiesConstant.PROXY_BACKEND_SESSION_STICKY);
+        int sessionMaxConnections = shardingProperties.getValue(ShardingPropertiesConstant.PROXY_BACKEND_SESSION_MAX_CONNECTIONS);
+        int sessionIdleTimeoutSeconds = shardingProperties.getValue(ShardingPropertiesConstant.PROXY_BACKEND_SESSION_IDLE_TIMEOUT_SECONDS);
+        backendSessionConfig = new BackendSessionConfiguration(sessionSticky, sessionMaxConnections, sessionIdleTimeoutSeconds);
+        long parsingResultCacheSize = shardingProperties.getValue(ShardingPropertiesConstant.PARSING_RESULT_CACHE_SIZE);
+        parsingResultCache = new ParsingResultCache(parsingResultCacheSize);
+        groupByMemoryMergeBudget = shardingProperties.getValue(ShardingPropertiesConstant.GROUP_BY_MEMORY_MERGE_BUDGET);
+        maxInsertValuesSize = shardingProperties.getValue(ShardingPropertiesConstant.MAX_INSERT_VALUES_SIZE);
         shardingRule = new ShardingRule(
                 null == config.getShardingRule() ? new ShardingRuleConfiguration() : config.getShardingRule().getShardingRuleConfiguration(), config.getDataSources().keySet());
         if (null != config.getMasterSlaveRule()) {
@@ -33,6 +33,7 @@ import io.netty.handler.logging.LoggingHandler;
 import io.shardingsphere.proxy.backend.BackendExecutorContext;
 import io.shardingsphere.proxy.backend.netty.client.BackendNettyClient;
 import io.shardingsphere.proxy.config.RuleRegistry;
+import io.shardingsphere.proxy.frontend.common.executor.CommandExecutorScheduler;
 import io.shardingsphere.proxy.frontend.common.netty.ServerHandlerInitializer;
 
 /**
@@ -52,8 +53,6 @@ public final class ShardingProxy {
     
     private EventLoopGroup workerGroup;
     
-    private EventLoopGroup userGroup;
-    
     public ShardingProxy() {
         RULE_REGISTRY.initShardingMetaData(backendExecutorContext.getExecutorService());
     }
@@ -79,9 +78,9 @@ public final class ShardingProxy {
             ChannelFuture future = bootstrap.bind(port).sync();
             future.channel().closeFuture().sync();
         } finally {
-            userGroup.shutdownGracefully();
             workerGroup.shutdownGracefully();
             bossGroup.shutdownGracefully();
+            CommandExecutorScheduler.getInstance().shutdown();
             backendExecutorContext.getExecutorService().shutdown();
             if (RULE_REGISTRY.getBackendNIOConfig().isUseNIO()) {
                 BackendNettyClient.getInstance().stop();
@@ -99,7 +98,6 @@ public final class ShardingProxy {
     
     private void groupsEpoll(final ServerBootstrap bootstrap) {
         workerGroup = new EpollEventLoopGroup(RULE_REGISTRY.getAcceptorSize());
-        userGroup = new EpollEventLoopGroup(RULE_REGISTRY.getAcceptorSize());
         bootstrap.group(bossGroup, workerGroup)
             .channel(EpollServerSocketChannel.class)
             .option(EpollChannelOption.SO_BACKLOG, 128)
@@ -107,12 +105,11 @@ public final class ShardingProxy {
             .option(EpollChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
             .childOption(EpollChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
             .handler(new LoggingHandler(LogLevel.INFO))
-            .childHandler(new ServerHandlerInitializer(userGroup));
+            .childHandler(new ServerHandlerInitializer());
     }
     
     private void groupsNio(final ServerBootstrap bootstrap) {
         workerGroup = new NioEventLoopGroup(RULE_REGISTRY.getAcceptorSize());
-        userGroup = new NioEventLoopGroup(RULE_REGISTRY.getAcceptorSize());
         bootstrap.group(bossGroup, workerGroup)
             .channel(NioServerSocketChannel.class)
             .option(ChannelOption.SO_BACKLOG, 128)
@@ -121,6 +118,6 @@ public final class ShardingProxy {
             .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
             .childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
             .handler(new LoggingHandler(LogLevel.INFO))
-            .childHandler(new ServerHandlerInitializer(userGroup));
+            .childHandler(new ServerHandlerInitializer());
     }
 }
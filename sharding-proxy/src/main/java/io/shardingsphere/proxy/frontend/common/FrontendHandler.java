@@ -20,7 +20,10 @@ package io.shardingsphere.proxy.frontend.common;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
-import io.shardingsphere.proxy.frontend.common.executor.ChannelThreadExecutorGroup;
+import io.shardingsphere.proxy.frontend.common.executor.ChannelCommandQueue;
+import io.shardingsphere.proxy.frontend.common.executor.CommandExecutorScheduler;
+import lombok.AccessLevel;
+import lombok.Getter;
 
 /**
  * Frontend handler.
@@ -31,9 +34,12 @@ public abstract class FrontendHandler extends ChannelInboundHandlerAdapter {
     
     private boolean authorized;
     
+    @Getter(AccessLevel.PROTECTED)
+    private ChannelCommandQueue commandQueue;
+    
     @Override
     public final void channelActive(final ChannelHandlerContext context) {
-        ChannelThreadExecutorGroup.getInstance().register(context.channel().id());
+        commandQueue = CommandExecutorScheduler.getInstance().createCommandQueue(context.channel());
         handshake(context);
     }
     
@@ -56,6 +62,8 @@ public abstract class FrontendHandler extends ChannelInboundHandlerAdapter {
     @Override
     public final void channelInactive(final ChannelHandlerContext context) {
         context.fireChannelInactive();
-        ChannelThreadExecutorGroup.getInstance().unregister(context.channel().id());
+        closeSession(context);
     }
+    
+    protected abstract void closeSession(ChannelHandlerContext context);
 }
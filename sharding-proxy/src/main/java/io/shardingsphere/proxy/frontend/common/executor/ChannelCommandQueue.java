@@ -0,0 +1,182 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.frontend.common.executor;
+
+import io.netty.channel.Channel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Command queue of channel.
+ * 
+ * <p>
+ *     Commands are executed serially in submitted order.
+ *     Channel stops reading once pending commands reach max pending commands, and resumes reading after one of them executed.
+ * </p>
+ * 
+ * <p>
+ *     Running command can suspend the queue with a continuation instead of blocking thread, for example when channel is not writable.
+ *     Following commands wait until the continuation is resumed and finished.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class ChannelCommandQueue implements Runnable {
+    
+    private final CommandExecutorScheduler scheduler;
+    
+    private final Channel channel;
+    
+    private final Queue<QueuedCommand> commands = new ConcurrentLinkedQueue<>();
+    
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    
+    private int pendingCommandCount;
+    
+    private Runnable continuation;
+    
+    private boolean parked;
+    
+    private boolean resumeRequested;
+    
+    /**
+     * Submit command.
+     * 
+     * @param command command to be executed
+     */
+    public void submit(final Runnable command) {
+        commands.offer(new QueuedCommand(command, System.nanoTime()));
+        scheduler.commandQueued();
+        synchronized (this) {
+            if (++pendingCommandCount == scheduler.getMaxPendingCommands()) {
+                channel.config().setAutoRead(false);
+            }
+        }
+        schedule();
+    }
+    
+    /**
+     * Judge whether commands are waiting to be executed after current command.
+     * 
+     * @return has pending commands or not
+     */
+    public boolean hasPendingCommands() {
+        return !commands.isEmpty();
+    }
+    
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            scheduler.execute(this);
+        }
+    }
+    
+    /**
+     * Suspend queue after current command returns.
+     * 
+     * <p>Must be called by running command, and the continuation will run in place of next command after resumed.</p>
+     * 
+     * @param continuation continuation of current command
+     */
+    public synchronized void suspend(final Runnable continuation) {
+        this.continuation = continuation;
+    }
+    
+    /**
+     * Resume suspended queue.
+     */
+    public void resume() {
+        synchronized (this) {
+            if (null == continuation) {
+                return;
+            }
+            if (!parked) {
+                resumeRequested = true;
+                return;
+            }
+            parked = false;
+        }
+        scheduler.execute(this);
+    }
+    
+    @Override
+    public void run() {
+        Runnable resumedContinuation = takeContinuation();
+        try {
+            if (null == resumedContinuation) {
+                executeNextCommand();
+            } else {
+                resumedContinuation.run();
+            }
+        } finally {
+            if (!park()) {
+                scheduled.set(false);
+                if (!commands.isEmpty()) {
+                    schedule();
+                }
+            }
+        }
+    }
+    
+    private synchronized Runnable takeContinuation() {
+        Runnable result = continuation;
+        continuation = null;
+        return result;
+    }
+    
+    private synchronized boolean park() {
+        if (null == continuation) {
+            return false;
+        }
+        if (resumeRequested) {
+            resumeRequested = false;
+            scheduler.execute(this);
+        } else {
+            parked = true;
+        }
+        return true;
+    }
+    
+    private void executeNextCommand() {
+        QueuedCommand command = commands.poll();
+        if (null == command) {
+            return;
+        }
+        scheduler.commandDequeued(System.nanoTime() - command.queuedNanos);
+        try {
+            command.command.run();
+        } finally {
+            synchronized (this) {
+                if (pendingCommandCount-- == scheduler.getMaxPendingCommands()) {
+                    channel.config().setAutoRead(true);
+                }
+            }
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class QueuedCommand {
+        
+        private final Runnable command;
+        
+        private final long queuedNanos;
+    }
+}
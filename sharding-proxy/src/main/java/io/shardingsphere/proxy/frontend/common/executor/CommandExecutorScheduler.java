@@ -0,0 +1,153 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.frontend.common.executor;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.netty.channel.Channel;
+import io.shardingsphere.proxy.config.RuleRegistry;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Command executor scheduler.
+ * 
+ * <p>
+ *     Execute frontend commands on a bounded thread pool instead of netty event loop, since commands may block on backend databases.
+ *     Commands of each channel are executed in order, one command per turn, so that busy channels cannot starve others.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class CommandExecutorScheduler {
+    
+    private final ExecutorService executorService;
+    
+    private final int maxPendingCommands;
+    
+    private final AtomicInteger pendingCommandCount = new AtomicInteger();
+    
+    private final AtomicLong executedCommandCount = new AtomicLong();
+    
+    private final AtomicLong totalQueueWaitNanos = new AtomicLong();
+    
+    private final AtomicLong maxQueueWaitNanos = new AtomicLong();
+    
+    CommandExecutorScheduler(final int executorSize, final int maxPendingCommands) {
+        executorService = Executors.newFixedThreadPool(executorSize, new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingProxy-Command-%d").build());
+        this.maxPendingCommands = maxPendingCommands;
+    }
+    
+    /**
+     * Get command executor scheduler instance.
+     * 
+     * @return instance of command executor scheduler
+     */
+    public static CommandExecutorScheduler getInstance() {
+        return CommandExecutorSchedulerHolder.INSTANCE;
+    }
+    
+    /**
+     * Create command queue for channel.
+     * 
+     * @param channel channel
+     * @return command queue of channel
+     */
+    public ChannelCommandQueue createCommandQueue(final Channel channel) {
+        return new ChannelCommandQueue(this, channel);
+    }
+    
+    /**
+     * Get max pending commands of one channel.
+     * 
+     * @return max pending commands of one channel, 0 means unlimited
+     */
+    public int getMaxPendingCommands() {
+        return maxPendingCommands;
+    }
+    
+    /**
+     * Get count of commands waiting for execution.
+     * 
+     * @return count of commands waiting for execution
+     */
+    public int getPendingCommandCount() {
+        return pendingCommandCount.get();
+    }
+    
+    /**
+     * Get count of executed commands.
+     * 
+     * @return count of executed commands
+     */
+    public long getExecutedCommandCount() {
+        return executedCommandCount.get();
+    }
+    
+    /**
+     * Get average nanoseconds commands waited in queue.
+     * 
+     * @return average nanoseconds commands waited in queue
+     */
+    public long getAverageQueueWaitNanos() {
+        long executedCount = executedCommandCount.get();
+        return 0 == executedCount ? 0 : totalQueueWaitNanos.get() / executedCount;
+    }
+    
+    /**
+     * Get max nanoseconds commands waited in queue.
+     * 
+     * @return max nanoseconds commands waited in queue
+     */
+    public long getMaxQueueWaitNanos() {
+        return maxQueueWaitNanos.get();
+    }
+    
+    void execute(final ChannelCommandQueue commandQueue) {
+        executorService.execute(commandQueue);
+    }
+    
+    void commandQueued() {
+        pendingCommandCount.incrementAndGet();
+    }
+    
+    void commandDequeued(final long queueWaitNanos) {
+        pendingCommandCount.decrementAndGet();
+        executedCommandCount.incrementAndGet();
+        totalQueueWaitNanos.addAndGet(queueWaitNanos);
+        long currentMax = maxQueueWaitNanos.get();
+        while (queueWaitNanos > currentMax && !maxQueueWaitNanos.compareAndSet(currentMax, queueWaitNanos)) {
+            currentMax = maxQueueWaitNanos.get();
+        }
+    }
+    
+    /**
+     * Shutdown scheduler.
+     */
+    public void shutdown() {
+        executorService.shutdown();
+    }
+    
+    private static final class CommandExecutorSchedulerHolder {
+        
+        private static final CommandExecutorScheduler INSTANCE = new CommandExecutorScheduler(
+                RuleRegistry.getInstance().getFrontendExecutorSize(), RuleRegistry.getInstance().getFrontendMaxPendingCommands());
+    }
+}
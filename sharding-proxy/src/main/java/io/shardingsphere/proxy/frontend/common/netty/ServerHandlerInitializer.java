@@ -19,28 +19,32 @@ package io.shardingsphere.proxy.frontend.common.netty;
 
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelPipeline;
-import io.netty.channel.EventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
+import io.netty.handler.timeout.IdleStateHandler;
 import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.proxy.config.BackendSessionConfiguration;
+import io.shardingsphere.proxy.config.RuleRegistry;
 import io.shardingsphere.proxy.frontend.common.FrontendHandlerFactory;
 import io.shardingsphere.proxy.transport.common.codec.PacketCodecFactory;
-import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.TimeUnit;
 
 /**
  * Channel initializer.
  * 
  * @author xiaoyu
  */
-@RequiredArgsConstructor
 public final class ServerHandlerInitializer extends ChannelInitializer<SocketChannel> {
     
-    private final EventLoopGroup userGroup;
-    
     @Override
     protected void initChannel(final SocketChannel socketChannel) {
         ChannelPipeline pipeline = socketChannel.pipeline();
         // TODO load database type from yaml or startup arguments
         pipeline.addLast(PacketCodecFactory.createPacketCodecInstance(DatabaseType.MySQL));
-        pipeline.addLast(FrontendHandlerFactory.createFrontendHandlerInstance(DatabaseType.MySQL, userGroup));
+        BackendSessionConfiguration backendSessionConfig = RuleRegistry.getInstance().getBackendSessionConfig();
+        if (backendSessionConfig.isSticky() && backendSessionConfig.getIdleTimeoutSeconds() > 0) {
+            pipeline.addLast(new IdleStateHandler(0, 0, backendSessionConfig.getIdleTimeoutSeconds(), TimeUnit.SECONDS));
+        }
+        pipeline.addLast(FrontendHandlerFactory.createFrontendHandlerInstance(DatabaseType.MySQL));
     }
 }
@@ -20,18 +20,26 @@ package io.shardingsphere.proxy.frontend.mysql;
 import com.google.common.base.Optional;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
-import io.netty.channel.EventLoopGroup;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.shardingsphere.proxy.backend.NonBlockingBackendHandler;
 import io.shardingsphere.proxy.backend.jdbc.connection.BackendConnection;
 import io.shardingsphere.proxy.frontend.common.FrontendHandler;
-import io.shardingsphere.proxy.frontend.common.executor.ExecutorGroup;
 import io.shardingsphere.proxy.runtime.ChannelRegistry;
 import io.shardingsphere.proxy.transport.common.packet.DatabasePacket;
+import io.shardingsphere.proxy.transport.mysql.constant.CapabilityFlag;
 import io.shardingsphere.proxy.transport.mysql.constant.ServerErrorCode;
+import io.shardingsphere.proxy.transport.mysql.constant.StatusFlag;
+import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
+import io.shardingsphere.proxy.transport.mysql.packet.PassThroughPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.ResequencedPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandPacketFactory;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandResponsePackets;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.QueryCommandPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.QueryResponsePackets;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.BinaryStatementRegistry;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.text.query.ComQueryPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.generic.EofPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.generic.ErrPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.generic.OKPacket;
@@ -40,8 +48,10 @@ import io.shardingsphere.proxy.transport.mysql.packet.handshake.ConnectionIdGene
 import io.shardingsphere.proxy.transport.mysql.packet.handshake.HandshakePacket;
 import io.shardingsphere.proxy.transport.mysql.packet.handshake.HandshakeResponse41Packet;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * MySQL frontend handler.
@@ -50,13 +60,17 @@ import java.sql.SQLException;
  * @author panjuan
  * @author wangkai
  */
-@RequiredArgsConstructor
+@Slf4j
 public final class MySQLFrontendHandler extends FrontendHandler {
     
-    private final EventLoopGroup eventLoopGroup;
-    
     private final AuthorityHandler authorityHandler = new AuthorityHandler();
     
+    private final BackendConnection backendConnection = new BackendConnection();
+    
+    private final BinaryStatementRegistry binaryStatementRegistry = new BinaryStatementRegistry();
+    
+    private volatile boolean multiStatementsEnabled;
+    
     @Override
     protected void handshake(final ChannelHandlerContext context) {
         int connectionId = ConnectionIdGenerator.getInstance().nextId();
@@ -69,6 +83,7 @@ public final class MySQLFrontendHandler extends FrontendHandler {
         try (MySQLPacketPayload payload = new MySQLPacketPayload(message)) {
             HandshakeResponse41Packet response41 = new HandshakeResponse41Packet(payload);
             if (authorityHandler.login(response41.getUsername(), response41.getAuthResponse())) {
+                multiStatementsEnabled = 0 != (response41.getCapabilityFlags() & CapabilityFlag.CLIENT_MULTI_STATEMENTS.getValue());
                 context.writeAndFlush(new OKPacket(response41.getSequenceId() + 1));
             } else {
                 // TODO localhost should replace to real ip address
@@ -80,18 +95,128 @@ public final class MySQLFrontendHandler extends FrontendHandler {
     
     @Override
     protected void executeCommand(final ChannelHandlerContext context, final ByteBuf message) {
-        new ExecutorGroup(eventLoopGroup, context.channel().id()).getExecutorService().execute(new CommandExecutor(context, message));
+        getCommandQueue().submit(new CommandExecutor(context, message));
+    }
+    
+    @Override
+    protected void closeSession(final ChannelHandlerContext context) {
+        getCommandQueue().submit(new Runnable() {
+            
+            @Override
+            public void run() {
+                ChannelRegistry.getInstance().removeConnectionId(context.channel().id().asShortText());
+                try {
+                    backendConnection.close();
+                } catch (final SQLException ex) {
+                    log.error("Close backend connection failure.", ex);
+                }
+            }
+        });
+        getCommandQueue().resume();
+    }
+    
+    @Override
+    public void userEventTriggered(final ChannelHandlerContext context, final Object event) {
+        if (!(event instanceof IdleStateEvent)) {
+            context.fireUserEventTriggered(event);
+            return;
+        }
+        try {
+            backendConnection.releaseIdleConnections();
+        } catch (final SQLException ex) {
+            log.error("Release idle backend connection failure.", ex);
+        }
     }
     
     @Override
     public void channelWritabilityChanged(final ChannelHandlerContext context) {
         if (context.channel().isWritable()) {
-            synchronized (this) {
-                this.notifyAll();
+            getCommandQueue().resume();
+        }
+    }
+    
+    private void releaseBackendConnection() {
+        try {
+            backendConnection.release();
+        } catch (final SQLException ex) {
+            log.error("Release backend connection failure.", ex);
+        }
+        try {
+            backendConnection.suspendXATransaction();
+        } catch (final SQLException ex) {
+            log.error("Suspend XA transaction failure.", ex);
+        }
+    }
+    
+    private DatabasePacket withStatusFlags(final DatabasePacket packet, final boolean moreResults) {
+        if (packet instanceof OKPacket) {
+            OKPacket okPacket = (OKPacket) packet;
+            return new OKPacket(okPacket.getSequenceId(), okPacket.getAffectedRows(), okPacket.getLastInsertId(), 
+                    getStatusFlags(okPacket.getStatusFlags(), moreResults), okPacket.getWarnings(), okPacket.getInfo());
+        }
+        if (packet instanceof EofPacket) {
+            EofPacket eofPacket = (EofPacket) packet;
+            return new EofPacket(eofPacket.getSequenceId(), eofPacket.getWarnings(), getStatusFlags(eofPacket.getStatusFlags(), moreResults));
+        }
+        return packet;
+    }
+    
+    private int getStatusFlags(final int statusFlags, final boolean moreResults) {
+        int result = statusFlags & ~(StatusFlag.SERVER_STATUS_AUTOCOMMIT.getValue() | StatusFlag.SERVER_STATUS_IN_TRANS.getValue() | StatusFlag.SERVER_MORE_RESULTS_EXISTS.getValue());
+        if (backendConnection.isAutoCommit()) {
+            result |= StatusFlag.SERVER_STATUS_AUTOCOMMIT.getValue();
+        }
+        if (backendConnection.isInTransaction()) {
+            result |= StatusFlag.SERVER_STATUS_IN_TRANS.getValue();
+        }
+        if (moreResults) {
+            result |= StatusFlag.SERVER_MORE_RESULTS_EXISTS.getValue();
+        }
+        return result;
+    }
+    
+    private void flushIfNoPendingCommands(final ChannelHandlerContext context) {
+        if (!getCommandQueue().hasPendingCommands()) {
+            context.flush();
+        }
+    }
+    
+    private boolean sendWithoutBlocking(final CommandPacket commandPacket, final Runnable continuation, final AtomicBoolean responded) {
+        if (!(commandPacket instanceof ComQueryPacket)) {
+            return false;
+        }
+        Optional<NonBlockingBackendHandler> backendHandler = ((ComQueryPacket) commandPacket).getNonBlockingBackendHandler();
+        if (!backendHandler.isPresent()) {
+            return false;
+        }
+        responded.set(false);
+        getCommandQueue().suspend(continuation);
+        backendHandler.get().send(new Runnable() {
+            
+            @Override
+            public void run() {
+                responded.set(true);
+                getCommandQueue().resume();
             }
+        });
+        return true;
+    }
+    
+    private void suspendUntilResponded(final ChannelHandlerContext context, final Runnable continuation, final AtomicBoolean responded) {
+        getCommandQueue().suspend(continuation);
+        if (responded.get() || !context.channel().isActive()) {
+            getCommandQueue().resume();
         }
     }
     
+    /**
+     * Command executor.
+     * 
+     * <p>
+     *     If backend sends SQL without blocking thread, executor suspends command queue after sending,
+     *     then continues to execute and write response after backend responded.
+     * </p>
+     */
     @RequiredArgsConstructor
     class CommandExecutor implements Runnable {
         
@@ -99,22 +224,44 @@ public final class MySQLFrontendHandler extends FrontendHandler {
         
         private final ByteBuf message;
         
+        private final AtomicBoolean responded = new AtomicBoolean(true);
+        
         private int currentSequenceId;
         
+        private CommandPacket commandPacket;
+        
         @Override
         public void run() {
-            try (MySQLPacketPayload payload = new MySQLPacketPayload(message);
-                 BackendConnection backendConnection = new BackendConnection()) {
-                CommandPacket commandPacket = getCommandPacket(payload, backendConnection);
+            QueryResultWriter queryResultWriter = null;
+            boolean waiting = false;
+            try {
+                backendConnection.resumeXATransaction();
+                if (null == commandPacket) {
+                    try (MySQLPacketPayload payload = new MySQLPacketPayload(message)) {
+                        commandPacket = getCommandPacket(payload);
+                    }
+                    waiting = sendWithoutBlocking(commandPacket, this, responded);
+                } else if (!responded.get() && context.channel().isActive()) {
+                    suspendUntilResponded(context, this, responded);
+                    waiting = true;
+                }
+                if (waiting || !responded.get()) {
+                    return;
+                }
                 Optional<CommandResponsePackets> responsePackets = commandPacket.execute();
                 if (!responsePackets.isPresent()) {
+                    flushIfNoPendingCommands(context);
                     return;
                 }
-                for (DatabasePacket each : responsePackets.get().getPackets()) {
-                    context.writeAndFlush(each);
-                }
-                if (commandPacket instanceof QueryCommandPacket && !(responsePackets.get().getHeadPacket() instanceof OKPacket) && !(responsePackets.get().getHeadPacket() instanceof ErrPacket)) {
-                    writeMoreResults((QueryCommandPacket) commandPacket, responsePackets.get().getPackets().size());
+                if (commandPacket instanceof QueryCommandPacket) {
+                    QueryResultWriter writer = new QueryResultWriter(context, (QueryCommandPacket) commandPacket);
+                    writer.writeResponsePackets(responsePackets.get());
+                    queryResultWriter = writer;
+                } else {
+                    for (DatabasePacket each : responsePackets.get().getPackets()) {
+                        context.write(withStatusFlags(each, false));
+                    }
+                    flushIfNoPendingCommands(context);
                 }
             } catch (final SQLException ex) {
                 context.writeAndFlush(new ErrPacket(++currentSequenceId, ex));
@@ -122,31 +269,184 @@ public final class MySQLFrontendHandler extends FrontendHandler {
             } catch (final Exception ex) {
                 // CHECKSTYLE:ON
                 context.writeAndFlush(new ErrPacket(1, ServerErrorCode.ER_STD_UNKNOWN_EXCEPTION, ex.getMessage()));
+            } finally {
+                if (null == queryResultWriter && !waiting) {
+                    releaseBackendConnection();
+                }
+            }
+            if (null != queryResultWriter) {
+                queryResultWriter.run();
             }
         }
         
-        private CommandPacket getCommandPacket(final MySQLPacketPayload payload, final BackendConnection backendConnection) {
+        private CommandPacket getCommandPacket(final MySQLPacketPayload payload) {
             int sequenceId = payload.readInt1();
             int connectionId = ChannelRegistry.getInstance().getConnectionId(context.channel().id().asShortText());
-            return CommandPacketFactory.getCommandPacket(sequenceId, connectionId, payload, backendConnection);
+            return CommandPacketFactory.getCommandPacket(sequenceId, connectionId, payload, backendConnection, binaryStatementRegistry, multiStatementsEnabled);
+        }
+    }
+    
+    /**
+     * Query result writer.
+     * 
+     * <p>
+     *     Rows are written without flush and flushed in batches.
+     *     Once channel is not writable, writer stops reading backend result and suspends command queue without blocking thread,
+     *     then continues after channel is writable again.
+     * </p>
+     * 
+     * <p>
+     *     Statements of multi-statements query are executed one by one after result of previous statement written,
+     *     their packets continue the sequence of previous results, and the last packet of each result except the last one is marked with more results exists.
+     * </p>
+     */
+    class QueryResultWriter implements Runnable {
+        
+        private static final int FLUSH_ROWS = 256;
+        
+        private static final int FLUSH_BYTES = 64 * 1024;
+        
+        private final ChannelHandlerContext context;
+        
+        private final QueryCommandPacket queryCommandPacket;
+        
+        private final AtomicBoolean responded = new AtomicBoolean(true);
+        
+        private int currentSequenceId;
+        
+        private int sequenceIdOffset;
+        
+        private boolean rowsPending;
+        
+        private boolean errorOccurred;
+        
+        private int unflushedRows;
+        
+        private long bytesBeforeUnwritableAtFlush;
+        
+        private boolean statementPending;
+        
+        QueryResultWriter(final ChannelHandlerContext context, final QueryCommandPacket queryCommandPacket) {
+            this.context = context;
+            this.queryCommandPacket = queryCommandPacket;
+            bytesBeforeUnwritableAtFlush = context.channel().bytesBeforeUnwritable();
         }
         
-        private void writeMoreResults(final QueryCommandPacket queryCommandPacket, final int headPacketsCount) throws SQLException {
-            currentSequenceId = headPacketsCount;
-            while (queryCommandPacket.next()) {
-                while (!context.channel().isWritable()) {
-                    synchronized (MySQLFrontendHandler.this) {
-                        try {
-                            MySQLFrontendHandler.this.wait();
-                        } catch (final InterruptedException ignore) {
+        void writeResponsePackets(final CommandResponsePackets responsePackets) {
+            DatabasePacket headPacket = responsePackets.getHeadPacket();
+            errorOccurred = headPacket instanceof ErrPacket;
+            rowsPending = !(headPacket instanceof OKPacket) && !errorOccurred;
+            if (0 == sequenceIdOffset && responsePackets instanceof QueryResponsePackets && ((QueryResponsePackets) responsePackets).getEncodedPackets().isPresent()) {
+                context.write(((QueryResponsePackets) responsePackets).getEncodedPackets().get());
+            } else {
+                boolean moreResults = !errorOccurred && hasMoreStatements();
+                for (DatabasePacket each : responsePackets.getPackets()) {
+                    context.write(resequence(withStatusFlags(each, moreResults && each instanceof OKPacket)));
+                }
+            }
+            currentSequenceId = sequenceIdOffset + responsePackets.getPackets().size();
+        }
+        
+        private boolean hasMoreStatements() {
+            return queryCommandPacket instanceof ComQueryPacket && ((ComQueryPacket) queryCommandPacket).hasMoreStatements();
+        }
+        
+        private DatabasePacket resequence(final DatabasePacket packet) {
+            if (0 == sequenceIdOffset) {
+                return packet;
+            }
+            int sequenceId = packet.getSequenceId() + sequenceIdOffset;
+            return packet instanceof PassThroughPacket
+                    ? new PassThroughPacket(sequenceId, ((PassThroughPacket) packet).getPayload()) : new ResequencedPacket(sequenceId, (MySQLPacket) packet);
+        }
+        
+        @Override
+        public void run() {
+            boolean finished = true;
+            try {
+                backendConnection.resumeXATransaction();
+                finished = writeResults();
+            } catch (final SQLException ex) {
+                context.write(new ErrPacket(++currentSequenceId, ex));
+                // CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+                // CHECKSTYLE:ON
+                context.write(new ErrPacket(++currentSequenceId, ServerErrorCode.ER_STD_UNKNOWN_EXCEPTION, ex.getMessage()));
+            }
+            if (finished) {
+                flushIfNoPendingCommands(context);
+                releaseBackendConnection();
+            } else {
+                flush();
+                suspendXATransaction();
+            }
+        }
+        
+        private boolean writeResults() throws SQLException {
+            while (true) {
+                if (statementPending) {
+                    if (!responded.get()) {
+                        if (!context.channel().isActive()) {
+                            return true;
                         }
+                        suspendUntilResponded(context, this, responded);
+                        return false;
                     }
+                    statementPending = false;
+                    sequenceIdOffset = currentSequenceId;
+                    writeResponsePackets(queryCommandPacket.execute().get());
+                }
+                if (rowsPending && !writeRows()) {
+                    return false;
                 }
-                DatabasePacket resultValue = queryCommandPacket.getResultValue();
+                if (errorOccurred || !hasMoreStatements() || !context.channel().isActive()) {
+                    return true;
+                }
+                ((ComQueryPacket) queryCommandPacket).nextStatement();
+                statementPending = true;
+                if (sendWithoutBlocking(queryCommandPacket, this, responded)) {
+                    return false;
+                }
+            }
+        }
+        
+        private boolean writeRows() throws SQLException {
+            while (context.channel().isActive()) {
+                if (!context.channel().isWritable()) {
+                    getCommandQueue().suspend(this);
+                    if (context.channel().isWritable() || !context.channel().isActive()) {
+                        getCommandQueue().resume();
+                    }
+                    return false;
+                }
+                if (!queryCommandPacket.next()) {
+                    context.write(new EofPacket(++currentSequenceId, 0, getStatusFlags(0, hasMoreStatements())));
+                    rowsPending = false;
+                    return true;
+                }
+                DatabasePacket resultValue = resequence(queryCommandPacket.getResultValue());
                 currentSequenceId = resultValue.getSequenceId();
-                context.writeAndFlush(resultValue);
+                context.write(resultValue, context.voidPromise());
+                if (++unflushedRows >= FLUSH_ROWS || bytesBeforeUnwritableAtFlush - context.channel().bytesBeforeUnwritable() >= FLUSH_BYTES) {
+                    flush();
+                }
+            }
+            rowsPending = false;
+            return true;
+        }
+        
+        private void flush() {
+            context.flush();
+            unflushedRows = 0;
+            bytesBeforeUnwritableAtFlush = context.channel().bytesBeforeUnwritable();
+        }
+        
+        private void suspendXATransaction() {
+            try {
+                backendConnection.suspendXATransaction();
+            } catch (final SQLException ex) {
+                log.error("Suspend XA transaction failure.", ex);
             }
-            context.writeAndFlush(new EofPacket(++currentSequenceId));
         }
     }
 }
@@ -63,4 +63,16 @@ public final class ChannelRegistry {
     public int getConnectionId(final String channelId) {
         return connectionIds.getIfPresent(channelId);
     }
+    
+    /**
+     * Remove connection id by channel ID.
+     *
+     * @param channelId netty channel ID
+     * @return removed database connection ID, null if absent
+     */
+    public Integer removeConnectionId(final String channelId) {
+        Integer result = connectionIds.getIfPresent(channelId);
+        connectionIds.invalidate(channelId);
+        return result;
+    }
 }
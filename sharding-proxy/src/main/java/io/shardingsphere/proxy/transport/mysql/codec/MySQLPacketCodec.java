@@ -18,20 +18,44 @@
 package io.shardingsphere.proxy.transport.mysql.codec;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
 import io.shardingsphere.proxy.transport.common.codec.PacketCodec;
 import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
+import io.shardingsphere.proxy.transport.mysql.packet.PassThroughPacket;
 
 import java.util.List;
 
 /**
  * MySQL packet codec.
  * 
+ * <p>
+ *     Packets are encoded into output buffer directly, the header is reserved and its payload length is set after payload is written.
+ *     Packets written with void promise, such as result set rows, are batched into one composite buffer,
+ *     which is written to next handler on flush or after it is large enough.
+ * </p>
+ * 
  * @author zhangliang 
  */
 public final class MySQLPacketCodec extends PacketCodec<MySQLPacket> {
     
+    private static final int MAX_PAYLOAD_LENGTH = 0xffffff;
+    
+    private static final int HEADER_LENGTH = MySQLPacket.PAYLOAD_LENGTH + MySQLPacket.SEQUENCE_LENGTH;
+    
+    private static final int MAX_BATCH_COMPONENTS = 1024;
+    
+    private static final int MAX_BATCH_BYTES = 64 * 1024;
+    
+    private CompositeByteBuf splitPayload;
+    
+    private CompositeByteBuf batch;
+    
+    private ByteBuf batchTail;
+    
     @Override
     protected boolean isValidHeader(final int readableBytes) {
         return readableBytes > MySQLPacket.PAYLOAD_LENGTH + MySQLPacket.SEQUENCE_LENGTH;
@@ -45,16 +69,142 @@ public final class MySQLPacketCodec extends PacketCodec<MySQLPacket> {
             in.resetReaderIndex();
             return;
         }
+        if (MAX_PAYLOAD_LENGTH == payloadLength || null != splitPayload) {
+            mergeSplitPayload(context, in, payloadLength, out);
+            return;
+        }
         out.add(in.readRetainedSlice(payloadLength + MySQLPacket.SEQUENCE_LENGTH));
     }
     
+    private void mergeSplitPayload(final ChannelHandlerContext context, final ByteBuf in, final int payloadLength, final List<Object> out) {
+        if (null == splitPayload) {
+            splitPayload = context.alloc().compositeBuffer(Integer.MAX_VALUE);
+            splitPayload.addComponent(true, in.readRetainedSlice(payloadLength + MySQLPacket.SEQUENCE_LENGTH));
+            return;
+        }
+        in.skipBytes(MySQLPacket.SEQUENCE_LENGTH);
+        splitPayload.addComponent(true, in.readRetainedSlice(payloadLength));
+        if (MAX_PAYLOAD_LENGTH > payloadLength) {
+            out.add(splitPayload);
+            splitPayload = null;
+        }
+    }
+    
     @Override
     protected void doEncode(final ChannelHandlerContext context, final MySQLPacket message, final ByteBuf out) {
-        try (MySQLPacketPayload payload = new MySQLPacketPayload(context.alloc().buffer())) {
-            message.write(payload);
-            out.writeMediumLE(payload.getByteBuf().readableBytes());
-            out.writeByte(message.getSequenceId());
-            out.writeBytes(payload.getByteBuf());
+        int headerIndex = out.writerIndex();
+        out.writeMediumLE(0);
+        out.writeByte(message.getSequenceId());
+        message.write(new MySQLPacketPayload(out));
+        int payloadLength = out.writerIndex() - headerIndex - HEADER_LENGTH;
+        if (payloadLength < MAX_PAYLOAD_LENGTH) {
+            out.setMediumLE(headerIndex, payloadLength);
+        } else {
+            splitPayload(message.getSequenceId(), out, headerIndex, payloadLength);
+        }
+    }
+    
+    private void splitPayload(final int sequenceId, final ByteBuf out, final int headerIndex, final int payloadLength) {
+        ByteBuf payload = out.copy(headerIndex + HEADER_LENGTH, payloadLength);
+        out.writerIndex(headerIndex);
+        int currentSequenceId = sequenceId;
+        int length;
+        try {
+            do {
+                length = Math.min(payload.readableBytes(), MAX_PAYLOAD_LENGTH);
+                out.writeMediumLE(length);
+                out.writeByte(currentSequenceId++);
+                out.writeBytes(payload, length);
+            } while (MAX_PAYLOAD_LENGTH == length);
+        } finally {
+            payload.release();
+        }
+    }
+    
+    @Override
+    public void write(final ChannelHandlerContext context, final Object message, final ChannelPromise promise) throws Exception {
+        if (promise.isVoid() && message instanceof MySQLPacket) {
+            addToBatch(context, (MySQLPacket) message);
+            if (batch.readableBytes() + batchTail.readableBytes() >= MAX_BATCH_BYTES) {
+                writeBatch(context);
+            }
+            return;
+        }
+        writeBatch(context);
+        if (message instanceof PassThroughPacket) {
+            context.write(createPassThroughBuffer(context, (PassThroughPacket) message), promise);
+            return;
+        }
+        super.write(context, message, promise);
+    }
+    
+    private void addToBatch(final ChannelHandlerContext context, final MySQLPacket message) {
+        if (null == batch) {
+            batch = context.alloc().compositeBuffer(MAX_BATCH_COMPONENTS);
+            batchTail = context.alloc().ioBuffer();
+        }
+        if (message instanceof PassThroughPacket) {
+            addBatchTail(context);
+            batch.addComponent(true, createPassThroughBuffer(context, (PassThroughPacket) message));
+        } else {
+            int writerIndex = batchTail.writerIndex();
+            try {
+                doEncode(context, message, batchTail);
+            } catch (final RuntimeException ex) {
+                batchTail.writerIndex(writerIndex);
+                throw ex;
+            }
+        }
+    }
+    
+    private void addBatchTail(final ChannelHandlerContext context) {
+        if (batchTail.isReadable()) {
+            batch.addComponent(true, batchTail);
+            batchTail = context.alloc().ioBuffer();
+        }
+    }
+    
+    private ByteBuf createPassThroughBuffer(final ChannelHandlerContext context, final PassThroughPacket passThroughPacket) {
+        if (passThroughPacket.getPayload().readableBytes() >= MAX_PAYLOAD_LENGTH) {
+            ByteBuf result = context.alloc().ioBuffer();
+            doEncode(context, passThroughPacket, result);
+            return result;
+        }
+        ByteBuf header = context.alloc().ioBuffer(HEADER_LENGTH);
+        header.writeMediumLE(passThroughPacket.getPayload().readableBytes());
+        header.writeByte(passThroughPacket.getSequenceId());
+        return Unpooled.wrappedBuffer(header, passThroughPacket.getPayload());
+    }
+    
+    private void writeBatch(final ChannelHandlerContext context) {
+        if (null == batch) {
+            return;
+        }
+        addBatchTail(context);
+        batchTail.release();
+        context.write(batch, context.voidPromise());
+        batch = null;
+        batchTail = null;
+    }
+    
+    @Override
+    public void flush(final ChannelHandlerContext context) throws Exception {
+        writeBatch(context);
+        super.flush(context);
+    }
+    
+    @Override
+    public void handlerRemoved(final ChannelHandlerContext context) throws Exception {
+        if (null != splitPayload) {
+            splitPayload.release();
+            splitPayload = null;
+        }
+        if (null != batch) {
+            batch.release();
+            batchTail.release();
+            batch = null;
+            batchTail = null;
         }
+        super.handlerRemoved(context);
     }
 }
@@ -99,7 +99,7 @@ public enum CapabilityFlag {
      * @return handshake capability flags upper bit
      */
     public static int calculateHandshakeCapabilityFlagsUpper() {
-        return 0;
+        return calculateCapabilityFlags(CLIENT_MULTI_STATEMENTS, CLIENT_MULTI_RESULTS) >>> 16;
     }
     
     // TODO use xor to calculate lower and upper
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.transport.mysql.packet;
+
+import io.netty.buffer.ByteBuf;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Pass through packet.
+ * 
+ * <p>
+ *     Payload received from backend database is forwarded to client as is, only sequence ID is rewritten.
+ *     Payload is released after written.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+@Getter
+public final class PassThroughPacket implements MySQLPacket {
+    
+    private final int sequenceId;
+    
+    private final ByteBuf payload;
+    
+    @Override
+    public void write(final MySQLPacketPayload payload) {
+        payload.getByteBuf().writeBytes(this.payload);
+        this.payload.release();
+    }
+}
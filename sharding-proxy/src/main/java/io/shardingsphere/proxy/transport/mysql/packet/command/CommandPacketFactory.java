@@ -23,6 +23,7 @@ import io.shardingsphere.proxy.transport.mysql.packet.command.admin.UnsupportedC
 import io.shardingsphere.proxy.transport.mysql.packet.command.admin.initdb.ComInitDbPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.command.admin.ping.ComPingPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.command.admin.quit.ComQuitPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.BinaryStatementRegistry;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.close.ComStmtClosePacket;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.execute.ComStmtExecutePacket;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.prepare.ComStmtPreparePacket;
@@ -47,9 +48,12 @@ public final class CommandPacketFactory {
      * @param connectionId MySQL connection id
      * @param payload MySQL packet payload
      * @param backendConnection backend connection
+     * @param binaryStatementRegistry binary statement registry of frontend connection
+     * @param multiStatementsEnabled whether client enabled multi-statements
      * @return Command packet
      */
-    public static CommandPacket getCommandPacket(final int sequenceId, final int connectionId, final MySQLPacketPayload payload, final BackendConnection backendConnection) {
+    public static CommandPacket getCommandPacket(final int sequenceId, final int connectionId, final MySQLPacketPayload payload, 
+                                                 final BackendConnection backendConnection, final BinaryStatementRegistry binaryStatementRegistry, final boolean multiStatementsEnabled) {
         int commandPacketTypeValue = payload.readInt1();
         CommandPacketType type = CommandPacketType.valueOf(commandPacketTypeValue);
         switch (type) {
@@ -60,13 +64,13 @@ public final class CommandPacketFactory {
             case COM_FIELD_LIST:
                 return new ComFieldListPacket(sequenceId, connectionId, payload, backendConnection);
             case COM_QUERY:
-                return new ComQueryPacket(sequenceId, connectionId, payload, backendConnection);
+                return new ComQueryPacket(sequenceId, connectionId, payload, backendConnection, multiStatementsEnabled);
             case COM_STMT_PREPARE:
-                return new ComStmtPreparePacket(sequenceId, payload);
+                return new ComStmtPreparePacket(sequenceId, payload, binaryStatementRegistry);
             case COM_STMT_EXECUTE:
-                return new ComStmtExecutePacket(sequenceId, connectionId, payload, backendConnection);
+                return new ComStmtExecutePacket(sequenceId, connectionId, payload, backendConnection, binaryStatementRegistry);
             case COM_STMT_CLOSE:
-                return new ComStmtClosePacket(sequenceId, payload);
+                return new ComStmtClosePacket(sequenceId, payload, binaryStatementRegistry);
             case COM_PING:
                 return new ComPingPacket(sequenceId);
             case COM_SLEEP:
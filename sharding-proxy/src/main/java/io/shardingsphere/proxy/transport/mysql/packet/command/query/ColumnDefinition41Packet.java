@@ -26,6 +26,7 @@ import lombok.Getter;
 
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Types;
 
 /**
  * Column definition above MySQL 4.1 packet protocol.
@@ -40,6 +41,8 @@ public final class ColumnDefinition41Packet implements MySQLPacket {
     
     private static final int NEXT_LENGTH = 0x0c;
     
+    private static final int UNSIGNED_FLAG = 0x0020;
+    
     @Getter
     private final int sequenceId;
     
@@ -68,14 +71,19 @@ public final class ColumnDefinition41Packet implements MySQLPacket {
     public ColumnDefinition41Packet(final int sequenceId, final ResultSetMetaData resultSetMetaData, final int columnIndex) throws SQLException {
         this(sequenceId, resultSetMetaData.getSchemaName(columnIndex), resultSetMetaData.getTableName(columnIndex), resultSetMetaData.getTableName(columnIndex), 
                 resultSetMetaData.getColumnLabel(columnIndex), resultSetMetaData.getColumnName(columnIndex), resultSetMetaData.getColumnDisplaySize(columnIndex), 
-                ColumnType.valueOfJDBCType(resultSetMetaData.getColumnType(columnIndex)), 0);
+                ColumnType.valueOfJDBCType(resultSetMetaData.getColumnType(columnIndex)), 0, isUnsignedNumeric(resultSetMetaData, columnIndex) ? UNSIGNED_FLAG : 0);
     }
     
     public ColumnDefinition41Packet(final int sequenceId, final String schema, final String table, final String orgTable, 
                                     final String name, final String orgName, final int columnLength, final ColumnType columnType, final int decimals) {
+        this(sequenceId, schema, table, orgTable, name, orgName, columnLength, columnType, decimals, 0);
+    }
+    
+    public ColumnDefinition41Packet(final int sequenceId, final String schema, final String table, final String orgTable, 
+                                    final String name, final String orgName, final int columnLength, final ColumnType columnType, final int decimals, final int flags) {
         this.sequenceId = sequenceId;
         this.characterSet = ServerInfo.CHARSET;
-        this.flags = 0;
+        this.flags = flags;
         this.schema = schema;
         this.table = table;
         this.orgTable = orgTable;
@@ -103,6 +111,32 @@ public final class ColumnDefinition41Packet implements MySQLPacket {
         payload.skipReserved(2);
     }
     
+    private static boolean isUnsignedNumeric(final ResultSetMetaData resultSetMetaData, final int columnIndex) throws SQLException {
+        switch (resultSetMetaData.getColumnType(columnIndex)) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+            case Types.FLOAT:
+            case Types.REAL:
+            case Types.DOUBLE:
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+                return !resultSetMetaData.isSigned(columnIndex);
+            default:
+                return false;
+        }
+    }
+    
+    /**
+     * Judge whether column is unsigned.
+     * 
+     * @return column is unsigned or not
+     */
+    public boolean isUnsigned() {
+        return 0 != (flags & UNSIGNED_FLAG);
+    }
+    
     @Override
     public void write(final MySQLPacketPayload payload) {
         payload.writeStringLenenc(CATALOG);
@@ -17,13 +17,19 @@
 
 package io.shardingsphere.proxy.transport.mysql.packet.command.query;
 
+import com.google.common.base.Optional;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.shardingsphere.proxy.transport.mysql.constant.ColumnType;
+import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandResponsePackets;
 import io.shardingsphere.proxy.transport.mysql.packet.generic.EofPacket;
 import lombok.Getter;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -38,12 +44,34 @@ public final class QueryResponsePackets extends CommandResponsePackets {
     
     private final Collection<ColumnDefinition41Packet> columnDefinition41Packets;
     
+    private final EofPacket eofPacket;
+    
+    private final List<ColumnType> columnTypes;
+    
+    private final ByteBuf encodedPackets;
+    
     public QueryResponsePackets(final FieldCountPacket fieldCountPacket, final Collection<ColumnDefinition41Packet> columnDefinition41Packets, final EofPacket eofPacket) {
+        this(fieldCountPacket, columnDefinition41Packets, eofPacket, null);
+    }
+    
+    private QueryResponsePackets(final FieldCountPacket fieldCountPacket, final Collection<ColumnDefinition41Packet> columnDefinition41Packets, final EofPacket eofPacket, 
+                                 final ByteBuf encodedPackets) {
         getPackets().add(fieldCountPacket);
         getPackets().addAll(columnDefinition41Packets);
         getPackets().add(eofPacket);
         this.fieldCountPacket = fieldCountPacket;
         this.columnDefinition41Packets = columnDefinition41Packets;
+        this.eofPacket = eofPacket;
+        columnTypes = createColumnTypes(columnDefinition41Packets);
+        this.encodedPackets = encodedPackets;
+    }
+    
+    private static List<ColumnType> createColumnTypes(final Collection<ColumnDefinition41Packet> columnDefinition41Packets) {
+        List<ColumnType> result = new ArrayList<>(columnDefinition41Packets.size());
+        for (ColumnDefinition41Packet each : columnDefinition41Packets) {
+            result.add(each.getColumnType());
+        }
+        return Collections.unmodifiableList(result);
     }
     
     /**
@@ -56,15 +84,37 @@ public final class QueryResponsePackets extends CommandResponsePackets {
     }
     
     /**
-     * Get column types.
-     *
-     * @return column types
+     * Encode all packets into one buffer.
+     * 
+     * <p>Encoded query response packets can be shared by sessions, the buffer is never released and is written by duplicate.</p>
+     * 
+     * @return query response packets with encoded buffer
      */
-    public List<ColumnType> getColumnTypes() {
-        List<ColumnType> result = new LinkedList<>();
+    public QueryResponsePackets encode() {
+        ByteBuf buffer = Unpooled.buffer();
+        encode(fieldCountPacket, buffer);
         for (ColumnDefinition41Packet each : columnDefinition41Packets) {
-            result.add(each.getColumnType());
+            encode(each, buffer);
+        }
+        encode(eofPacket, buffer);
+        return new QueryResponsePackets(fieldCountPacket, columnDefinition41Packets, eofPacket, Unpooled.unreleasableBuffer(buffer.capacity(buffer.readableBytes())));
+    }
+    
+    private void encode(final MySQLPacket mysqlPacket, final ByteBuf out) {
+        try (MySQLPacketPayload payload = new MySQLPacketPayload(Unpooled.buffer())) {
+            mysqlPacket.write(payload);
+            out.writeMediumLE(payload.getByteBuf().readableBytes());
+            out.writeByte(mysqlPacket.getSequenceId());
+            out.writeBytes(payload.getByteBuf());
         }
-        return result;
+    }
+    
+    /**
+     * Get encoded packets.
+     * 
+     * @return duplicate of encoded packets, absent if not encoded
+     */
+    public Optional<ByteBuf> getEncodedPackets() {
+        return null == encodedPackets ? Optional.<ByteBuf>absent() : Optional.of(encodedPackets.duplicate());
     }
 }
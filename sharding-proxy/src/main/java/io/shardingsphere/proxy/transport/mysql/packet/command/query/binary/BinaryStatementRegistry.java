@@ -17,39 +17,28 @@
 
 package io.shardingsphere.proxy.transport.mysql.packet.command.query.binary;
 
-import lombok.AccessLevel;
-import lombok.NoArgsConstructor;
-
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Binary prepared statement registry.
+ * 
+ * <p>
+ *     Registry is owned by one frontend connection, statement IDs are only valid in the connection which prepared them.
+ *     Statements are removed by COM_STMT_CLOSE, and are released with the connection.
+ *     Parsing result of same SQL is shared by all connections through parsing result cache.
+ * </p>
  *
  * @author zhangliang
  * @author zhangyonglun
  */
-@NoArgsConstructor(access = AccessLevel.NONE)
 public final class BinaryStatementRegistry {
     
-    private static final BinaryStatementRegistry INSTANCE = new BinaryStatementRegistry();
-    
-    private final ConcurrentMap<String, Integer> statementIdAssigner = new ConcurrentHashMap<>(65535, 1);
-    
-    private final ConcurrentMap<Integer, BinaryStatement> binaryStatements = new ConcurrentHashMap<>(65535, 1);
+    private final ConcurrentMap<Integer, BinaryStatement> binaryStatements = new ConcurrentHashMap<>();
     
     private final AtomicInteger sequence = new AtomicInteger();
     
-    /**
-     * Get prepared statement registry instance.
-     * 
-     * @return prepared statement registry instance
-     */
-    public static BinaryStatementRegistry getInstance() {
-        return INSTANCE;
-    }
-    
     /**
      * Register SQL.
      * 
@@ -58,13 +47,8 @@ public final class BinaryStatementRegistry {
      * @return statement ID
      */
     public int register(final String sql, final int parametersCount) {
-        Integer result = statementIdAssigner.get(sql);
-        if (null != result) {
-            return result;
-        }
-        result = sequence.incrementAndGet();
-        statementIdAssigner.putIfAbsent(sql, result);
-        binaryStatements.putIfAbsent(result, new BinaryStatement(sql, parametersCount));
+        int result = sequence.incrementAndGet();
+        binaryStatements.put(result, new BinaryStatement(sql, parametersCount));
         return result;
     }
     
@@ -72,9 +56,27 @@ public final class BinaryStatementRegistry {
      * Get binary prepared statement.
      *
      * @param statementId statement ID
-     * @return binary prepared statement
+     * @return binary prepared statement, null if statement ID is not registered
      */
     public BinaryStatement getBinaryStatement(final int statementId) {
         return binaryStatements.get(statementId);
     }
+    
+    /**
+     * Remove binary prepared statement.
+     * 
+     * @param statementId statement ID
+     */
+    public void remove(final int statementId) {
+        binaryStatements.remove(statementId);
+    }
+    
+    /**
+     * Get count of registered statements.
+     * 
+     * @return count of registered statements
+     */
+    public int size() {
+        return binaryStatements.size();
+    }
 }
@@ -21,6 +21,7 @@ import com.google.common.base.Optional;
 import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandResponsePackets;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.BinaryStatementRegistry;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
@@ -39,9 +40,12 @@ public class ComStmtClosePacket implements CommandPacket {
     
     private final int statementId;
     
-    public ComStmtClosePacket(final int sequenceId, final MySQLPacketPayload payload) {
+    private final BinaryStatementRegistry binaryStatementRegistry;
+    
+    public ComStmtClosePacket(final int sequenceId, final MySQLPacketPayload payload, final BinaryStatementRegistry binaryStatementRegistry) {
         this.sequenceId = sequenceId;
         statementId = payload.readInt4();
+        this.binaryStatementRegistry = binaryStatementRegistry;
     }
     
     @Override
@@ -51,7 +55,7 @@ public class ComStmtClosePacket implements CommandPacket {
     @Override
     public final Optional<CommandResponsePackets> execute() {
         log.debug("COM_STMT_CLOSE received for Sharding-Proxy: {}", statementId);
-        // TODO :yonglun need to clean PreparedStatementRegistry?
+        binaryStatementRegistry.remove(statementId);
         return Optional.absent();
     }
 }
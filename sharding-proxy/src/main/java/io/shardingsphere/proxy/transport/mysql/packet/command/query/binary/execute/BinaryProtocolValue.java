@@ -107,24 +107,24 @@ public final class BinaryProtocolValue {
                 payload.writeStringLenenc(binaryData.toString());
                 break;
             case MYSQL_TYPE_LONGLONG:
-                payload.writeInt8((Long) binaryData);
+                payload.writeInt8(((Number) binaryData).longValue());
                 break;
             case MYSQL_TYPE_LONG:
             case MYSQL_TYPE_INT24:
-                payload.writeInt4((Integer) binaryData);
+                payload.writeInt4(((Number) binaryData).intValue());
                 break;
             case MYSQL_TYPE_SHORT:
             case MYSQL_TYPE_YEAR:
-                payload.writeInt2((Integer) binaryData);
+                payload.writeInt2(((Number) binaryData).intValue());
                 break;
             case MYSQL_TYPE_TINY:
-                payload.writeInt1((Integer) binaryData);
+                payload.writeInt1(((Number) binaryData).intValue());
                 break;
             case MYSQL_TYPE_DOUBLE:
-                payload.writeDouble(Double.parseDouble(binaryData.toString()));
+                payload.writeDouble(((Number) binaryData).doubleValue());
                 break;
             case MYSQL_TYPE_FLOAT:
-                payload.writeFloat(Float.parseFloat(binaryData.toString()));
+                payload.writeFloat(((Number) binaryData).floatValue());
                 break;
             case MYSQL_TYPE_DATE:
             case MYSQL_TYPE_DATETIME:
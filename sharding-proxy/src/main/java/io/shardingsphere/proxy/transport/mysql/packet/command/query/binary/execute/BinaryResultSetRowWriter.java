@@ -0,0 +1,192 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.execute;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.shardingsphere.core.merger.MergedResult;
+import io.shardingsphere.proxy.transport.mysql.constant.ColumnType;
+import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
+import io.shardingsphere.proxy.transport.mysql.packet.PassThroughPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.ColumnDefinition41Packet;
+
+import java.math.BigInteger;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.Date;
+
+/**
+ * Binary result set row writer.
+ * 
+ * <p>
+ *     Value getter of each column is chosen once by column type, 
+ *     then values of current row are read from merged result and written into payload directly without intermediate row data.
+ *     Unsigned BIGINT is read as object, since its value may exceed max value of long.
+ * </p>
+ * 
+ * @see <a href="https://dev.mysql.com/doc/internals/en/binary-protocol-resultset-row.html">Binary Protocol Resultset Row</a>
+ *
+ * @author zhangliang
+ */
+public final class BinaryResultSetRowWriter {
+    
+    private static final int PACKET_HEADER = 0x00;
+    
+    private static final int NULL_BITMAP_OFFSET = 2;
+    
+    private final ColumnType[] columnTypes;
+    
+    private final Class<?>[] valueTypes;
+    
+    private final int nullBitmapLength;
+    
+    public BinaryResultSetRowWriter(final Collection<ColumnDefinition41Packet> columnDefinition41Packets) {
+        columnTypes = new ColumnType[columnDefinition41Packets.size()];
+        valueTypes = new Class<?>[columnTypes.length];
+        int index = 0;
+        for (ColumnDefinition41Packet each : columnDefinition41Packets) {
+            columnTypes[index] = each.getColumnType();
+            valueTypes[index] = getValueType(each.getColumnType(), each.isUnsigned());
+            index++;
+        }
+        nullBitmapLength = new NullBitmap(columnTypes.length, NULL_BITMAP_OFFSET).getNullBitmap().length;
+    }
+    
+    private Class<?> getValueType(final ColumnType columnType, final boolean unsigned) {
+        switch (columnType) {
+            case MYSQL_TYPE_LONGLONG:
+                return unsigned ? Object.class : long.class;
+            case MYSQL_TYPE_LONG:
+            case MYSQL_TYPE_INT24:
+            case MYSQL_TYPE_SHORT:
+            case MYSQL_TYPE_YEAR:
+            case MYSQL_TYPE_TINY:
+                return long.class;
+            case MYSQL_TYPE_DOUBLE:
+                return double.class;
+            case MYSQL_TYPE_FLOAT:
+                return float.class;
+            case MYSQL_TYPE_DATE:
+            case MYSQL_TYPE_DATETIME:
+            case MYSQL_TYPE_TIMESTAMP:
+                return Timestamp.class;
+            case MYSQL_TYPE_TIME:
+                return Time.class;
+            case MYSQL_TYPE_LONG_BLOB:
+            case MYSQL_TYPE_MEDIUM_BLOB:
+            case MYSQL_TYPE_BLOB:
+            case MYSQL_TYPE_TINY_BLOB:
+            case MYSQL_TYPE_GEOMETRY:
+                return byte[].class;
+            default:
+                return String.class;
+        }
+    }
+    
+    /**
+     * Write current row of merged result.
+     * 
+     * @param sequenceId sequence ID
+     * @param mergedResult merged result
+     * @return binary result set row packet with encoded payload
+     * @throws SQLException SQL exception
+     */
+    public PassThroughPacket write(final int sequenceId, final MergedResult mergedResult) throws SQLException {
+        ByteBuf byteBuf = ByteBufAllocator.DEFAULT.ioBuffer();
+        boolean written = false;
+        try {
+            writeRow(new MySQLPacketPayload(byteBuf), mergedResult);
+            written = true;
+            return new PassThroughPacket(sequenceId, byteBuf);
+        } finally {
+            if (!written) {
+                byteBuf.release();
+            }
+        }
+    }
+    
+    private void writeRow(final MySQLPacketPayload payload, final MergedResult mergedResult) throws SQLException {
+        ByteBuf byteBuf = payload.getByteBuf();
+        payload.writeInt1(PACKET_HEADER);
+        int nullBitmapIndex = byteBuf.writerIndex();
+        byteBuf.writeZero(nullBitmapLength);
+        for (int i = 0; i < columnTypes.length; i++) {
+            Object value = mergedResult.getValue(i + 1, valueTypes[i]);
+            if (null == value || mergedResult.wasNull()) {
+                int index = nullBitmapIndex + (i + NULL_BITMAP_OFFSET) / 8;
+                byteBuf.setByte(index, byteBuf.getByte(index) | 1 << (i + NULL_BITMAP_OFFSET) % 8);
+            } else {
+                writeValue(payload, columnTypes[i], value);
+            }
+        }
+    }
+    
+    private void writeValue(final MySQLPacketPayload payload, final ColumnType columnType, final Object value) {
+        switch (columnType) {
+            case MYSQL_TYPE_LONGLONG:
+                payload.writeInt8(toLong(value));
+                break;
+            case MYSQL_TYPE_LONG:
+            case MYSQL_TYPE_INT24:
+                payload.writeInt4((int) toLong(value));
+                break;
+            case MYSQL_TYPE_SHORT:
+            case MYSQL_TYPE_YEAR:
+                payload.writeInt2((int) toLong(value));
+                break;
+            case MYSQL_TYPE_TINY:
+                payload.writeInt1((int) toLong(value));
+                break;
+            case MYSQL_TYPE_DOUBLE:
+                payload.writeDouble(value instanceof Number ? ((Number) value).doubleValue() : Double.parseDouble(value.toString()));
+                break;
+            case MYSQL_TYPE_FLOAT:
+                payload.writeFloat(value instanceof Number ? ((Number) value).floatValue() : Float.parseFloat(value.toString()));
+                break;
+            case MYSQL_TYPE_DATE:
+            case MYSQL_TYPE_DATETIME:
+            case MYSQL_TYPE_TIMESTAMP:
+                payload.writeDate(value instanceof Timestamp ? (Timestamp) value : new Timestamp(((Date) value).getTime()));
+                break;
+            case MYSQL_TYPE_TIME:
+                payload.writeTime((Date) value);
+                break;
+            case MYSQL_TYPE_LONG_BLOB:
+            case MYSQL_TYPE_MEDIUM_BLOB:
+            case MYSQL_TYPE_BLOB:
+            case MYSQL_TYPE_TINY_BLOB:
+            case MYSQL_TYPE_GEOMETRY:
+                payload.writeBytesLenenc(value instanceof byte[] ? (byte[]) value : value.toString().getBytes());
+                break;
+            default:
+                payload.writeStringLenenc(value.toString());
+        }
+    }
+    
+    private long toLong(final Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? 1L : 0L;
+        }
+        return new BigInteger(value.toString()).longValue();
+    }
+}
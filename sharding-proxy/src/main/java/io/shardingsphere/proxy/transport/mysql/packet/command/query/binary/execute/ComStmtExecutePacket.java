@@ -71,10 +71,12 @@ public final class ComStmtExecutePacket implements QueryCommandPacket {
     
     private final BackendHandler backendHandler;
     
-    public ComStmtExecutePacket(final int sequenceId, final int connectionId, final MySQLPacketPayload payload, final BackendConnection backendConnection) {
+    public ComStmtExecutePacket(final int sequenceId, final int connectionId, final MySQLPacketPayload payload, 
+                                final BackendConnection backendConnection, final BinaryStatementRegistry binaryStatementRegistry) {
         this.sequenceId = sequenceId;
         statementId = payload.readInt4();
-        binaryStatement = BinaryStatementRegistry.getInstance().getBinaryStatement(statementId);
+        binaryStatement = binaryStatementRegistry.getBinaryStatement(statementId);
+        Preconditions.checkArgument(null != binaryStatement, "Unknown prepared statement handler (%s) given to mysql_stmt_execute.", statementId);
         flags = payload.readInt1();
         Preconditions.checkArgument(ITERATION_COUNT == payload.readInt4());
         int parametersCount = binaryStatement.getParametersCount();
@@ -117,13 +119,18 @@ public final class ComStmtExecutePacket implements QueryCommandPacket {
             payload.writeInt1(each);
         }
         payload.writeInt1(newParametersBoundFlag.getValue());
-        int count = 0;
-        for (Object each : parameters) {
-            BinaryStatementParameterType parameterType = binaryStatement.getParameterTypes().get(count);
-            payload.writeInt1(parameterType.getColumnType().getValue());
-            payload.writeInt1(parameterType.getUnsignedFlag());
-            payload.writeStringLenenc(null == each ? "" : each.toString());
-            count++;
+        List<BinaryStatementParameterType> parameterTypes = binaryStatement.getParameterTypes();
+        if (NewParametersBoundFlag.PARAMETER_TYPE_EXIST == newParametersBoundFlag) {
+            for (BinaryStatementParameterType each : parameterTypes) {
+                payload.writeInt1(each.getColumnType().getValue());
+                payload.writeInt1(each.getUnsignedFlag());
+            }
+        }
+        for (int parameterIndex = 0; parameterIndex < parameters.size(); parameterIndex++) {
+            Object parameter = parameters.get(parameterIndex);
+            if (null != parameter) {
+                new BinaryProtocolValue(parameterTypes.get(parameterIndex).getColumnType(), payload).write(parameter);
+            }
         }
     }
     
@@ -141,6 +148,9 @@ public final class ComStmtExecutePacket implements QueryCommandPacket {
     @Override
     public DatabasePacket getResultValue() throws SQLException {
         ResultPacket resultPacket = backendHandler.getResultValue();
+        if (resultPacket.isPassThrough()) {
+            return resultPacket.getPassThroughPacket();
+        }
         return new BinaryResultSetRowPacket(resultPacket.getSequenceId(), resultPacket.getColumnCount(), resultPacket.getData(), resultPacket.getColumnTypes());
     }
 }
@@ -47,16 +47,17 @@ public final class ComStmtPreparePacket implements CommandPacket {
     
     private static final RuleRegistry RULE_REGISTRY = RuleRegistry.getInstance();
     
-    private static final BinaryStatementRegistry PREPARED_STATEMENT_REGISTRY = BinaryStatementRegistry.getInstance();
-    
     @Getter
     private final int sequenceId;
     
     private final String sql;
     
-    public ComStmtPreparePacket(final int sequenceId, final MySQLPacketPayload payload) {
+    private final BinaryStatementRegistry binaryStatementRegistry;
+    
+    public ComStmtPreparePacket(final int sequenceId, final MySQLPacketPayload payload, final BinaryStatementRegistry binaryStatementRegistry) {
         this.sequenceId = sequenceId;
         sql = payload.readStringEOF();
+        this.binaryStatementRegistry = binaryStatementRegistry;
     }
     
     @Override
@@ -68,9 +69,10 @@ public final class ComStmtPreparePacket implements CommandPacket {
     public Optional<CommandResponsePackets> execute() {
         log.debug("COM_STMT_PREPARE received for Sharding-Proxy: {}", sql);
         int currentSequenceId = 0;
-        SQLStatement sqlStatement = new SQLParsingEngine(DatabaseType.MySQL, sql, RULE_REGISTRY.getShardingRule(), RULE_REGISTRY.getMetaData().getTable()).parse(true);
+        SQLStatement sqlStatement = new SQLParsingEngine(
+                DatabaseType.MySQL, sql, RULE_REGISTRY.getShardingRule(), RULE_REGISTRY.getMetaData().getTable(), RULE_REGISTRY.getParsingResultCache()).parse(true);
         CommandResponsePackets result = new CommandResponsePackets(new ComStmtPrepareOKPacket(
-                ++currentSequenceId, PREPARED_STATEMENT_REGISTRY.register(sql, sqlStatement.getParametersIndex()), getNumColumns(sqlStatement), sqlStatement.getParametersIndex(), 0));
+                ++currentSequenceId, binaryStatementRegistry.register(sql, sqlStatement.getParametersIndex()), getNumColumns(sqlStatement), sqlStatement.getParametersIndex(), 0));
         for (int i = 0; i < sqlStatement.getParametersIndex(); i++) {
             // TODO add column name
             result.getPackets().add(new ColumnDefinition41Packet(++currentSequenceId, ShardingConstant.LOGIC_SCHEMA_NAME,
@@ -46,7 +46,12 @@ public final class TextResultSetRowPacket implements MySQLPacket {
         sequenceId = payload.readInt1();
         data = new ArrayList<>(columnCount);
         for (int i = 0; i < columnCount; i++) {
-            data.add(payload.readStringLenenc());
+            if (NULL == payload.getByteBuf().getUnsignedByte(payload.getByteBuf().readerIndex())) {
+                payload.readInt1();
+                data.add(null);
+            } else {
+                data.add(payload.readStringLenenc());
+            }
         }
     }
     
@@ -21,6 +21,7 @@ import com.google.common.base.Optional;
 import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.proxy.backend.BackendHandler;
 import io.shardingsphere.proxy.backend.BackendHandlerFactory;
+import io.shardingsphere.proxy.backend.NonBlockingBackendHandler;
 import io.shardingsphere.proxy.backend.ResultPacket;
 import io.shardingsphere.proxy.backend.jdbc.connection.BackendConnection;
 import io.shardingsphere.proxy.backend.jdbc.transaction.TransactionEngine;
@@ -36,6 +37,8 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Iterator;
 
 /**
  * COM_QUERY command packet.
@@ -52,24 +55,60 @@ public final class ComQueryPacket implements QueryCommandPacket {
     @Getter
     private final int sequenceId;
     
-    private final String sql;
+    private final int connectionId;
     
-    private final BackendHandler backendHandler;
+    private final BackendConnection backendConnection;
     
-    private final TransactionEngine transactionEngine;
+    private final Iterator<String> remainingStatements;
     
-    public ComQueryPacket(final int sequenceId, final int connectionId, final MySQLPacketPayload payload, final BackendConnection backendConnection) {
+    private String sql;
+    
+    private BackendHandler backendHandler;
+    
+    private TransactionEngine transactionEngine;
+    
+    public ComQueryPacket(final int sequenceId, final int connectionId, final MySQLPacketPayload payload, final BackendConnection backendConnection, final boolean multiStatementsEnabled) {
         this.sequenceId = sequenceId;
-        sql = payload.readStringEOF();
-        backendHandler = BackendHandlerFactory.newTextProtocolInstance(connectionId, sequenceId, sql, backendConnection, DatabaseType.MySQL);
-        transactionEngine = TransactionEngineFactory.newInstance(sql);
+        this.connectionId = connectionId;
+        this.backendConnection = backendConnection;
+        String query = payload.readStringEOF();
+        remainingStatements = (multiStatementsEnabled ? MultiStatementsSplitter.split(query) : Collections.singletonList(query)).iterator();
+        nextStatement();
     }
     
     public ComQueryPacket(final int sequenceId, final String sql) {
         this.sequenceId = sequenceId;
         this.sql = sql;
-        backendHandler = null;
-        transactionEngine = null;
+        connectionId = 0;
+        backendConnection = null;
+        remainingStatements = Collections.<String>emptyList().iterator();
+    }
+    
+    /**
+     * Judge whether more statements of multi-statements query are waiting to be executed.
+     * 
+     * @return has more statements or not
+     */
+    public boolean hasMoreStatements() {
+        return remainingStatements.hasNext();
+    }
+    
+    /**
+     * Goto next statement of multi-statements query, each statement is routed and executed independently.
+     */
+    public void nextStatement() {
+        sql = remainingStatements.next();
+        backendHandler = BackendHandlerFactory.newTextProtocolInstance(connectionId, sequenceId, sql, backendConnection, DatabaseType.MySQL);
+        transactionEngine = TransactionEngineFactory.newInstance(sql);
+    }
+    
+    /**
+     * Get backend handler of current statement which sends SQL without blocking thread.
+     * 
+     * @return backend handler without blocking, absent if current statement is executed by blocking backend
+     */
+    public Optional<NonBlockingBackendHandler> getNonBlockingBackendHandler() {
+        return backendHandler instanceof NonBlockingBackendHandler ? Optional.of((NonBlockingBackendHandler) backendHandler) : Optional.<NonBlockingBackendHandler>absent();
     }
     
     @Override
@@ -92,6 +131,9 @@ public final class ComQueryPacket implements QueryCommandPacket {
     @Override
     public DatabasePacket getResultValue() throws SQLException {
         ResultPacket resultPacket = backendHandler.getResultValue();
+        if (resultPacket.isPassThrough()) {
+            return resultPacket.getPassThroughPacket();
+        }
         return new TextResultSetRowPacket(resultPacket.getSequenceId(), resultPacket.getData());
     }
 }
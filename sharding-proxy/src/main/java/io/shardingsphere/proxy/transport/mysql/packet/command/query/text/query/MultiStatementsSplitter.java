@@ -0,0 +1,77 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.transport.mysql.packet.command.query.text.query;
+
+import io.shardingsphere.core.exception.ShardingException;
+import io.shardingsphere.core.parsing.lexer.Lexer;
+import io.shardingsphere.core.parsing.lexer.dialect.mysql.MySQLLexer;
+import io.shardingsphere.core.parsing.lexer.token.Assist;
+import io.shardingsphere.core.parsing.lexer.token.Symbol;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Multi-statements splitter.
+ * 
+ * <p>Statements are split by semicolons recognized by lexer, so semicolons in literals, identifiers and comments are ignored.</p>
+ *
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MultiStatementsSplitter {
+    
+    /**
+     * Split multi-statements SQL.
+     * 
+     * @param sql multi-statements SQL
+     * @return statements, original SQL only if it is not multi-statements or cannot be tokenized
+     */
+    public static List<String> split(final String sql) {
+        if (-1 == sql.indexOf(';')) {
+            return Collections.singletonList(sql);
+        }
+        List<String> result = new LinkedList<>();
+        Lexer lexer = new MySQLLexer(sql);
+        int beginPosition = 0;
+        try {
+            lexer.nextToken();
+            while (Assist.END != lexer.getCurrentToken().getType()) {
+                if (Symbol.SEMI == lexer.getCurrentToken().getType()) {
+                    addStatement(result, sql.substring(beginPosition, lexer.getCurrentToken().getEndPosition() - 1));
+                    beginPosition = lexer.getCurrentToken().getEndPosition();
+                }
+                lexer.nextToken();
+            }
+        } catch (final ShardingException ex) {
+            return Collections.singletonList(sql);
+        }
+        addStatement(result, sql.substring(beginPosition));
+        return result.isEmpty() ? Collections.singletonList(sql) : result;
+    }
+    
+    private static void addStatement(final List<String> statements, final String statement) {
+        String trimmed = statement.trim();
+        if (!trimmed.isEmpty()) {
+            statements.add(trimmed);
+        }
+    }
+}
@@ -17,6 +17,15 @@
 
 package io.shardingsphere.proxy;
 
+import io.shardingsphere.proxy.backend.jdbc.connection.SetAutoCommitStatementTest;
+import io.shardingsphere.proxy.backend.jdbc.execute.QueryResponsePacketsCacheTest;
+import io.shardingsphere.proxy.backend.netty.future.SynchronizedFutureTest;
+import io.shardingsphere.proxy.backend.netty.client.response.mysql.MySQLResponseHandlerTest;
+import io.shardingsphere.proxy.frontend.common.executor.ChannelCommandQueueTest;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.QueryResponsePacketsTest;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.BinaryStatementRegistryTest;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.execute.BinaryResultSetRowWriterTest;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.text.query.MultiStatementsSplitterTest;
 import io.shardingsphere.proxy.transport.mysql.packet.handshake.AuthPluginDataTest;
 import io.shardingsphere.proxy.transport.mysql.packet.handshake.AuthorityHandlerTest;
 import io.shardingsphere.proxy.transport.mysql.packet.handshake.ConnectionIdGeneratorTest;
@@ -29,6 +38,15 @@ import org.junit.runners.Suite.SuiteClasses;
 
 @RunWith(Suite.class)
 @SuiteClasses({
+        SetAutoCommitStatementTest.class,
+        QueryResponsePacketsCacheTest.class,
+        SynchronizedFutureTest.class,
+        MySQLResponseHandlerTest.class,
+        ChannelCommandQueueTest.class,
+        QueryResponsePacketsTest.class,
+        BinaryStatementRegistryTest.class,
+        BinaryResultSetRowWriterTest.class,
+        MultiStatementsSplitterTest.class,
         AuthorityHandlerTest.class,
         AuthPluginDataTest.class,
         ConnectionIdGeneratorTest.class,
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.backend.jdbc.connection;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class SetAutoCommitStatementTest {
+    
+    @Test
+    public void assertGetAutoCommitWhenTurnOff() {
+        assertFalse(SetAutoCommitStatement.getAutoCommit("SET AUTOCOMMIT=0").get());
+        assertFalse(SetAutoCommitStatement.getAutoCommit(" set autocommit = off;").get());
+        assertFalse(SetAutoCommitStatement.getAutoCommit("SET @@SESSION.autocommit=FALSE").get());
+    }
+    
+    @Test
+    public void assertGetAutoCommitWhenTurnOn() {
+        assertTrue(SetAutoCommitStatement.getAutoCommit("SET AUTOCOMMIT=1").get());
+        assertTrue(SetAutoCommitStatement.getAutoCommit("set session autocommit = ON").get());
+        assertTrue(SetAutoCommitStatement.getAutoCommit("SET @@autocommit=true").get());
+    }
+    
+    @Test
+    public void assertGetAutoCommitWithOtherSQL() {
+        assertFalse(SetAutoCommitStatement.getAutoCommit("SET NAMES utf8").isPresent());
+        assertFalse(SetAutoCommitStatement.getAutoCommit("SET AUTOCOMMIT=2").isPresent());
+        assertFalse(SetAutoCommitStatement.getAutoCommit("SELECT 1").isPresent());
+    }
+    
+    @Test
+    public void assertIsTransactionControl() {
+        assertTrue(SetAutoCommitStatement.isTransactionControl("SET AUTOCOMMIT=1"));
+        assertTrue(SetAutoCommitStatement.isTransactionControl("BEGIN"));
+        assertTrue(SetAutoCommitStatement.isTransactionControl(" commit "));
+        assertFalse(SetAutoCommitStatement.isTransactionControl("SELECT 1"));
+    }
+}
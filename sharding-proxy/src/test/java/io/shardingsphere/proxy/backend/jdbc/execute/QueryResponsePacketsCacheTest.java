@@ -0,0 +1,90 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.backend.jdbc.execute;
+
+import io.shardingsphere.proxy.transport.mysql.constant.ColumnType;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.ColumnDefinition41Packet;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.FieldCountPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.QueryResponsePackets;
+import io.shardingsphere.proxy.transport.mysql.packet.generic.EofPacket;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class QueryResponsePacketsCacheTest {
+    
+    private static final String DATA_SOURCE_NAME = "ds_0";
+    
+    private static final String SQL = "SELECT order_id, status FROM t_order_0 WHERE order_id = ?";
+    
+    private QueryResponsePackets queryResponsePackets;
+    
+    private long metaDataVersion;
+    
+    @Before
+    public void setUp() {
+        queryResponsePackets = new QueryResponsePackets(new FieldCountPacket(1, 2), Arrays.asList(
+                new ColumnDefinition41Packet(2, "db", "t_order_0", "t_order_0", "order_id", "order_id", 20, ColumnType.MYSQL_TYPE_LONGLONG, 0),
+                new ColumnDefinition41Packet(3, "db", "t_order_0", "t_order_0", "status", "status", 50, ColumnType.MYSQL_TYPE_VARCHAR, 0)), new EofPacket(4));
+        metaDataVersion = QueryResponsePacketsCache.getInstance().getMetaDataVersion();
+        QueryResponsePacketsCache.getInstance().put(DATA_SOURCE_NAME, SQL, metaDataVersion, queryResponsePackets);
+    }
+    
+    @After
+    public void tearDown() {
+        QueryResponsePacketsCache.getInstance().increaseMetaDataVersion();
+    }
+    
+    @Test
+    public void assertGet() {
+        assertTrue(QueryResponsePacketsCache.getInstance().get(DATA_SOURCE_NAME, SQL, metaDataVersion).isPresent());
+        assertThat(QueryResponsePacketsCache.getInstance().get(DATA_SOURCE_NAME, SQL, metaDataVersion).get(), is(queryResponsePackets));
+    }
+    
+    @Test
+    public void assertGetWithoutCachedSQL() {
+        assertFalse(QueryResponsePacketsCache.getInstance().get(DATA_SOURCE_NAME, "SELECT 1", metaDataVersion).isPresent());
+    }
+    
+    @Test
+    public void assertGetWithOtherDataSource() {
+        assertFalse(QueryResponsePacketsCache.getInstance().get("ds_1", SQL, metaDataVersion).isPresent());
+    }
+    
+    @Test
+    public void assertIncreaseMetaDataVersion() {
+        QueryResponsePacketsCache.getInstance().increaseMetaDataVersion();
+        assertThat(QueryResponsePacketsCache.getInstance().getMetaDataVersion(), is(metaDataVersion + 1));
+        assertFalse(QueryResponsePacketsCache.getInstance().get(DATA_SOURCE_NAME, SQL, metaDataVersion).isPresent());
+        assertFalse(QueryResponsePacketsCache.getInstance().get(DATA_SOURCE_NAME, SQL, metaDataVersion + 1).isPresent());
+    }
+    
+    @Test
+    public void assertPutWithOldMetaDataVersion() {
+        QueryResponsePacketsCache.getInstance().increaseMetaDataVersion();
+        QueryResponsePacketsCache.getInstance().put(DATA_SOURCE_NAME, SQL, metaDataVersion, queryResponsePackets);
+        assertFalse(QueryResponsePacketsCache.getInstance().get(DATA_SOURCE_NAME, SQL, metaDataVersion).isPresent());
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.backend.netty.client.response.mysql;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.metadata.datasource.DataSourceMetaData;
+import io.shardingsphere.core.rule.DataSourceParameter;
+import io.shardingsphere.proxy.backend.netty.client.response.ResponseHandler;
+import io.shardingsphere.proxy.backend.netty.client.response.mysql.fixture.MySQLServerFixture;
+import io.shardingsphere.proxy.backend.netty.future.FutureRegistry;
+import io.shardingsphere.proxy.backend.netty.future.SynchronizedFuture;
+import io.shardingsphere.proxy.runtime.ChannelRegistry;
+import io.shardingsphere.proxy.transport.mysql.codec.MySQLPacketCodec;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.text.query.ComQueryPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.generic.OKPacket;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class MySQLResponseHandlerTest {
+    
+    private static final int CONNECTION_ID = 10001;
+    
+    private final MySQLServerFixture server = new MySQLServerFixture();
+    
+    private EventLoopGroup group;
+    
+    private Channel channel;
+    
+    @Before
+    public void setUp() throws InterruptedException {
+        int port = server.start();
+        final DataSourceParameter dataSourceParameter = new DataSourceParameter();
+        dataSourceParameter.setUsername("root");
+        dataSourceParameter.setPassword("root");
+        final DataSourceMetaData dataSourceMetaData = mock(DataSourceMetaData.class);
+        when(dataSourceMetaData.getSchemeName()).thenReturn("db");
+        group = new NioEventLoopGroup(1);
+        channel = new Bootstrap().group(group).channel(NioSocketChannel.class).handler(new ChannelInitializer<Channel>() {
+            
+            @Override
+            protected void initChannel(final Channel channel) {
+                channel.pipeline().addLast(new MySQLPacketCodec(), new MySQLResponseHandler(dataSourceParameter, dataSourceMetaData, new HashMap<Integer, MySQLQueryResult>()));
+            }
+        }).connect("127.0.0.1", port).sync().channel();
+        ChannelFuture authFuture = ResponseHandler.getAuthFuture(channel);
+        assertTrue(authFuture.await(5, TimeUnit.SECONDS));
+        assertTrue(authFuture.isSuccess());
+        ChannelRegistry.getInstance().putConnectionId(channel.id().asShortText(), CONNECTION_ID);
+    }
+    
+    @After
+    public void tearDown() {
+        channel.close().syncUninterruptibly();
+        group.shutdownGracefully(0, 5, TimeUnit.SECONDS).syncUninterruptibly();
+        FutureRegistry.getInstance().delete(CONNECTION_ID);
+        server.stop();
+    }
+    
+    @Test
+    public void assertGenericResponse() throws InterruptedException, ExecutionException, TimeoutException {
+        MySQLQueryResult actual = execute("UPDATE t SET name = 'foo'", false);
+        assertTrue(actual.isCompleted());
+        assertThat(actual.getCommandResponsePackets().getHeadPacket(), instanceOf(OKPacket.class));
+        assertThat(((OKPacket) actual.getCommandResponsePackets().getHeadPacket()).getAffectedRows(), is(1L));
+    }
+    
+    @Test
+    public void assertResultSet() throws InterruptedException, ExecutionException, TimeoutException, SQLException {
+        MySQLQueryResult actual = execute(MySQLServerFixture.SELECT_ROWS, false);
+        assertThat(actual.getColumnCount(), is(2));
+        assertThat(actual.getColumnLabel(2), is("name"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) ""));
+        assertThat(actual.getValue(2, Object.class), is((Object) "foo"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), nullValue());
+        assertThat(actual.getValue(2, Object.class), is((Object) "bar"));
+        assertFalse(actual.next());
+        assertTrue(actual.isCompleted());
+    }
+    
+    @Test
+    public void assertPassThroughResultSet() throws InterruptedException, ExecutionException, TimeoutException, SQLException {
+        MySQLQueryResult actual = execute(MySQLServerFixture.SELECT_ROWS, true);
+        assertTrue(actual.isPassThrough());
+        assertTrue(actual.next());
+        assertThat(actual.getPassThroughRow().getSequenceId(), is(4));
+        assertThat(actual.getPassThroughRow().getPayload().readByte(), is((byte) 0));
+        actual.getPassThroughRow().getPayload().release();
+        assertTrue(actual.next());
+        actual.getPassThroughRow().getPayload().release();
+        assertFalse(actual.next());
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertRowError() throws InterruptedException, ExecutionException, TimeoutException, SQLException {
+        MySQLQueryResult actual = execute(MySQLServerFixture.SELECT_ERROR, false);
+        assertTrue(actual.isColumnFinished());
+        actual.next();
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertConnectionClosedWhileReadingRows() throws InterruptedException, ExecutionException, TimeoutException, SQLException {
+        MySQLQueryResult actual = execute(MySQLServerFixture.SELECT_CLOSE, false);
+        assertTrue(actual.next());
+        actual.next();
+    }
+    
+    @Test(expected = CancellationException.class)
+    public void assertConnectionClosedBeforeResponse() throws InterruptedException, ExecutionException, TimeoutException {
+        SynchronizedFuture synchronizedFuture = new SynchronizedFuture(1, false);
+        FutureRegistry.getInstance().put(CONNECTION_ID, synchronizedFuture);
+        channel.close().sync();
+        synchronizedFuture.get(5, TimeUnit.SECONDS);
+    }
+    
+    private MySQLQueryResult execute(final String sql, final boolean passThrough) throws InterruptedException, ExecutionException, TimeoutException {
+        SynchronizedFuture synchronizedFuture = new SynchronizedFuture(1, passThrough);
+        FutureRegistry.getInstance().put(CONNECTION_ID, synchronizedFuture);
+        channel.writeAndFlush(new ComQueryPacket(0, sql));
+        List<QueryResult> actual = synchronizedFuture.get(5, TimeUnit.SECONDS);
+        assertThat(actual.size(), is(1));
+        return (MySQLQueryResult) actual.get(0);
+    }
+}
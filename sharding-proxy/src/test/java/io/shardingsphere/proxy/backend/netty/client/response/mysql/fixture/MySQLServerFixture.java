@@ -0,0 +1,144 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.backend.netty.client.response.mysql.fixture;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.shardingsphere.proxy.transport.mysql.codec.MySQLPacketCodec;
+import io.shardingsphere.proxy.transport.mysql.constant.ColumnType;
+import io.shardingsphere.proxy.transport.mysql.constant.ServerErrorCode;
+import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.ColumnDefinition41Packet;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.FieldCountPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.text.TextResultSetRowPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.generic.EofPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.generic.ErrPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.generic.OKPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.handshake.AuthPluginData;
+import io.shardingsphere.proxy.transport.mysql.packet.handshake.HandshakePacket;
+
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+
+/**
+ * MySQL server fixture which answers handshake and a few fixed queries.
+ *
+ * <ul>
+ *     <li>{@code SELECT_ROWS}: result set of two rows, first column of first row is empty string and of second row is null.</li>
+ *     <li>{@code SELECT_ERROR}: result set header followed by an error packet instead of rows.</li>
+ *     <li>{@code SELECT_CLOSE}: result set with one row, then connection is closed without EOF.</li>
+ *     <li>others: OK packet.</li>
+ * </ul>
+ */
+public final class MySQLServerFixture {
+    
+    public static final String SELECT_ROWS = "SELECT_ROWS";
+    
+    public static final String SELECT_ERROR = "SELECT_ERROR";
+    
+    public static final String SELECT_CLOSE = "SELECT_CLOSE";
+    
+    private final EventLoopGroup group = new NioEventLoopGroup(1);
+    
+    private Channel serverChannel;
+    
+    /**
+     * Start server on random port.
+     * 
+     * @return bound port
+     * @throws InterruptedException interrupted exception
+     */
+    public int start() throws InterruptedException {
+        serverChannel = new ServerBootstrap().group(group).channel(NioServerSocketChannel.class).childHandler(new ChannelInitializer<Channel>() {
+            
+            @Override
+            protected void initChannel(final Channel channel) {
+                channel.pipeline().addLast(new MySQLPacketCodec(), new CommandHandler());
+            }
+        }).bind(0).sync().channel();
+        return ((InetSocketAddress) serverChannel.localAddress()).getPort();
+    }
+    
+    /**
+     * Stop server.
+     */
+    public void stop() {
+        if (null != serverChannel) {
+            serverChannel.close().syncUninterruptibly();
+        }
+        group.shutdownGracefully();
+    }
+    
+    private static final class CommandHandler extends ChannelInboundHandlerAdapter {
+        
+        private boolean authenticated;
+        
+        @Override
+        public void channelActive(final ChannelHandlerContext context) {
+            context.writeAndFlush(new HandshakePacket(1, new AuthPluginData()));
+        }
+        
+        @Override
+        public void channelRead(final ChannelHandlerContext context, final Object message) {
+            String sql;
+            try (MySQLPacketPayload payload = new MySQLPacketPayload((ByteBuf) message)) {
+                if (!authenticated) {
+                    authenticated = true;
+                    context.writeAndFlush(new OKPacket(2));
+                    return;
+                }
+                payload.readInt1();
+                payload.readInt1();
+                sql = payload.readStringEOF();
+            }
+            switch (sql) {
+                case SELECT_ROWS:
+                    writeHead(context);
+                    context.write(new TextResultSetRowPacket(4, Arrays.<Object>asList("", "foo")));
+                    context.write(new TextResultSetRowPacket(5, Arrays.<Object>asList(null, "bar")));
+                    context.writeAndFlush(new EofPacket(6));
+                    break;
+                case SELECT_ERROR:
+                    writeHead(context);
+                    context.writeAndFlush(new ErrPacket(4, ServerErrorCode.ER_STD_UNKNOWN_EXCEPTION, "row error"));
+                    break;
+                case SELECT_CLOSE:
+                    writeHead(context);
+                    context.writeAndFlush(new TextResultSetRowPacket(4, Arrays.<Object>asList("", "foo")));
+                    context.close();
+                    break;
+                default:
+                    context.writeAndFlush(new OKPacket(1, 1L, 0L));
+            }
+        }
+        
+        private void writeHead(final ChannelHandlerContext context) {
+            context.write(new FieldCountPacket(1, 2));
+            context.write(new ColumnDefinition41Packet(2, "db", "t", "t", "id", "id", 10, ColumnType.MYSQL_TYPE_VAR_STRING, 0));
+            context.write(new ColumnDefinition41Packet(3, "db", "t", "t", "name", "name", 10, ColumnType.MYSQL_TYPE_VAR_STRING, 0));
+            context.write(new EofPacket(4));
+        }
+    }
+}
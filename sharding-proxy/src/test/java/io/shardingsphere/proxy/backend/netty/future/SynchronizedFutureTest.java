@@ -0,0 +1,104 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.backend.netty.future;
+
+import io.shardingsphere.core.merger.QueryResult;
+import org.junit.Test;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+
+public final class SynchronizedFutureTest {
+    
+    @Test
+    public void assertAddListenerBeforeAllResponsesReceived() throws InterruptedException, ExecutionException {
+        SynchronizedFuture actual = new SynchronizedFuture(2, false);
+        AtomicInteger invokedCount = new AtomicInteger();
+        actual.addListener(createListener(invokedCount));
+        actual.setResponse(mock(QueryResult.class));
+        assertThat(invokedCount.get(), is(0));
+        actual.setResponse(mock(QueryResult.class));
+        assertThat(invokedCount.get(), is(1));
+        assertTrue(actual.isDone());
+        assertThat(actual.get().size(), is(2));
+    }
+    
+    @Test
+    public void assertAddListenerAfterDone() {
+        SynchronizedFuture actual = new SynchronizedFuture(1, false);
+        actual.setResponse(mock(QueryResult.class));
+        AtomicInteger invokedCount = new AtomicInteger();
+        actual.addListener(createListener(invokedCount));
+        assertThat(invokedCount.get(), is(1));
+    }
+    
+    @Test
+    public void assertCancel() throws InterruptedException, ExecutionException {
+        SynchronizedFuture actual = new SynchronizedFuture(2, false);
+        AtomicInteger invokedCount = new AtomicInteger();
+        actual.addListener(createListener(invokedCount));
+        assertTrue(actual.cancel(false));
+        assertFalse(actual.cancel(false));
+        assertThat(invokedCount.get(), is(1));
+        assertTrue(actual.isCancelled());
+        try {
+            actual.get();
+            fail("Expected CancellationException to be thrown");
+        } catch (final CancellationException ignore) {
+        }
+    }
+    
+    @Test
+    public void assertTimeout() throws InterruptedException, TimeoutException {
+        SynchronizedFuture actual = new SynchronizedFuture(2, false);
+        AtomicInteger invokedCount = new AtomicInteger();
+        actual.addListener(createListener(invokedCount));
+        actual.setResponse(mock(QueryResult.class));
+        actual.timeout();
+        actual.setResponse(mock(QueryResult.class));
+        assertThat(invokedCount.get(), is(1));
+        try {
+            actual.get(1, TimeUnit.SECONDS);
+            fail("Expected ExecutionException to be thrown");
+        } catch (final ExecutionException ex) {
+            assertThat(ex.getCause(), instanceOf(TimeoutException.class));
+            assertThat(ex.getCause().getMessage(), is("Backend response timeout, 1 responses are missing."));
+        }
+    }
+    
+    private Runnable createListener(final AtomicInteger invokedCount) {
+        return new Runnable() {
+            
+            @Override
+            public void run() {
+                invokedCount.incrementAndGet();
+            }
+        };
+    }
+}
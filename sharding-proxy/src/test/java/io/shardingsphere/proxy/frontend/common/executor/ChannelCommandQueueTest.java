@@ -0,0 +1,182 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.frontend.common.executor;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ChannelCommandQueueTest {
+    
+    private final CommandExecutorScheduler scheduler = new CommandExecutorScheduler(4, 2);
+    
+    @After
+    public void tearDown() {
+        scheduler.shutdown();
+    }
+    
+    @Test
+    public void assertExecuteInSubmittedOrder() throws InterruptedException {
+        ChannelCommandQueue commandQueue = scheduler.createCommandQueue(new EmbeddedChannel());
+        final List<Integer> actual = Collections.synchronizedList(new ArrayList<Integer>());
+        final CountDownLatch latch = new CountDownLatch(100);
+        for (int i = 0; i < 100; i++) {
+            final int index = i;
+            commandQueue.submit(new Runnable() {
+                
+                @Override
+                public void run() {
+                    actual.add(index);
+                    latch.countDown();
+                }
+            });
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        for (int i = 0; i < 100; i++) {
+            assertThat(actual.get(i), is(i));
+        }
+        assertThat(scheduler.getExecutedCommandCount(), is(100L));
+        assertThat(scheduler.getPendingCommandCount(), is(0));
+    }
+    
+    @Test
+    public void assertStopReadingWhenPendingCommandsReachMax() throws InterruptedException {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        ChannelCommandQueue commandQueue = scheduler.createCommandQueue(channel);
+        final CountDownLatch blockingLatch = new CountDownLatch(1);
+        final CountDownLatch finishedLatch = new CountDownLatch(2);
+        Runnable command = new Runnable() {
+            
+            @Override
+            public void run() {
+                try {
+                    blockingLatch.await();
+                } catch (final InterruptedException ignored) {
+                }
+                finishedLatch.countDown();
+            }
+        };
+        commandQueue.submit(command);
+        assertTrue(channel.config().isAutoRead());
+        commandQueue.submit(command);
+        assertFalse(channel.config().isAutoRead());
+        blockingLatch.countDown();
+        assertTrue(finishedLatch.await(10, TimeUnit.SECONDS));
+        assertTrue(channel.config().isAutoRead());
+    }
+    
+    @Test
+    public void assertContinueAfterCommandFailure() throws InterruptedException {
+        ChannelCommandQueue commandQueue = scheduler.createCommandQueue(new EmbeddedChannel());
+        final CountDownLatch latch = new CountDownLatch(1);
+        commandQueue.submit(new Runnable() {
+            
+            @Override
+            public void run() {
+                throw new IllegalStateException();
+            }
+        });
+        commandQueue.submit(new Runnable() {
+            
+            @Override
+            public void run() {
+                latch.countDown();
+            }
+        });
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    public void assertSuspendAndResume() throws InterruptedException {
+        final ChannelCommandQueue commandQueue = scheduler.createCommandQueue(new EmbeddedChannel());
+        final List<String> actual = Collections.synchronizedList(new ArrayList<String>());
+        final CountDownLatch suspendedLatch = new CountDownLatch(1);
+        final CountDownLatch finishedLatch = new CountDownLatch(1);
+        commandQueue.submit(new Runnable() {
+            
+            @Override
+            public void run() {
+                actual.add("first");
+                commandQueue.suspend(new Runnable() {
+                    
+                    @Override
+                    public void run() {
+                        actual.add("continuation");
+                    }
+                });
+                suspendedLatch.countDown();
+            }
+        });
+        commandQueue.submit(new Runnable() {
+            
+            @Override
+            public void run() {
+                actual.add("second");
+                finishedLatch.countDown();
+            }
+        });
+        assertTrue(suspendedLatch.await(10, TimeUnit.SECONDS));
+        assertFalse(finishedLatch.await(100, TimeUnit.MILLISECONDS));
+        commandQueue.resume();
+        assertTrue(finishedLatch.await(10, TimeUnit.SECONDS));
+        assertThat(actual, is(Arrays.asList("first", "continuation", "second")));
+    }
+    
+    @Test
+    public void assertHasPendingCommands() throws InterruptedException {
+        final ChannelCommandQueue commandQueue = scheduler.createCommandQueue(new EmbeddedChannel());
+        final List<Boolean> actual = Collections.synchronizedList(new ArrayList<Boolean>());
+        final CountDownLatch blockingLatch = new CountDownLatch(1);
+        final CountDownLatch finishedLatch = new CountDownLatch(2);
+        commandQueue.submit(new Runnable() {
+            
+            @Override
+            public void run() {
+                try {
+                    blockingLatch.await();
+                } catch (final InterruptedException ignored) {
+                }
+                actual.add(commandQueue.hasPendingCommands());
+                finishedLatch.countDown();
+            }
+        });
+        commandQueue.submit(new Runnable() {
+            
+            @Override
+            public void run() {
+                actual.add(commandQueue.hasPendingCommands());
+                finishedLatch.countDown();
+            }
+        });
+        blockingLatch.countDown();
+        assertTrue(finishedLatch.await(10, TimeUnit.SECONDS));
+        assertThat(actual, is(Arrays.asList(true, false)));
+    }
+}
@@ -17,19 +17,26 @@
 
 package io.shardingsphere.proxy.transport.mysql.codec;
 
+import com.google.common.base.Strings;
 import com.google.common.collect.Lists;
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
-import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacket;
-import io.shardingsphere.proxy.transport.mysql.packet.command.admin.quit.ComQuitPacket;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.CharsetUtil;
+import io.shardingsphere.proxy.transport.mysql.packet.PassThroughPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.command.CommandPacketType;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.text.query.ComQueryPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.generic.EofPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.generic.OKPacket;
 import org.junit.Before;
 import org.junit.Test;
-import org.mockito.ArgumentMatchers;
 
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
@@ -62,12 +69,66 @@ public class MySQLPacketCodecTest {
 
     @Test
     public void assertMySQLPacketDoEncode() {
-        final MySQLPacket message = new ComQuitPacket(10);
-        when(channelHandlerContext.alloc()).thenReturn(mock(ByteBufAllocator.class));
-        when(channelHandlerContext.alloc().buffer()).thenReturn(byteBuf);
-        when(byteBuf.writeMediumLE(anyInt())).thenReturn(byteBuf);
-        when(byteBuf.writeByte(anyInt())).thenReturn(byteBuf);
-        when(byteBuf.writeBytes(ArgumentMatchers.<ByteBuf>any())).thenReturn(byteBuf);
-        mySQLPacketCodec.doEncode(channelHandlerContext, message, byteBuf);
+        ByteBuf out = Unpooled.buffer();
+        mySQLPacketCodec.doEncode(channelHandlerContext, new ComQueryPacket(10, "SELECT 1"), out);
+        assertThat(out.readMediumLE(), is(9));
+        assertThat(out.readUnsignedByte(), is((short) 10));
+        assertThat(out.readUnsignedByte(), is((short) CommandPacketType.COM_QUERY.getValue()));
+        assertThat(out.readCharSequence(out.readableBytes(), CharsetUtil.UTF_8).toString(), is("SELECT 1"));
+        out.release();
+    }
+    
+    @Test
+    public void assertMySQLPacketDoEncodeWithSplitPayload() {
+        ByteBuf out = Unpooled.buffer();
+        String sql = Strings.repeat("a", 0xffffff - 1);
+        mySQLPacketCodec.doEncode(channelHandlerContext, new ComQueryPacket(3, sql), out);
+        assertThat(out.readUnsignedMediumLE(), is(0xffffff));
+        assertThat(out.readUnsignedByte(), is((short) 3));
+        out.skipBytes(0xffffff);
+        assertThat(out.readMediumLE(), is(0));
+        assertThat(out.readUnsignedByte(), is((short) 4));
+        assertFalse(out.isReadable());
+        out.release();
+    }
+    
+    @Test
+    public void assertWriteRowsInBatch() {
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLPacketCodec());
+        ByteBuf payload = Unpooled.wrappedBuffer(new byte[] {1});
+        channel.write(new OKPacket(1), channel.voidPromise());
+        channel.write(new PassThroughPacket(2, payload), channel.voidPromise());
+        channel.write(new EofPacket(3), channel.voidPromise());
+        assertNull(channel.readOutbound());
+        channel.flush();
+        ByteBuf actual = channel.readOutbound();
+        assertNull(channel.readOutbound());
+        assertThat(actual.readMediumLE(), is(7));
+        assertThat(actual.readUnsignedByte(), is((short) 1));
+        actual.skipBytes(7);
+        assertThat(actual.readMediumLE(), is(1));
+        assertThat(actual.readUnsignedByte(), is((short) 2));
+        assertThat(actual.readByte(), is((byte) 1));
+        assertThat(actual.readMediumLE(), is(5));
+        assertThat(actual.readUnsignedByte(), is((short) 3));
+        actual.skipBytes(5);
+        assertFalse(actual.isReadable());
+        actual.release();
+        assertThat(payload.refCnt(), is(0));
+    }
+    
+    @Test
+    public void assertWritePassThroughPacket() {
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLPacketCodec());
+        ByteBuf payload = Unpooled.wrappedBuffer(new byte[] {1, 2, 3});
+        channel.writeOutbound(new PassThroughPacket(5, payload));
+        ByteBuf actual = channel.readOutbound();
+        assertThat(actual.readMediumLE(), is(3));
+        assertThat(actual.readUnsignedByte(), is((short) 5));
+        assertThat(actual.readByte(), is((byte) 1));
+        assertThat(actual.readByte(), is((byte) 2));
+        assertThat(actual.readByte(), is((byte) 3));
+        actual.release();
+        assertThat(payload.refCnt(), is(0));
     }
 }
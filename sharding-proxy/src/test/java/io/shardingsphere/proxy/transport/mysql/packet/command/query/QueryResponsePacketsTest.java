@@ -0,0 +1,73 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.transport.mysql.packet.command.query;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.shardingsphere.proxy.transport.common.packet.DatabasePacket;
+import io.shardingsphere.proxy.transport.mysql.codec.MySQLPacketCodec;
+import io.shardingsphere.proxy.transport.mysql.constant.ColumnType;
+import io.shardingsphere.proxy.transport.mysql.packet.generic.EofPacket;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class QueryResponsePacketsTest {
+    
+    @Test
+    public void assertEncode() {
+        Collection<ColumnDefinition41Packet> columnDefinition41Packets = Arrays.asList(
+                new ColumnDefinition41Packet(2, "db", "t_order", "t_order", "order_id", "order_id", 20, ColumnType.MYSQL_TYPE_LONGLONG, 0),
+                new ColumnDefinition41Packet(3, "db", "t_order", "t_order", "status", "status", 50, ColumnType.MYSQL_TYPE_VAR_STRING, 0));
+        QueryResponsePackets queryResponsePackets = new QueryResponsePackets(new FieldCountPacket(1, 2), columnDefinition41Packets, new EofPacket(4));
+        assertFalse(queryResponsePackets.getEncodedPackets().isPresent());
+        QueryResponsePackets actual = queryResponsePackets.encode();
+        assertThat(actual.getColumnCount(), is(2));
+        assertThat(actual.getColumnTypes(), is(Arrays.asList(ColumnType.MYSQL_TYPE_LONGLONG, ColumnType.MYSQL_TYPE_VAR_STRING)));
+        assertThat(actual.getPackets().size(), is(4));
+        assertTrue(actual.getEncodedPackets().isPresent());
+        ByteBuf expected = encodeByCodec(queryResponsePackets);
+        assertThat(actual.getEncodedPackets().get(), is(expected));
+        ByteBuf written = actual.getEncodedPackets().get();
+        written.skipBytes(written.readableBytes());
+        written.release();
+        assertThat(actual.getEncodedPackets().get(), is(expected));
+        expected.release();
+    }
+    
+    private ByteBuf encodeByCodec(final QueryResponsePackets queryResponsePackets) {
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLPacketCodec());
+        for (DatabasePacket each : queryResponsePackets.getPackets()) {
+            channel.writeOutbound(each);
+        }
+        ByteBuf result = Unpooled.buffer();
+        ByteBuf each;
+        while (null != (each = channel.readOutbound())) {
+            result.writeBytes(each);
+            each.release();
+        }
+        return result;
+    }
+}
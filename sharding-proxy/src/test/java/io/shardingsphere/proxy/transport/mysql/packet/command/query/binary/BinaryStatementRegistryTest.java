@@ -0,0 +1,64 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.transport.mysql.packet.command.query.binary;
+
+import io.netty.buffer.Unpooled;
+import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.close.ComStmtClosePacket;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class BinaryStatementRegistryTest {
+    
+    private static final String SQL = "SELECT * FROM t_order WHERE order_id = ?";
+    
+    @Test
+    public void assertRegisterSameSQL() {
+        BinaryStatementRegistry binaryStatementRegistry = new BinaryStatementRegistry();
+        int firstStatementId = binaryStatementRegistry.register(SQL, 1);
+        int secondStatementId = binaryStatementRegistry.register(SQL, 1);
+        assertThat(firstStatementId, not(secondStatementId));
+        assertThat(binaryStatementRegistry.getBinaryStatement(firstStatementId).getSql(), is(SQL));
+        assertThat(binaryStatementRegistry.getBinaryStatement(secondStatementId).getParametersCount(), is(1));
+        assertThat(binaryStatementRegistry.size(), is(2));
+    }
+    
+    @Test
+    public void assertStatementIdIsScopedByRegistry() {
+        BinaryStatementRegistry binaryStatementRegistry = new BinaryStatementRegistry();
+        int statementId = binaryStatementRegistry.register(SQL, 1);
+        assertThat(new BinaryStatementRegistry().getBinaryStatement(statementId), nullValue());
+    }
+    
+    @Test
+    public void assertComStmtCloseRemovesStatement() {
+        BinaryStatementRegistry binaryStatementRegistry = new BinaryStatementRegistry();
+        int statementId = binaryStatementRegistry.register(SQL, 1);
+        MySQLPacketPayload payload = new MySQLPacketPayload(Unpooled.buffer());
+        payload.writeInt4(statementId);
+        assertFalse(new ComStmtClosePacket(1, payload, binaryStatementRegistry).execute().isPresent());
+        assertThat(binaryStatementRegistry.getBinaryStatement(statementId), nullValue());
+        assertThat(binaryStatementRegistry.size(), is(0));
+        payload.close();
+    }
+}
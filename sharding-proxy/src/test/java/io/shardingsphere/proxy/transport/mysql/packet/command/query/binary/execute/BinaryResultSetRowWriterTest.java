@@ -0,0 +1,92 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.execute;
+
+import io.netty.buffer.ByteBuf;
+import io.shardingsphere.core.merger.MergedResult;
+import io.shardingsphere.proxy.transport.mysql.constant.ColumnType;
+import io.shardingsphere.proxy.transport.mysql.packet.PassThroughPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.ColumnDefinition41Packet;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class BinaryResultSetRowWriterTest {
+    
+    @Test
+    public void assertWrite() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.getValue(1, long.class)).thenReturn(10L);
+        when(mergedResult.getValue(2, String.class)).thenReturn(null);
+        when(mergedResult.getValue(3, long.class)).thenReturn(0L);
+        when(mergedResult.getValue(4, double.class)).thenReturn(1.5D);
+        when(mergedResult.getValue(5, byte[].class)).thenReturn(new byte[] {1, 2});
+        when(mergedResult.wasNull()).thenReturn(false, true, false, false);
+        BinaryResultSetRowWriter writer = new BinaryResultSetRowWriter(Arrays.asList(createColumnDefinition41Packet(ColumnType.MYSQL_TYPE_LONGLONG, 0), 
+                createColumnDefinition41Packet(ColumnType.MYSQL_TYPE_VARCHAR, 0), createColumnDefinition41Packet(ColumnType.MYSQL_TYPE_LONG, 0), 
+                createColumnDefinition41Packet(ColumnType.MYSQL_TYPE_DOUBLE, 0), createColumnDefinition41Packet(ColumnType.MYSQL_TYPE_BLOB, 0)));
+        PassThroughPacket actual = writer.write(3, mergedResult);
+        assertThat(actual.getSequenceId(), is(3));
+        ByteBuf payload = actual.getPayload();
+        assertThat(payload.readUnsignedByte(), is((short) 0x00));
+        assertThat(payload.readUnsignedByte(), is((short) 0x18));
+        assertThat(payload.readLongLE(), is(10L));
+        assertThat(payload.readDoubleLE(), is(1.5D));
+        assertThat(payload.readUnsignedByte(), is((short) 2));
+        assertThat(payload.readByte(), is((byte) 1));
+        assertThat(payload.readByte(), is((byte) 2));
+        assertFalse(payload.isReadable());
+        payload.release();
+    }
+    
+    @Test
+    public void assertWriteUnsignedBigInt() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.getValue(1, Object.class)).thenReturn(new BigInteger("18446744073709551615"));
+        when(mergedResult.getValue(2, Object.class)).thenReturn("9223372036854775808");
+        BinaryResultSetRowWriter writer = new BinaryResultSetRowWriter(Arrays.asList(
+                createColumnDefinition41Packet(ColumnType.MYSQL_TYPE_LONGLONG, 0x0020), createColumnDefinition41Packet(ColumnType.MYSQL_TYPE_LONGLONG, 0x0020)));
+        ByteBuf payload = writer.write(2, mergedResult).getPayload();
+        assertThat(payload.readUnsignedByte(), is((short) 0x00));
+        assertThat(payload.readUnsignedByte(), is((short) 0x00));
+        assertThat(payload.readLongLE(), is(-1L));
+        assertThat(payload.readLongLE(), is(Long.MIN_VALUE));
+        assertFalse(payload.isReadable());
+        payload.release();
+    }
+    
+    @Test
+    public void assertNullBitmapWithMultipleNullColumns() {
+        NullBitmap nullBitmap = new NullBitmap(3, 0);
+        nullBitmap.setNullBit(0);
+        nullBitmap.setNullBit(2);
+        assertThat(nullBitmap.getNullBitmap()[0], is(0x05));
+    }
+    
+    private ColumnDefinition41Packet createColumnDefinition41Packet(final ColumnType columnType, final int flags) {
+        return new ColumnDefinition41Packet(0, "db", "t_order", "t_order", "column", "column", 20, columnType, 0, flags);
+    }
+}
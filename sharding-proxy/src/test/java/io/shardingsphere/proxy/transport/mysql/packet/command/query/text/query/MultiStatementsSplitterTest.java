@@ -0,0 +1,55 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.transport.mysql.packet.command.query.text.query;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class MultiStatementsSplitterTest {
+    
+    @Test
+    public void assertSplitSingleStatement() {
+        assertThat(MultiStatementsSplitter.split("SELECT 1"), is(Collections.singletonList("SELECT 1")));
+    }
+    
+    @Test
+    public void assertSplitSingleStatementWithTrailingSemicolon() {
+        assertThat(MultiStatementsSplitter.split("SELECT 1; "), is(Collections.singletonList("SELECT 1")));
+    }
+    
+    @Test
+    public void assertSplitMultiStatements() {
+        assertThat(MultiStatementsSplitter.split("INSERT INTO t_order VALUES (1, 'a;b');INSERT INTO t_order VALUES (2, `c;d`) ; SELECT ';'"),
+                is(Arrays.asList("INSERT INTO t_order VALUES (1, 'a;b')", "INSERT INTO t_order VALUES (2, `c;d`)", "SELECT ';'")));
+    }
+    
+    @Test
+    public void assertSplitWithComment() {
+        assertThat(MultiStatementsSplitter.split("SELECT 1 /* a;b */; SELECT 2"), is(Arrays.asList("SELECT 1 /* a;b */", "SELECT 2")));
+    }
+    
+    @Test
+    public void assertSplitUnterminatedStatement() {
+        assertThat(MultiStatementsSplitter.split("SELECT 'a;b"), is(Collections.singletonList("SELECT 'a;b")));
+    }
+}
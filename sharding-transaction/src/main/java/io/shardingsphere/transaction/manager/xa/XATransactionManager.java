@@ -20,10 +20,29 @@ package io.shardingsphere.transaction.manager.xa;
 import io.shardingsphere.transaction.event.xa.XATransactionEvent;
 import io.shardingsphere.transaction.manager.ShardingTransactionManager;
 
+import javax.transaction.Transaction;
+import java.sql.SQLException;
+
 /**
  * XA transaction manager.
  *
  * @author zhangliang
  */
 public interface XATransactionManager extends ShardingTransactionManager<XATransactionEvent> {
+    
+    /**
+     * Suspend transaction associated with current thread.
+     *
+     * @return suspended transaction, null if no transaction associated with current thread
+     * @throws SQLException SQL exception
+     */
+    Transaction suspend() throws SQLException;
+    
+    /**
+     * Resume suspended transaction to current thread.
+     *
+     * @param transaction transaction to be resumed
+     * @throws SQLException SQL exception
+     */
+    void resume(Transaction transaction) throws SQLException;
 }
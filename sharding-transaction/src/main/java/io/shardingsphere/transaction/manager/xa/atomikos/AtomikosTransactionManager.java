@@ -24,9 +24,11 @@ import io.shardingsphere.transaction.manager.xa.XATransactionManager;
 
 import javax.transaction.HeuristicMixedException;
 import javax.transaction.HeuristicRollbackException;
+import javax.transaction.InvalidTransactionException;
 import javax.transaction.NotSupportedException;
 import javax.transaction.RollbackException;
 import javax.transaction.SystemException;
+import javax.transaction.Transaction;
 import java.sql.SQLException;
 
 /**
@@ -81,4 +83,22 @@ public final class AtomikosTransactionManager implements XATransactionManager {
             throw new SQLException(ex);
         }
     }
+    
+    @Override
+    public Transaction suspend() throws SQLException {
+        try {
+            return USER_TRANSACTION_MANAGER.suspend();
+        } catch (final SystemException ex) {
+            throw new SQLException(ex);
+        }
+    }
+    
+    @Override
+    public void resume(final Transaction transaction) throws SQLException {
+        try {
+            USER_TRANSACTION_MANAGER.resume(transaction);
+        } catch (final InvalidTransactionException | SystemException ex) {
+            throw new SQLException(ex);
+        }
+    }
 }